@@ -17,8 +17,9 @@ import { StudentApplicationComment } from './StudentApplicationComment'
 import { useEffect, useMemo, useState } from 'react'
 import { IconSend } from '@tabler/icons-react'
 import { type Patch } from '../network/configService'
-import { useMutation, useQueryClient } from '@tanstack/react-query'
+import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query'
 import {
+  getInstructorComments,
   patchApplicationAssessment,
   patchStudentAssessment,
   postApplicationAcceptance,
@@ -89,7 +90,6 @@ export const ApplicationAssessmentForm = ({
   ] = useState(false)
   const assessmentForm = useForm<ApplicationAssessment>({
     initialValues: {
-      instructorComments: assessment?.instructorComments ?? [],
       assessmentScore: assessment?.assessmentScore ?? 0,
       technicalChallengeProgrammingScore: assessment?.technicalChallengeProgrammingScore ?? 0,
       technicalChallengeQuizScore: assessment?.technicalChallengeQuizScore ?? 0,
@@ -138,11 +138,18 @@ export const ApplicationAssessmentForm = ({
     },
   })
 
+  const { data: instructorComments } = useQuery({
+    queryKey: [Query.INSTRUCTOR_COMMENT, applicationType, applicationId],
+    queryFn: () => getInstructorComments(applicationType, applicationId),
+  })
+
   const createInstructorComment = useMutation({
     mutationFn: (instructorComment: { author: string; text: string }) =>
       postInstructorComment(applicationType, applicationId, instructorComment),
     onSuccess: () => {
-      queryClient.invalidateQueries({ queryKey: queryKey })
+      queryClient.invalidateQueries({
+        queryKey: [Query.INSTRUCTOR_COMMENT, applicationType, applicationId],
+      })
     },
   })
 
@@ -169,7 +176,6 @@ export const ApplicationAssessmentForm = ({
 
   useEffect(() => {
     assessmentForm.setValues({
-      instructorComments: assessment?.instructorComments ?? [],
       assessmentScore: assessment?.assessmentScore ?? 0,
       status: assessment?.status ?? 'NOT_ASSESSED',
     })
@@ -408,7 +414,7 @@ export const ApplicationAssessmentForm = ({
           <Text fz='sm' fw={500}>
             Additional Notes
           </Text>
-          {assessmentForm.values.instructorComments.map((cmt, idx) => (
+          {(instructorComments ?? []).map((cmt, idx) => (
             <div key={`${cmt.id ?? idx} ${cmt.timestamp ?? ''}`}>
               <StudentApplicationComment instructorComment={cmt} />
             </div>
@@ -426,17 +432,7 @@ export const ApplicationAssessmentForm = ({
           <Button
             leftSection={<IconSend />}
             onClick={() => {
-              if (comment && comment.length !== 0 && assessmentForm.values) {
-                assessmentForm.setValues({
-                  ...assessmentForm.values,
-                  instructorComments: [
-                    ...assessmentForm.values.instructorComments,
-                    {
-                      author: user ? `${user.firstName} ${user.lastName}` : '',
-                      text: comment,
-                    },
-                  ],
-                })
+              if (comment && comment.length !== 0) {
                 setComment('')
                 createInstructorComment.mutate({
                   author: user ? `${user.firstName} ${user.lastName}` : '',
@@ -91,7 +91,6 @@ export enum ApplicationStatus {
 }
 
 export interface ApplicationAssessment {
-  instructorComments: InstructorComment[]
   assessmentScore: number
   technicalChallengeProgrammingScore: number
   technicalChallengeQuizScore: number
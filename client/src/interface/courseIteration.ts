@@ -57,3 +57,20 @@ export interface CourseIterationPhase {
   startDate: Date | null
   endDate: Date | null
 }
+
+export enum CourseIterationChangeEntity {
+  DEVELOPER_APPLICATION = 'DEVELOPER_APPLICATION',
+  COACH_APPLICATION = 'COACH_APPLICATION',
+  TUTOR_APPLICATION = 'TUTOR_APPLICATION',
+  INTRO_COURSE_PARTICIPATION = 'INTRO_COURSE_PARTICIPATION',
+  KICKOFF_SUBMISSION = 'KICKOFF_SUBMISSION',
+}
+
+export interface CourseIterationChange {
+  entityType: CourseIterationChangeEntity
+  // Missing if an unspecified number of entities of the type changed
+  entityId?: string
+  status?: string
+  version?: string
+  deleted: boolean
+}
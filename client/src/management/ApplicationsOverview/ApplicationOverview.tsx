@@ -1,5 +1,5 @@
 import { Group, TextInput, Stack, Button, Menu, Tooltip, Tabs, Flex } from '@mantine/core'
-import { IconPlus, IconSearch, IconUpload } from '@tabler/icons-react'
+import { IconDownload, IconPlus, IconSearch, IconUpload } from '@tabler/icons-react'
 import { useState, useMemo, useEffect } from 'react'
 import { TechnicalChallengeAssessmentModal } from './components/TechnicalChallengeAssessmentModal'
 import { ApplicationDatatable } from './components/ApplicationDatatable'
@@ -8,7 +8,7 @@ import { useApplicationStore } from '../../state/zustand/useApplicationStore'
 import { useQuery } from '@tanstack/react-query'
 import { Application, ApplicationType, Gender } from '../../interface/application'
 import { Query } from '../../state/query'
-import { getApplications } from '../../network/application'
+import { exportDeveloperApplications, getApplications } from '../../network/application'
 import { useCourseIterationStore } from '../../state/zustand/useCourseIterationStore'
 import { FilterChips } from './components/FilterChips'
 import { FilterMenu } from './components/FilterMenu'
@@ -239,6 +239,37 @@ export const StudentApplicationOverview = (): JSX.Element => {
                 </Tooltip>
               </Menu.Dropdown>
             </Menu>
+            <Menu withArrow>
+              <Menu.Target>
+                <Button
+                  leftSection={<IconDownload size={18} />}
+                  variant='default'
+                  disabled={
+                    !selectedCourseIteration || filters.applicationType !== ApplicationType.DEVELOPER
+                  }
+                >
+                  Export
+                </Button>
+              </Menu.Target>
+
+              <Menu.Dropdown>
+                {(['CSV', 'XLSX'] as const).map((format) => (
+                  <Menu.Item
+                    key={format}
+                    onClick={() => {
+                      if (selectedCourseIteration) {
+                        void exportDeveloperApplications(
+                          selectedCourseIteration.semesterName,
+                          format,
+                        )
+                      }
+                    }}
+                  >
+                    {format}
+                  </Menu.Item>
+                ))}
+              </Menu.Dropdown>
+            </Menu>
             <Button leftSection={<IconPlus size={18} />} variant='light'>
               Add Student
             </Button>
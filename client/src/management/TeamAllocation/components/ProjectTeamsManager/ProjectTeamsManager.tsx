@@ -123,12 +123,14 @@ const ProjectTeamCreationModal = ({
               if (projectTeam) {
                 const projectTeamPatchObjectArray: Patch[] = []
                 Object.keys(form.values).forEach((key) => {
-                  const projectTeamPatchObject = new Map()
-                  projectTeamPatchObject.set('op', 'replace')
-                  projectTeamPatchObject.set('path', '/' + key)
-                  projectTeamPatchObject.set('value', form.getInputProps(key).value)
-                  const obj = Object.fromEntries(projectTeamPatchObject)
-                  projectTeamPatchObjectArray.push(obj)
+                  if (form.isDirty(key)) {
+                    const projectTeamPatchObject = new Map()
+                    projectTeamPatchObject.set('op', 'replace')
+                    projectTeamPatchObject.set('path', '/' + key)
+                    projectTeamPatchObject.set('value', form.getInputProps(key).value)
+                    const obj = Object.fromEntries(projectTeamPatchObject)
+                    projectTeamPatchObjectArray.push(obj)
+                  }
                 })
 
                 updateProjectTeam.mutate(projectTeamPatchObjectArray)
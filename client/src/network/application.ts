@@ -231,11 +231,40 @@ export const patchStudentAssessment = async (
   }
 }
 
+export const getInstructorComments = async (
+  applicationType: ApplicationType,
+  applicationId: string,
+): Promise<InstructorComment[]> => {
+  const pageSize = 200
+  const instructorComments: InstructorComment[] = []
+  try {
+    for (let page = 0; ; page++) {
+      const comments: InstructorComment[] = (
+        await axiosInstance.get(
+          `/api/applications/${applicationType}/${applicationId}/instructor-comments?page=${page}&pageSize=${pageSize}`,
+        )
+      ).data
+      instructorComments.push(...comments)
+      if (comments.length < pageSize) {
+        return instructorComments
+      }
+    }
+  } catch (err) {
+    notifications.show({
+      color: 'red',
+      autoClose: 10000,
+      title: 'Error',
+      message: `Could not fetch instructor comments.`,
+    })
+    return []
+  }
+}
+
 export const postInstructorComment = async (
   applicationType: ApplicationType,
   applicationId: string,
   instructorComment: InstructorComment,
-): Promise<Application | undefined> => {
+): Promise<InstructorComment | undefined> => {
   try {
     return (
       await axiosInstance.post(
@@ -406,3 +435,29 @@ export const postTechnicalScores = async (
     return []
   }
 }
+
+export const exportDeveloperApplications = async (
+  courseIteration: string,
+  format: 'CSV' | 'XLSX',
+  columns?: string[],
+): Promise<void> => {
+  try {
+    const response = await axiosInstance.get(`/api/applications/developer/export`, {
+      params: { courseIteration, format, columns: columns?.join(',') },
+      responseType: 'blob',
+    })
+    const url = URL.createObjectURL(response.data)
+    const link = document.createElement('a')
+    link.href = url
+    link.download = `developer-applications-${courseIteration}.${format.toLowerCase()}`
+    link.click()
+    URL.revokeObjectURL(url)
+  } catch (err) {
+    notifications.show({
+      color: 'red',
+      autoClose: 10000,
+      title: 'Error',
+      message: `Could not export developer applications.`,
+    })
+  }
+}
@@ -10,6 +10,14 @@ export interface Patch {
   value: string
 }
 
+// Reads shortly after a write or a change event are served by the primary database, a read replica may lag behind
+const readAfterWriteWindowMs = 10000
+let lastWriteAt = 0
+
+export const markReadAfterWrite = (): void => {
+  lastWriteAt = Date.now()
+}
+
 const authenticatedAxiosInstance = axios.create({
   baseURL: serverBaseUrl,
 })
@@ -18,9 +26,24 @@ authenticatedAxiosInstance.interceptors.request.use((config) => {
   if (!!localStorage.getItem('jwt_token') && localStorage.getItem('jwt_token') !== '') {
     config.headers['Authorization'] = `Bearer ${localStorage.getItem('jwt_token') ?? ''}`
   }
+  if (config.method !== undefined && config.method.toLowerCase() !== 'get') {
+    markReadAfterWrite()
+  } else if (Date.now() - lastWriteAt < readAfterWriteWindowMs) {
+    config.headers['X-Read-After-Write'] = 'true'
+  }
   return config
 })
 
+authenticatedAxiosInstance.interceptors.response.use(
+  (response) => {
+    if (response.config.method !== undefined && response.config.method.toLowerCase() !== 'get') {
+      markReadAfterWrite()
+    }
+    return response
+  },
+  (error) => Promise.reject(error),
+)
+
 const notAuthenticatedAxiosInstance = axios.create({
   baseURL: serverBaseUrl,
 })
@@ -1,6 +1,16 @@
 import { notifications } from '@mantine/notifications'
-import { Patch, axiosInstance, notAuthenticatedAxiosInstance } from './configService'
-import { CourseIteration, CourseIterationRequest } from '../interface/courseIteration'
+import {
+  Patch,
+  axiosInstance,
+  markReadAfterWrite,
+  notAuthenticatedAxiosInstance,
+  serverBaseUrl,
+} from './configService'
+import {
+  CourseIteration,
+  CourseIterationChange,
+  CourseIterationRequest,
+} from '../interface/courseIteration'
 import { ApplicationType } from '../interface/application'
 
 export const getCourseIterations = async (): Promise<CourseIteration[]> => {
@@ -119,3 +129,47 @@ export const toggleCourseIterationPhaseCheckEntry = async (
     return undefined
   }
 }
+
+// EventSource cannot send the bearer token, so the event stream is read through fetch
+export const subscribeToCourseIterationChanges = async (
+  courseIterationId: string,
+  onChange: (change: CourseIterationChange) => void,
+  signal: AbortSignal,
+): Promise<void> => {
+  const response = await fetch(
+    `${serverBaseUrl}/api/course-iterations/${courseIterationId}/events`,
+    {
+      headers: {
+        Accept: 'text/event-stream',
+        Authorization: `Bearer ${localStorage.getItem('jwt_token') ?? ''}`,
+      },
+      signal,
+    },
+  )
+  if (!response.ok || !response.body) {
+    throw new Error(`Could not subscribe to course iteration changes: ${response.status}`)
+  }
+
+  const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+  let buffer = ''
+  for (;;) {
+    const { value, done } = await reader.read()
+    if (done) {
+      return
+    }
+    buffer += value
+    const events = buffer.split(/\r?\n\r?\n/)
+    buffer = events.pop() ?? ''
+    events.forEach((event) => {
+      const data = event
+        .split(/\r?\n/)
+        .filter((line) => line.startsWith('data:'))
+        .map((line) => line.slice(5).trim())
+        .join('\n')
+      if (data) {
+        markReadAfterWrite()
+        onChange(JSON.parse(data))
+      }
+    })
+  }
+}
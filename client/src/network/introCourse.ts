@@ -416,7 +416,7 @@ export const postInvitationsToTechnicalDetailsSubmission = async (
       color: 'green',
       autoClose: 5000,
       title: 'Success',
-      message: `Email invitations are successfully sent!`,
+      message: `Email invitations are queued and will be sent shortly!`,
     })
   } catch (err) {
     notifications.show({
@@ -5,6 +5,7 @@ export enum Query {
   DEVELOPER_APPLICATION = 'developerApplication',
   COACH_APPLICATION = 'coachApplication',
   TUTOR_APPLICATION = 'tutorApplication',
+  INSTRUCTOR_COMMENT = 'instructorComment',
   COURSE_ITERATION = 'courseIteration',
   COURSE_PHASE = 'coursePhase',
   PROJECT_TEAM = 'projectTeam',
@@ -29,6 +29,7 @@ import { useEffect, useState } from 'react'
 import * as styles from './NavigationLayout.module.scss'
 import classNames from 'classnames'
 import useDeviceDetection from '../hooks/useDeviceDetection'
+import useCourseIterationChanges from '../hooks/useCourseIterationChanges'
 import { useCourseIterationStore } from '../../state/zustand/useCourseIterationStore'
 import { useAuthenticationStore } from '../../state/zustand/useAuthenticationStore'
 import { Permission } from '../../interface/authentication'
@@ -97,6 +98,10 @@ export const NavigationLayout = ({ keycloak, children }: NavigationLayoutProps):
   const location = useLocation()
   const [active, setActive] = useState(location.pathname)
   const isMobileDevice = useDeviceDetection() === 'mobile'
+  useCourseIterationChanges(
+    selectedCourseIteration,
+    [Permission.PM, Permission.COACH].some((p) => keycloak.hasResourceRole(p, 'prompt-server')),
+  )
 
   useEffect(() => {
     setActive(location.pathname)
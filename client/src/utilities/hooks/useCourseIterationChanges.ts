@@ -0,0 +1,71 @@
+import { useEffect } from 'react'
+import { useQueryClient } from '@tanstack/react-query'
+import { subscribeToCourseIterationChanges } from '../../network/courseIteration'
+import { CourseIteration, CourseIterationChangeEntity } from '../../interface/courseIteration'
+import { Query } from '../../state/query'
+
+const RECONNECT_DELAY = 5000
+// Bulk operations emit one change per row, they are coalesced into a single refetch per query
+const INVALIDATION_DELAY = 500
+
+const changedQueries: Record<CourseIterationChangeEntity, Query> = {
+  [CourseIterationChangeEntity.DEVELOPER_APPLICATION]: Query.DEVELOPER_APPLICATION,
+  [CourseIterationChangeEntity.COACH_APPLICATION]: Query.COACH_APPLICATION,
+  [CourseIterationChangeEntity.TUTOR_APPLICATION]: Query.TUTOR_APPLICATION,
+  [CourseIterationChangeEntity.INTRO_COURSE_PARTICIPATION]: Query.INTRO_COURSE_PARTICIPATIONS,
+  [CourseIterationChangeEntity.KICKOFF_SUBMISSION]: Query.POST_KICK_OFF,
+}
+
+const useCourseIterationChanges = (
+  courseIteration: CourseIteration | undefined,
+  enabled: boolean,
+): void => {
+  const queryClient = useQueryClient()
+
+  useEffect(() => {
+    if (!courseIteration || !enabled) {
+      return
+    }
+
+    const abortController = new AbortController()
+    const changedQueryKeys = new Set<Query>()
+    let reconnectTimeout: ReturnType<typeof setTimeout> | undefined
+    let invalidationTimeout: ReturnType<typeof setTimeout> | undefined
+
+    const invalidateChangedQueries = (): void => {
+      changedQueryKeys.forEach((query) => {
+        void queryClient.invalidateQueries({ queryKey: [query, courseIteration.semesterName] })
+      })
+      changedQueryKeys.clear()
+      invalidationTimeout = undefined
+    }
+
+    const subscribe = (): void => {
+      subscribeToCourseIterationChanges(
+        courseIteration.id,
+        (change) => {
+          changedQueryKeys.add(changedQueries[change.entityType])
+          if (!invalidationTimeout) {
+            invalidationTimeout = setTimeout(invalidateChangedQueries, INVALIDATION_DELAY)
+          }
+        },
+        abortController.signal,
+      )
+        .catch(() => undefined)
+        .finally(() => {
+          if (!abortController.signal.aborted) {
+            reconnectTimeout = setTimeout(subscribe, RECONNECT_DELAY)
+          }
+        })
+    }
+    subscribe()
+
+    return () => {
+      abortController.abort()
+      clearTimeout(reconnectTimeout)
+      clearTimeout(invalidationTimeout)
+    }
+  }, [courseIteration, enabled, queryClient])
+}
+
+export default useCourseIterationChanges
@@ -7,6 +7,7 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import prompt.ls1.model.CoursePhase;
 import prompt.ls1.model.enums.CoursePhaseType;
 import prompt.ls1.service.CoursePhaseService;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.UUID;
 
 @SpringBootApplication
+@EnableScheduling
 public class PromptApplication implements ApplicationRunner {
 
 	private static final Logger logger = LoggerFactory.getLogger(PromptApplication.class);
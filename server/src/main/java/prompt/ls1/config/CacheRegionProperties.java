@@ -0,0 +1,23 @@
+package prompt.ls1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "prompt.cache")
+public class CacheRegionProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        private long maximumSize;
+        private Duration timeToLive;
+    }
+}
@@ -0,0 +1,258 @@
+package prompt.ls1.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import prompt.ls1.repository.IdempotencyKeyRepository;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Stores the responses to requests carrying an Idempotency-Key in the database, so that a retry is answered with
+ * the original response on every server instance. A key is bound to the body of its first request; reusing it for
+ * a different body is rejected. Failed or non-successful responses are dropped right away so the client can retry.
+ * Multipart bodies are bound by their resolved parts, as the boundary differs between retries, and are left to the
+ * servlet container instead of being buffered.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of(
+            "/applications/developer",
+            "/applications/tutor",
+            "/applications/coach",
+            "/thesis-applications");
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Duration IN_FLIGHT_WAIT = Duration.ofSeconds(30);
+    private static final Duration IN_FLIGHT_POLL_INTERVAL = Duration.ofMillis(250);
+    // Claims of requests that neither completed nor failed within this time were abandoned by a stopped instance
+    private static final Duration ABANDONED_AFTER = Duration.ofMinutes(5);
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration ttl;
+
+    @Autowired
+    public IdempotencyFilter(final IdempotencyKeyRepository idempotencyKeyRepository,
+                             @Value("${prompt.idempotency.ttl}") final Duration ttl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        final String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return !HttpMethod.POST.matches(request.getMethod())
+                || idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH
+                || !IDEMPOTENT_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final String key = String.format("%s:%s", request.getRequestURI(), request.getHeader(IDEMPOTENCY_KEY_HEADER));
+        final HttpServletRequest filteredRequest;
+        final String requestHash;
+        if (isMultipart(request)) {
+            filteredRequest = request;
+            requestHash = hashParts(request);
+        } else {
+            final byte[] requestBody = StreamUtils.copyToByteArray(request.getInputStream());
+            filteredRequest = new CachedBodyRequest(request, requestBody);
+            requestHash = hash(requestBody);
+        }
+
+        if (!idempotencyKeyRepository.claim(key, requestHash, ttl, ABANDONED_AFTER)) {
+            replay(key, requestHash, response);
+            return;
+        }
+
+        final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(filteredRequest, responseWrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyKeyRepository.release(key, requestHash);
+            throw e;
+        }
+
+        if (responseWrapper.getStatus() >= 200 && responseWrapper.getStatus() < 300) {
+            idempotencyKeyRepository.complete(key, requestHash, new IdempotencyKeyRepository.StoredResponse(
+                    responseWrapper.getStatus(),
+                    responseWrapper.getContentType(),
+                    responseWrapper.getHeader(HttpHeaders.LOCATION),
+                    responseWrapper.getHeader(HttpHeaders.ETAG),
+                    responseWrapper.getContentAsByteArray()));
+        } else {
+            idempotencyKeyRepository.release(key, requestHash);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    @Scheduled(fixedDelayString = "${prompt.idempotency.eviction-interval}")
+    public void deleteExpiredKeys() {
+        idempotencyKeyRepository.deleteExpired();
+    }
+
+    private String hash(final byte[] requestBody) {
+        return HexFormat.of().formatHex(digest().digest(requestBody));
+    }
+
+    /**
+     * Hashes the names, file names and contents of the parts, streaming each part from where the container
+     * stored it.
+     */
+    private String hashParts(final HttpServletRequest request) throws ServletException, IOException {
+        final MessageDigest digest = digest();
+        for (final Part part : request.getParts()) {
+            digest.update(String.format("%s:%s:%d:", part.getName(), part.getSubmittedFileName(), part.getSize())
+                    .getBytes(StandardCharsets.UTF_8));
+            try (DigestInputStream inputStream = new DigestInputStream(part.getInputStream(), digest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    private static boolean isMultipart(final HttpServletRequest request) {
+        final String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/");
+    }
+
+    private void replay(final String key,
+                        final String requestHash,
+                        final HttpServletResponse response) throws IOException {
+        final long deadline = System.currentTimeMillis() + IN_FLIGHT_WAIT.toMillis();
+        Optional<IdempotencyKeyRepository.StoredRequest> storedRequest = idempotencyKeyRepository.findByKey(key);
+        while (storedRequest.isPresent() && storedRequest.get().response() == null
+                && storedRequest.get().requestHash().equals(requestHash)) {
+            if (System.currentTimeMillis() >= deadline) {
+                response.sendError(HttpStatus.CONFLICT.value(), "A request with this idempotency key is still in progress.");
+                return;
+            }
+            try {
+                Thread.sleep(IN_FLIGHT_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+            storedRequest = idempotencyKeyRepository.findByKey(key);
+        }
+
+        if (storedRequest.isEmpty()) {
+            response.sendError(HttpStatus.CONFLICT.value(), "A request with this idempotency key failed, retry it.");
+            return;
+        }
+        if (!storedRequest.get().requestHash().equals(requestHash)) {
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                    "This idempotency key was already used for a request with a different body.");
+            return;
+        }
+
+        final IdempotencyKeyRepository.StoredResponse storedResponse = storedRequest.get().response();
+        log.info(String.format("Replaying stored response for idempotent request %s.", key));
+        response.setStatus(storedResponse.status());
+        if (storedResponse.contentType() != null) {
+            response.setContentType(storedResponse.contentType());
+        }
+        if (storedResponse.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, storedResponse.location());
+        }
+        if (storedResponse.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, storedResponse.etag());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+        response.setContentLength(storedResponse.body().length);
+        response.getOutputStream().write(storedResponse.body());
+    }
+
+    /**
+     * Serves the request body that was read up front to hash it.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package prompt.ls1.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes the rows of a streaming repository query as a JSON array directly to the response. Rows are
+ * serialized in chunks inside a read-only transaction and the persistence context is cleared after every
+ * chunk, so neither the entity list nor the serialized body is ever held in memory as a whole.
+ */
+@Component
+public class JsonStreamWriter {
+    private static final int CHUNK_SIZE = 100;
+
+    private final ObjectWriter objectWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public JsonStreamWriter(final ObjectMapper objectMapper, final PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        // The generator flushes whenever its buffer is full, flushing after every row would only shrink the chunks
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(final Supplier<? extends Stream<? extends T>> query) {
+        return stream(query, Function.identity());
+    }
+
+    public <T, R> ResponseEntity<StreamingResponseBody> stream(final Supplier<? extends Stream<? extends T>> query,
+                                                                final Function<? super T, ? extends R> mapper) {
+        final StreamingResponseBody body = outputStream -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<? extends T> rows = query.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                final Iterator<? extends T> iterator = rows.iterator();
+                final List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                        // The whole chunk is managed while it is serialized, so batch fetched collections are
+                        // initialized with one query per chunk instead of one per row
+                        for (final T row : chunk) {
+                            objectWriter.writeValue(generator, mapper.apply(row));
+                        }
+                        chunk.clear();
+                        entityManager.clear();
+                    }
+                }
+                generator.writeEndArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,26 @@
+package prompt.ls1.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class PersistenceConfig implements WebMvcConfigurer {
+
+    @Value("${prompt.persistence.statement-budget}")
+    private int statementBudget;
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountInspector());
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementBudgetInterceptor(statementBudget));
+    }
+}
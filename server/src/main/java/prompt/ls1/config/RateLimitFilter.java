@@ -0,0 +1,96 @@
+package prompt.ls1.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import prompt.ls1.repository.RateLimitBucketRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Rate limits the configured routes per client address. Runs ahead of the security chain so that rejected
+ * requests cost one bucket upsert and nothing else. The client address is resolved by Tomcat's remote IP valve,
+ * which only trusts forwarded headers appended by the configured internal proxies.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Duration IDLE_BUCKET_RETENTION = Duration.ofDays(1);
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RateLimitFilter(final RateLimitProperties rateLimitProperties,
+                           final RateLimitBucketRepository rateLimitBucketRepository,
+                           final MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !rateLimitProperties.isEnabled() || findRoute(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final RateLimitProperties.Route route = findRoute(request).orElseThrow();
+
+        boolean allowed;
+        try {
+            allowed = rateLimitBucketRepository.tryConsume(String.format("%s:%s", route.getName(), request.getRemoteAddr()),
+                    route.getCapacity(), route.getRefillPeriod());
+        } catch (DataAccessException e) {
+            log.error(String.format("Rate limit check for %s failed, letting the request through. Error message: %s",
+                    route.getName(), e.getMessage()));
+            allowed = true;
+        }
+
+        meterRegistry.counter("prompt.rate-limit.requests",
+                "route", route.getName(),
+                "outcome", allowed ? "allowed" : "rejected").increment();
+
+        if (!allowed) {
+            log.error(String.format("%s request on %s rejected due to exceeded request velocity.",
+                    request.getMethod(), request.getRequestURI()));
+            response.setHeader("Retry-After", String.valueOf(Math.max(1,
+                    route.getRefillPeriod().toSeconds() / Math.max(1, route.getCapacity()))));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${prompt.rate-limit.cleanup-interval}")
+    public void deleteIdleBuckets() {
+        rateLimitBucketRepository.deleteIdle(IDLE_BUCKET_RETENTION);
+    }
+
+    private Optional<RateLimitProperties.Route> findRoute(final HttpServletRequest request) {
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        return rateLimitProperties.getRoutes()
+                .stream()
+                .filter(route -> route.getMethod().equalsIgnoreCase(request.getMethod()) && route.getPath().equals(path))
+                .findFirst();
+    }
+}
@@ -0,0 +1,37 @@
+package prompt.ls1.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "prompt.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    @Valid
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String name;
+        private String method;
+        private String path;
+        private int capacity;
+        private Duration refillPeriod;
+
+        @AssertTrue(message = "Rate limit refill period must be at least one second.")
+        public boolean isRefillPeriodValid() {
+            return refillPeriod != null && refillPeriod.compareTo(Duration.ofSeconds(1)) >= 0;
+        }
+    }
+}
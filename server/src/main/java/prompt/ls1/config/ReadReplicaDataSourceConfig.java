@@ -0,0 +1,74 @@
+package prompt.ls1.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions to a streaming
+ * replica of the primary database, so long list and export reads do not compete with writes for connections.
+ */
+@Configuration
+@ConditionalOnProperty(name = "prompt.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(final ReplicaDataSourceProperties replicaDataSourceProperties) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replicaDataSourceProperties.getUrl());
+        dataSource.setUsername(replicaDataSourceProperties.getUsername());
+        dataSource.setPassword(replicaDataSourceProperties.getPassword());
+        dataSource.setMaximumPoolSize(replicaDataSourceProperties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replicaDataSourceProperties.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                               final ReplicaDataSourceProperties replicaDataSourceProperties) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, replicaDataSourceProperties.getMaxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                 final ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+
+    /**
+     * Hibernate holds on to a connection for the whole session by default, which with open-in-view would pin
+     * every transaction of a request to the route of its first one.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
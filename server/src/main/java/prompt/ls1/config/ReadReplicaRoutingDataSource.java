@@ -0,0 +1,81 @@
+package prompt.ls1.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else. The
+ * routing decision is made when a connection is requested, so this data source has to sit behind a
+ * LazyConnectionDataSourceProxy for the transaction's read-only flag to be known by then.
+ * <p>
+ * Reads that have to see a preceding write go to the primary as well: all transactions of a request after its
+ * first read-write transaction, and requests carrying the {@value #READ_AFTER_WRITE_HEADER} header, which the
+ * client sends for refetches shortly after its own writes and after change events.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+    public static final String READ_AFTER_WRITE_HEADER = "X-Read-After-Write";
+    private static final String PINNED_TO_PRIMARY_ATTRIBUTE = ReadReplicaRoutingDataSource.class.getName() + ".PINNED_TO_PRIMARY";
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadReplicaRoutingDataSource(final DataSource primaryDataSource,
+                                        final DataSource replicaDataSource,
+                                        final ReplicaLagMonitor replicaLagMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinRequestToPrimary();
+            }
+            return primaryDataSource.getConnection();
+        }
+        if (!replicaLagMonitor.isReplicaAvailable() || isRequestPinnedToPrimary()) {
+            return primaryDataSource.getConnection();
+        }
+
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException e) {
+            replicaLagMonitor.markUnavailable(e.getMessage());
+            return primaryDataSource.getConnection();
+        }
+    }
+
+    private static void pinRequestToPrimary() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(PINNED_TO_PRIMARY_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean isRequestPinnedToPrimary() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return false;
+        }
+        if (requestAttributes.getAttribute(PINNED_TO_PRIMARY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        return requestAttributes instanceof ServletRequestAttributes servletRequestAttributes
+                && servletRequestAttributes.getRequest().getHeader(READ_AFTER_WRITE_HEADER) != null;
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return primaryDataSource.getConnection(username, password);
+    }
+}
@@ -0,0 +1,21 @@
+package prompt.ls1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "prompt.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+    private Duration maxLag = Duration.ofSeconds(5);
+}
@@ -0,0 +1,108 @@
+package prompt.ls1.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Periodically measures how far the read replica lags behind the primary. Every probe samples the primary's
+ * current WAL position; the replica is as fresh as the newest sample it has replayed, so a replica whose WAL
+ * receiver stalled falls behind as soon as the primary writes, even though it has replayed everything it
+ * received. The replica is only used while the last probe succeeded and the lag was within the configured
+ * tolerance; it starts out unavailable until the first probe, and a failed connection attempt takes it out of
+ * rotation until the next successful probe. A result is only trusted for the tolerated lag, so the replica also
+ * drops out of rotation if the probes stop running or hang.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String PRIMARY_LSN_QUERY = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLAY_LSN_QUERY = "SELECT pg_last_wal_replay_lsn()::text";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final Deque<WalSample> primarySamples = new ArrayDeque<>();
+    private volatile boolean replicaAvailable = false;
+    private volatile long lastSuccessfulProbeAt = 0;
+
+    public ReplicaLagMonitor(final DataSource primaryDataSource, final DataSource replicaDataSource, final Duration maxLag) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        // A probe that takes longer than the tolerated lag cannot prove the replica fresh anyway
+        final int queryTimeoutSeconds = (int) Math.max(1, maxLag.toSeconds());
+        this.primaryJdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        this.replicaJdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable && System.currentTimeMillis() - lastSuccessfulProbeAt <= maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${prompt.datasource.replica.lag-check-interval}")
+    public synchronized void checkLag() {
+        try {
+            final long now = System.currentTimeMillis();
+            primarySamples.addFirst(new WalSample(parseLsn(primaryJdbcTemplate.queryForObject(PRIMARY_LSN_QUERY, String.class)), now));
+            // Samples older than the tolerated lag cannot make the replica acceptable anymore
+            primarySamples.removeIf(sample -> now - sample.sampledAt() > maxLag.toMillis());
+
+            final String replayLsn = replicaJdbcTemplate.queryForObject(REPLAY_LSN_QUERY, String.class);
+            if (replayLsn == null) {
+                markUnavailable("the replica is not in recovery");
+                return;
+            }
+
+            final Long lagMillis = lagMillis(parseLsn(replayLsn), now);
+            if (lagMillis == null) {
+                markUnavailable(String.format("replication lag exceeds the tolerated %d ms", maxLag.toMillis()));
+                return;
+            }
+            lastSuccessfulProbeAt = now;
+            if (!replicaAvailable) {
+                replicaAvailable = true;
+                log.info(String.format("Read replica is available again with a replication lag of at most %d ms, routing read-only transactions to it.",
+                        lagMillis));
+            }
+        } catch (DataAccessException e) {
+            markUnavailable(e.getMessage());
+        }
+    }
+
+    public void markUnavailable(final String reason) {
+        if (replicaAvailable) {
+            replicaAvailable = false;
+            log.warn(String.format("Read replica is unavailable, routing read-only transactions to the primary: %s", reason));
+        }
+    }
+
+    /**
+     * Returns the age of the newest primary sample the replica has replayed, or null if it has replayed none
+     * of the retained samples.
+     */
+    private Long lagMillis(final long replayLsn, final long now) {
+        final Iterator<WalSample> samples = primarySamples.iterator();
+        while (samples.hasNext()) {
+            final WalSample sample = samples.next();
+            if (Long.compareUnsigned(replayLsn, sample.lsn()) >= 0) {
+                return now - sample.sampledAt();
+            }
+        }
+        return null;
+    }
+
+    private static long parseLsn(final String lsn) {
+        final int separator = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, separator), 16) << 32) | Long.parseLong(lsn.substring(separator + 1), 16);
+    }
+
+    private record WalSample(long lsn, long sampledAt) {
+    }
+}
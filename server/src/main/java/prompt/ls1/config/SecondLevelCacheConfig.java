@@ -0,0 +1,43 @@
+package prompt.ls1.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Creates the Caffeine caches backing Hibernate's second-level and query cache, one per configured region.
+ * Hibernate refuses to start if an entity or query refers to a region that is not configured here, so every
+ * cache is bounded in size and, except for the update timestamps, expires its entries after a time to live.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(final CacheRegionProperties cacheRegionProperties) {
+        final CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        cacheRegionProperties.getRegions().forEach((name, region) -> {
+            final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            if (region.getTimeToLive() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            }
+            // Hibernate only stores immutable, disassembled state, copying it on every access is wasted work
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
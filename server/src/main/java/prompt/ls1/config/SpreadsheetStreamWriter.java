@@ -0,0 +1,162 @@
+package prompt.ls1.config;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes rows pushed by a cursor-based query to the response as CSV or XLSX. CSV rows go straight to the
+ * response; XLSX rows are kept in a small window and spilled to a temporary file until the workbook is written,
+ * so memory use does not grow with the number of rows in either format.
+ */
+@Component
+public class SpreadsheetStreamWriter {
+    private static final int XLSX_ROW_WINDOW = 100;
+    private static final String UTF8_BOM = "\uFEFF";
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Autowired
+    public SpreadsheetStreamWriter(final PlatformTransactionManager transactionManager) {
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public ResponseEntity<StreamingResponseBody> stream(final String fileName,
+                                                        final Format format,
+                                                        final List<String> headers,
+                                                        final Consumer<Consumer<Object[]>> query) {
+        final StreamingResponseBody body = outputStream -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try {
+                switch (format) {
+                    case CSV -> writeCsv(outputStream, headers, query);
+                    case XLSX -> writeXlsx(outputStream, headers, query);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(String.format("%s.%s", fileName, format.getExtension()), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    private void writeCsv(final OutputStream outputStream,
+                          final List<String> headers,
+                          final Consumer<Consumer<Object[]>> query) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        // Spreadsheet applications only detect UTF-8 in CSV files by the byte order mark
+        writer.write(UTF8_BOM);
+        writeCsvRow(writer, headers.toArray());
+        query.accept(row -> {
+            try {
+                writeCsvRow(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void writeCsvRow(final Writer writer, final Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(row[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String csvValue(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+
+        String text = value.toString();
+        // Free-text values come from public application forms, keep spreadsheet applications from evaluating them
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private void writeXlsx(final OutputStream outputStream,
+                           final List<String> headers,
+                           final Consumer<Consumer<Object[]>> query) throws IOException {
+        final SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            final Sheet sheet = workbook.createSheet();
+            writeXlsxRow(sheet.createRow(0), headers.toArray());
+            query.accept(row -> writeXlsxRow(sheet.createRow(sheet.getLastRowNum() + 1), row));
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void writeXlsxRow(final Row row, final Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final Cell cell = row.createCell(i);
+            if (values[i] instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (values[i] != null) {
+                cell.setCellValue(values[i].toString());
+            }
+        }
+    }
+
+    public enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        XLSX(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"), "xlsx");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(final MediaType mediaType, final String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package prompt.ls1.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Slf4j
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+    private final int statementBudget;
+
+    public StatementBudgetInterceptor(final int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        StatementCountInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        final int statementCount = StatementCountInspector.getCount();
+        if (statementCount > statementBudget) {
+            log.warn(String.format("%s %s issued %d SQL statements, exceeding the budget of %d.",
+                    request.getMethod(), request.getRequestURI(), statementCount, statementBudget));
+        }
+        StatementCountInspector.reset();
+    }
+}
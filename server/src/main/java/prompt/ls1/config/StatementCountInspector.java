@@ -0,0 +1,25 @@
+package prompt.ls1.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Used to enforce the
+ * per-request statement budget and to spot N+1 fetches on list endpoints.
+ */
+public class StatementCountInspector implements StatementInspector {
+    private static final ThreadLocal<Integer> STATEMENT_COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(final String sql) {
+        STATEMENT_COUNT.set(STATEMENT_COUNT.get() + 1);
+        return sql;
+    }
+
+    public static int getCount() {
+        return STATEMENT_COUNT.get();
+    }
+
+    public static void reset() {
+        STATEMENT_COUNT.remove();
+    }
+}
@@ -3,14 +3,13 @@ package prompt.ls1.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
-import jakarta.mail.MessagingException;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
@@ -20,10 +19,26 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import prompt.ls1.config.JsonStreamWriter;
+import prompt.ls1.config.SpreadsheetStreamWriter;
+import prompt.ls1.controller.payload.ApplicationFilter;
+import prompt.ls1.controller.payload.ApplicationPage;
+import prompt.ls1.controller.payload.ApplicationSearchHit;
+import prompt.ls1.controller.payload.ApplicationSortField;
+import prompt.ls1.controller.payload.ApplicationStatistics;
+import prompt.ls1.controller.payload.ApplicationStatusChangeResult;
+import prompt.ls1.controller.payload.ApplicationSummary;
+import prompt.ls1.controller.payload.SyncDelta;
 import prompt.ls1.controller.payload.TechnicalChallengeScore;
+import prompt.ls1.controller.payload.TechnicalChallengeScoreImportRow;
 import prompt.ls1.model.Application;
 import prompt.ls1.model.CoachApplication;
 import prompt.ls1.model.CourseIteration;
@@ -33,41 +48,100 @@ import prompt.ls1.model.InstructorComment;
 import prompt.ls1.model.Student;
 import prompt.ls1.model.TutorApplication;
 import prompt.ls1.model.enums.ApplicationStatus;
+import prompt.ls1.model.enums.StudyProgram;
+import prompt.ls1.repository.ApplicationExportRepository.ExportColumn;
 import prompt.ls1.service.ApplicationService;
+import prompt.ls1.service.ApplicationStatisticsService;
 import prompt.ls1.service.CourseIterationService;
-import prompt.ls1.service.MailingService;
+import prompt.ls1.service.EntityTags;
+import prompt.ls1.service.TechnicalChallengeScoreImportService;
 
-import java.time.Duration;
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @RestController
 @RequestMapping("/applications")
 public class ApplicationController {
-    private final Bucket bucket;
+    private static final String UUID_PATTERN = "[0-9a-fA-F-]{36}";
+
     private final ApplicationService applicationService;
     private final CourseIterationService courseIterationService;
-    private final MailingService mailingService;
+    private final TechnicalChallengeScoreImportService technicalChallengeScoreImportService;
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final SpreadsheetStreamWriter spreadsheetStreamWriter;
 
     @Autowired
     public ApplicationController(final ApplicationService applicationService,
                                  final CourseIterationService courseIterationService,
-                                 final MailingService mailingService) {
-        Bandwidth limit = Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1)));
-        this.bucket = Bucket.builder()
-                .addLimit(limit)
-                .build();
+                                 final TechnicalChallengeScoreImportService technicalChallengeScoreImportService,
+                                 final ApplicationStatisticsService applicationStatisticsService,
+                                 final JsonStreamWriter jsonStreamWriter,
+                                 final SpreadsheetStreamWriter spreadsheetStreamWriter) {
         this.applicationService = applicationService;
         this.courseIterationService = courseIterationService;
-        this.mailingService = mailingService;
+        this.technicalChallengeScoreImportService = technicalChallengeScoreImportService;
+        this.applicationStatisticsService = applicationStatisticsService;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.spreadsheetStreamWriter = spreadsheetStreamWriter;
     }
 
     @GetMapping("/{applicationType}")
     @PreAuthorize("hasRole('ipraktikum-pm')")
-    public ResponseEntity<List<Application>> getApplications(
+    public ResponseEntity<StreamingResponseBody> getApplications(
+            @PathVariable final String applicationType,
+            @RequestParam(name = "courseIteration") @NotNull final String courseIterationName,
+            @RequestParam(required = false) final Optional<ApplicationStatus> applicationStatus
+    ) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+
+        return jsonStreamWriter.stream(applicationService
+                .streamAllApplicationsByCourseIterationAndApplicationTypeAndApplicationStatus(
+                        courseIteration.getId(),
+                        applicationType,
+                        applicationStatus));
+    }
+
+    @GetMapping(path = "/{applicationType}", params = "modifiedSince")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<SyncDelta<Application>> getApplicationChanges(
+            @PathVariable final String applicationType,
+            @RequestParam(name = "courseIteration") @NotNull final String courseIterationName,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime modifiedSince
+    ) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+
+        return ResponseEntity.ok(applicationService.findApplicationChangesByCourseIteration(courseIteration.getId(),
+                applicationType, modifiedSince));
+    }
+
+    @GetMapping("/developer/export")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<StreamingResponseBody> exportDeveloperApplications(
+            @RequestParam(name = "courseIteration") @NotNull final String courseIterationName,
+            @RequestParam(required = false, defaultValue = "CSV") final SpreadsheetStreamWriter.Format format,
+            @RequestParam(required = false) final List<ExportColumn> columns,
+            @RequestParam(required = false) final Optional<ApplicationStatus> applicationStatus
+    ) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+        final List<ExportColumn> exportColumns = columns == null || columns.isEmpty() ?
+                List.of(ExportColumn.values()) : columns.stream().distinct().toList();
+
+        return spreadsheetStreamWriter.stream(
+                String.format("developer-applications-%s", courseIteration.getSemesterName()),
+                format,
+                exportColumns.stream().map(ExportColumn::getHeader).toList(),
+                rowConsumer -> applicationService.exportDeveloperApplications(
+                        courseIteration.getId(), applicationStatus, exportColumns, rowConsumer));
+    }
+
+    @GetMapping("/{applicationType}/summaries")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationSummary>> getApplicationSummaries(
             @PathVariable final String applicationType,
             @RequestParam(name = "courseIteration") @NotNull final String courseIterationName,
             @RequestParam(required = false) final Optional<ApplicationStatus> applicationStatus
@@ -75,78 +149,142 @@ public class ApplicationController {
         final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
 
         return ResponseEntity.ok(applicationService
-                .findAllApplicationsByCourseIterationAndApplicationTypeAndApplicationStatus(
+                .findApplicationSummariesByCourseIterationAndApplicationTypeAndApplicationStatus(
                         courseIteration.getId(),
                         applicationType,
                         applicationStatus));
     }
 
-    @PostMapping("/developer")
-    public ResponseEntity<DeveloperApplication> createDeveloperApplication(@RequestBody DeveloperApplication developerApplication,
-                                              @RequestParam(name = "courseIteration") String courseIterationName) {
-        if (bucket.tryConsume(1)) {
-            final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
-            developerApplication.setCourseIterationId(courseIteration.getId());
+    @GetMapping("/{applicationType}/page")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<ApplicationPage<? extends Application>> getApplicationPage(
+            @PathVariable final String applicationType,
+            @RequestParam(name = "courseIteration") @NotNull final String courseIterationName,
+            @RequestParam(required = false) final Set<ApplicationStatus> status,
+            @RequestParam(required = false) final Set<StudyProgram> studyProgram,
+            @RequestParam(required = false) final Short minSemester,
+            @RequestParam(required = false) final Short maxSemester,
+            @RequestParam(required = false) final Integer minScore,
+            @RequestParam(required = false) final Integer maxScore,
+            @RequestParam(required = false, defaultValue = "ID") final ApplicationSortField sortBy,
+            @RequestParam(required = false, defaultValue = "ASC") final Sort.Direction direction,
+            @RequestParam(required = false) final Optional<String> cursor,
+            @RequestParam(required = false, defaultValue = "50") final int pageSize
+    ) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
 
-            final DeveloperApplication application = applicationService.createDeveloperApplication(developerApplication);
+        final ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatuses(status);
+        filter.setStudyPrograms(studyProgram);
+        filter.setMinSemester(minSemester);
+        filter.setMaxSemester(maxSemester);
+        filter.setMinScore(minScore);
+        filter.setMaxScore(maxScore);
+
+        return ResponseEntity.ok(applicationService.findApplicationPageByCourseIteration(
+                courseIteration.getId(),
+                applicationType,
+                filter,
+                sortBy,
+                direction,
+                cursor,
+                pageSize));
+    }
 
-            try {
-                mailingService.sendDeveloperApplicationConfirmationEmail(application.getStudent(), application, courseIteration);
-            } catch (MessagingException e) {
-                log.error(String.format("Failed to send a confirmation email on POST /applications/developer. Error message: %s. Stacktrace: %s",
-                        e.getMessage(), Arrays.toString(e.getStackTrace())));
-            }
+    @GetMapping("/developer/{developerApplicationId:" + UUID_PATTERN + "}")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<DeveloperApplication> getDeveloperApplication(@PathVariable final UUID developerApplicationId,
+                                                                        final WebRequest request) {
+        if (request.checkNotModified(applicationService.findDeveloperApplicationEntityTag(developerApplicationId))) {
+            return null;
+        }
+        final DeveloperApplication application = applicationService.findDeveloperApplicationById(developerApplicationId);
+        return ResponseEntity.ok().eTag(EntityTags.of(application)).body(application);
+    }
+
+    @GetMapping("/coach/{coachApplicationId:" + UUID_PATTERN + "}")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<CoachApplication> getCoachApplication(@PathVariable final UUID coachApplicationId,
+                                                                final WebRequest request) {
+        if (request.checkNotModified(applicationService.findCoachApplicationEntityTag(coachApplicationId))) {
+            return null;
+        }
+        final CoachApplication application = applicationService.findCoachApplicationById(coachApplicationId);
+        return ResponseEntity.ok().eTag(EntityTags.of(application)).body(application);
+    }
 
-            return ResponseEntity.ok(application);
+    @GetMapping("/tutor/{tutorApplicationId:" + UUID_PATTERN + "}")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<TutorApplication> getTutorApplication(@PathVariable final UUID tutorApplicationId,
+                                                                final WebRequest request) {
+        if (request.checkNotModified(applicationService.findTutorApplicationEntityTag(tutorApplicationId))) {
+            return null;
         }
+        final TutorApplication application = applicationService.findTutorApplicationById(tutorApplicationId);
+        return ResponseEntity.ok().eTag(EntityTags.of(application)).body(application);
+    }
+
+    @GetMapping("/{applicationType}/statistics")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<ApplicationStatistics> getApplicationStatistics(
+            @PathVariable final String applicationType,
+            @RequestParam(name = "courseIteration") @NotNull final String courseIterationName
+    ) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+        return ResponseEntity.ok(applicationStatisticsService.findStatistics(courseIteration.getId(), applicationType));
+    }
 
-        log.error("Post request on /applications/developer rejected due to exceeded request velocity.");
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+    @GetMapping("/{applicationType}/search")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationSearchHit>> searchApplications(
+            @PathVariable final String applicationType,
+            @RequestParam(name = "courseIteration") @NotNull final String courseIterationName,
+            @RequestParam @NotNull final String query,
+            @RequestParam(required = false) final Optional<ApplicationStatus> applicationStatus,
+            @RequestParam(required = false, defaultValue = "0") final int page,
+            @RequestParam(required = false, defaultValue = "50") final int pageSize
+    ) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+        return ResponseEntity.ok(applicationService.searchApplicationsByCourseIteration(
+                courseIteration.getId(),
+                applicationType,
+                applicationStatus,
+                query,
+                page,
+                pageSize));
+    }
+
+    @PostMapping("/developer")
+    public ResponseEntity<DeveloperApplication> createDeveloperApplication(@RequestBody DeveloperApplication developerApplication,
+                                              @RequestParam(name = "courseIteration") String courseIterationName) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+        developerApplication.setCourseIterationId(courseIteration.getId());
+
+        final DeveloperApplication application = applicationService.createDeveloperApplication(developerApplication, courseIteration);
+
+        return ResponseEntity.ok(application);
     }
 
     @PostMapping("/tutor")
     public ResponseEntity<Application> createTutorApplication(@RequestBody TutorApplication tutorApplication,
                                                                   @RequestParam(name = "courseIteration") String courseIterationName) {
-        if (bucket.tryConsume(1)) {
-            final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
-            tutorApplication.setCourseIterationId(courseIteration.getId());
-
-            final TutorApplication application = applicationService.createTutorApplication(tutorApplication);
-
-            try {
-                mailingService.sendTutorApplicationConfirmationEmail(application.getStudent(), application, courseIteration);
-            } catch (MessagingException e) {
-                log.error(String.format("Failed to send a confirmation email on POST /applications/tutor. Error message: %s. Stacktrace: %s",
-                        e.getMessage(), Arrays.toString(e.getStackTrace())));
-            }
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+        tutorApplication.setCourseIterationId(courseIteration.getId());
 
-            return ResponseEntity.ok(application);
-        }
+        final TutorApplication application = applicationService.createTutorApplication(tutorApplication, courseIteration);
 
-        log.error("Post request on /applications/tutor rejected due to exceeded request velocity.");
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        return ResponseEntity.ok(application);
     }
 
     @PostMapping("/coach")
     public ResponseEntity<Application> createCoachApplication(@RequestBody CoachApplication coachApplication,
                                                                   @RequestParam(name = "courseIteration") String courseIterationName) {
-        if (bucket.tryConsume(1)) {
-            final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
-            coachApplication.setCourseIterationId(courseIteration.getId());
-
-            final CoachApplication application = applicationService.createCoachApplication(coachApplication);
-            try {
-                mailingService.sendCoachApplicationConfirmationEmail(application.getStudent(), application, courseIteration);
-            } catch (MessagingException e) {
-                log.error(String.format("Failed to send a confirmation email on POST /applications/developer. Error message: %s. Stacktrace: %s",
-                        e.getMessage(), Arrays.toString(e.getStackTrace())));
-            }
-
-            return ResponseEntity.ok(application);
-        }
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+        coachApplication.setCourseIterationId(courseIteration.getId());
+
+        final CoachApplication application = applicationService.createCoachApplication(coachApplication, courseIteration);
 
-        log.error("Post request on /applications/coach rejected due to exceeded request velocity.");
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        return ResponseEntity.ok(application);
     }
 
     @PostMapping(value = "/developer/enrollment")
@@ -178,6 +316,54 @@ public class ApplicationController {
                 scores));
     }
 
+    @PostMapping(value = "/developer/technical-challenge-scores/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<TechnicalChallengeScoreImportRow>> importTechnicalChallengeScores(
+            @RequestParam(value = "programmingScoreThreshold") final String programmingScoreThreshold,
+            @RequestParam(value = "quizScoreThreshold") final String quizScoreThreshold,
+            @RequestPart(value = "scores") final MultipartFile scores) {
+        return ResponseEntity.ok(technicalChallengeScoreImportService.importScores(
+                scores,
+                Double.parseDouble(programmingScoreThreshold),
+                Double.parseDouble(quizScoreThreshold)));
+    }
+
+    @PostMapping("/coach/interview-invitations")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationStatusChangeResult>> sendCoachInterviewInvitations(@RequestBody final List<UUID> coachApplicationIds) {
+        return ResponseEntity.ok(applicationService.sendCoachInterviewInvites(coachApplicationIds));
+    }
+
+    @PostMapping("/tutor/interview-invitations")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationStatusChangeResult>> sendTutorInterviewInvitations(@RequestBody final List<UUID> tutorApplicationIds) {
+        return ResponseEntity.ok(applicationService.sendTutorInterviewInvites(tutorApplicationIds));
+    }
+
+    @PostMapping("/coach/acceptance")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationStatusChangeResult>> sendCoachApplicationAcceptances(@RequestBody final List<UUID> coachApplicationIds) {
+        return ResponseEntity.ok(applicationService.sendCoachApplicationAcceptances(coachApplicationIds));
+    }
+
+    @PostMapping("/tutor/acceptance")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationStatusChangeResult>> sendTutorApplicationAcceptances(@RequestBody final List<UUID> tutorApplicationIds) {
+        return ResponseEntity.ok(applicationService.sendTutorApplicationAcceptances(tutorApplicationIds));
+    }
+
+    @PostMapping("/coach/rejection")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationStatusChangeResult>> sendCoachApplicationRejections(@RequestBody final List<UUID> coachApplicationIds) {
+        return ResponseEntity.ok(applicationService.sendCoachApplicationRejections(coachApplicationIds));
+    }
+
+    @PostMapping("/tutor/rejection")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<ApplicationStatusChangeResult>> sendTutorApplicationRejections(@RequestBody final List<UUID> tutorApplicationIds) {
+        return ResponseEntity.ok(applicationService.sendTutorApplicationRejections(tutorApplicationIds));
+    }
+
     @PostMapping("/coach/{applicationId}/interview-invitations")
     @PreAuthorize("hasRole('ipraktikum-pm')")
     public ResponseEntity<Application> sendCoachInterviewInvitation(@PathVariable UUID applicationId) {
@@ -217,9 +403,11 @@ public class ApplicationController {
     @PatchMapping(path = "/developer/{developerApplicationId}", consumes = "application/json-path+json")
     @PreAuthorize("hasRole('ipraktikum-pm')")
     public ResponseEntity<Application> updateProjectTeam(@PathVariable final UUID developerApplicationId,
-                                                         @RequestBody JsonPatch patchStudentApplication)
+                                                         @RequestBody JsonPatch patchStudentApplication,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
-        return ResponseEntity.ok(applicationService.updateDeveloperApplication(developerApplicationId, patchStudentApplication));
+        final Application application = applicationService.updateDeveloperApplication(developerApplicationId, patchStudentApplication, ifMatch);
+        return ResponseEntity.ok().eTag(EntityTags.of(application)).body(application);
     }
 
     @PatchMapping(path = "/students/{studentId}/assessment", consumes = "application/json-path+json")
@@ -233,45 +421,53 @@ public class ApplicationController {
     @PatchMapping(path = "/developer/{developerApplicationId}/assessment", consumes = "application/json-path+json")
     @PreAuthorize("hasRole('ipraktikum-pm')")
     public ResponseEntity<Application> updateDeveloperApplicationAssessment(@PathVariable final UUID developerApplicationId,
-                                                                          @RequestBody JsonPatch patchStudentApplicationAssessment)
+                                                                          @RequestBody JsonPatch patchStudentApplicationAssessment,
+                                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
-        return ResponseEntity.ok(applicationService.updateDeveloperApplicationAssessment(developerApplicationId, patchStudentApplicationAssessment));
+        final Application application = applicationService.updateDeveloperApplicationAssessment(developerApplicationId,
+                patchStudentApplicationAssessment, ifMatch);
+        return ResponseEntity.ok().eTag(EntityTags.of(application)).body(application);
     }
 
     @PatchMapping(path = "/coach/{coachApplicationId}/assessment", consumes = "application/json-path+json")
     @PreAuthorize("hasRole('ipraktikum-pm')")
     public ResponseEntity<Application> updateCoachApplicationAssessment(@PathVariable final UUID coachApplicationId,
-                                                                            @RequestBody JsonPatch patchStudentApplicationAssessment) throws JsonPatchException, JsonProcessingException {
-        return ResponseEntity.ok(applicationService.updateCoachApplicationAssessment(coachApplicationId, patchStudentApplicationAssessment));
+                                                                            @RequestBody JsonPatch patchStudentApplicationAssessment,
+                                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final Optional<String> ifMatch)
+            throws JsonPatchException, JsonProcessingException {
+        final Application application = applicationService.updateCoachApplicationAssessment(coachApplicationId,
+                patchStudentApplicationAssessment, ifMatch);
+        return ResponseEntity.ok().eTag(EntityTags.of(application)).body(application);
     }
 
     @PatchMapping(path = "/tutor/{tutorApplicationId}/assessment", consumes = "application/json-path+json")
     @PreAuthorize("hasRole('ipraktikum-pm')")
     public ResponseEntity<Application> updateTutorApplicationAssessment(@PathVariable final UUID tutorApplicationId,
-                                                                            @RequestBody JsonPatch patchStudentApplicationAssessment)
+                                                                            @RequestBody JsonPatch patchStudentApplicationAssessment,
+                                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
-        return ResponseEntity.ok(applicationService.updateTutorApplicationAssessment(tutorApplicationId, patchStudentApplicationAssessment));
-    }
-
-    @PostMapping("/developer/{applicationId}/instructor-comments")
-    @PreAuthorize("hasRole('ipraktikum-pm')")
-    public ResponseEntity<Application> createInstructorCommentForDeveloperApplication(@PathVariable UUID applicationId,
-                                                  @RequestBody InstructorComment instructorComment) {
-        return ResponseEntity.ok(applicationService.createInstructorCommentForDeveloperApplication(applicationId, instructorComment));
+        final Application application = applicationService.updateTutorApplicationAssessment(tutorApplicationId,
+                patchStudentApplicationAssessment, ifMatch);
+        return ResponseEntity.ok().eTag(EntityTags.of(application)).body(application);
     }
 
-    @PostMapping("/coach/{applicationId}/instructor-comments")
+    @GetMapping("/{applicationType}/{applicationId:" + UUID_PATTERN + "}/instructor-comments")
     @PreAuthorize("hasRole('ipraktikum-pm')")
-    public ResponseEntity<Application> createInstructorCommentForCoachApplication(@PathVariable UUID applicationId,
-                                                               @RequestBody InstructorComment instructorComment) {
-        return ResponseEntity.ok(applicationService.createInstructorCommentForCoachApplication(applicationId, instructorComment));
+    public ResponseEntity<List<InstructorComment>> getInstructorComments(
+            @PathVariable final String applicationType,
+            @PathVariable final UUID applicationId,
+            @RequestParam(required = false, defaultValue = "0") final int page,
+            @RequestParam(required = false, defaultValue = "50") final int pageSize
+    ) {
+        return ResponseEntity.ok(applicationService.findInstructorComments(applicationType, applicationId, page, pageSize));
     }
 
-    @PostMapping("/tutor/{applicationId}/instructor-comments")
+    @PostMapping("/{applicationType}/{applicationId:" + UUID_PATTERN + "}/instructor-comments")
     @PreAuthorize("hasRole('ipraktikum-pm')")
-    public ResponseEntity<Application> createInstructorCommentForTutorApplication(@PathVariable UUID applicationId,
-                                                               @RequestBody InstructorComment instructorComment) {
-        return ResponseEntity.ok(applicationService.createInstructorCommentForTutorApplication(applicationId, instructorComment));
+    public ResponseEntity<InstructorComment> createInstructorComment(@PathVariable final String applicationType,
+                                                                     @PathVariable final UUID applicationId,
+                                                                     @RequestBody final InstructorComment instructorComment) {
+        return ResponseEntity.ok(applicationService.createInstructorComment(applicationType, applicationId, instructorComment));
     }
 
     @PostMapping("/developer/{applicationId}/grading")
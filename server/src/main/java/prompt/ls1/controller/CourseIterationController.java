@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,22 +14,30 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import prompt.ls1.model.CourseIteration;
+import prompt.ls1.service.CourseIterationEventStream;
 import prompt.ls1.service.CourseIterationService;
+import prompt.ls1.service.EntityTags;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/course-iterations")
 public class CourseIterationController {
     private final CourseIterationService courseIterationService;
+    private final CourseIterationEventStream courseIterationEventStream;
 
     @Autowired
-    public CourseIterationController(CourseIterationService courseIterationService) {
+    public CourseIterationController(CourseIterationService courseIterationService,
+                                     CourseIterationEventStream courseIterationEventStream) {
         this.courseIterationService = courseIterationService;
+        this.courseIterationEventStream = courseIterationEventStream;
     }
 
     @GetMapping
@@ -55,6 +65,13 @@ public class CourseIterationController {
         return ResponseEntity.ok(courseIterationService.findWithOpenKickOffPeriod());
     }
 
+    @GetMapping(path = "/{courseIterationId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ipraktikum-pm') || hasRole('ipraktikum-coach')")
+    public ResponseEntity<SseEmitter> subscribeToCourseIterationChanges(@PathVariable final UUID courseIterationId) {
+        // No lookup on purpose, with open-in-view a database access would pin a connection for the lifetime of the stream
+        return ResponseEntity.ok(courseIterationEventStream.subscribe(courseIterationId));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('ipraktikum-pm')")
     public ResponseEntity<CourseIteration> createCourseIteration(@RequestBody CourseIteration courseIteration) {
@@ -64,9 +81,13 @@ public class CourseIterationController {
     @PatchMapping(path = "/{courseIterationId}", consumes = "application/json-path+json")
     @PreAuthorize("hasRole('ipraktikum-pm')")
     public ResponseEntity<CourseIteration> updateCourseIteration(@PathVariable UUID courseIterationId,
-                                                                     @RequestBody JsonPatch patchCourseIteration)
+                                                                     @RequestBody JsonPatch patchCourseIteration,
+                                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException{
-        return ResponseEntity.ok(courseIterationService.update(courseIterationId, patchCourseIteration));
+        final CourseIteration courseIteration = courseIterationService.update(courseIterationId, patchCourseIteration, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(courseIteration.getId(), courseIteration.getVersion()))
+                .body(courseIteration);
     }
 
     @PostMapping("/{courseIterationId}/course-iteration-phase-check-entries/{courseIterationPhaseCheckEntryId}")
@@ -6,6 +6,8 @@ import com.github.fge.jsonpatch.JsonPatchException;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,19 +16,27 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import prompt.ls1.config.JsonStreamWriter;
+import prompt.ls1.controller.payload.MailCampaignStatus;
 import prompt.ls1.controller.payload.Seat;
 import prompt.ls1.controller.payload.SeatPlanAssignment;
+import prompt.ls1.controller.payload.SyncDelta;
 import prompt.ls1.model.CourseIteration;
 import prompt.ls1.model.IntroCourseAbsence;
 import prompt.ls1.model.IntroCourseParticipation;
 import prompt.ls1.model.Student;
 import prompt.ls1.service.CourseIterationService;
+import prompt.ls1.service.EntityTags;
 import prompt.ls1.service.IntroCourseService;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -35,22 +45,36 @@ import java.util.UUID;
 public class IntroCourseController {
     private final IntroCourseService introCourseService;
     private final CourseIterationService courseIterationService;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @Autowired
     public IntroCourseController(final IntroCourseService introCourseService,
-                                 final CourseIterationService courseIterationService) {
+                                 final CourseIterationService courseIterationService,
+                                 final JsonStreamWriter jsonStreamWriter) {
         this.introCourseService = introCourseService;
         this.courseIterationService = courseIterationService;
+        this.jsonStreamWriter = jsonStreamWriter;
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ipraktikum-pm') || hasRole('ipraktikum-tutor')")
-    public ResponseEntity<List<IntroCourseParticipation>> getAllIntroCourseParticipations(
+    public ResponseEntity<StreamingResponseBody> getAllIntroCourseParticipations(
             @RequestParam(name = "courseIteration") @NotNull final String courseIterationName
     ) {
         final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
 
-        return ResponseEntity.ok(introCourseService.findAllByCourseIterationId(courseIteration.getId()));
+        return jsonStreamWriter.stream(() -> introCourseService.streamAllByCourseIterationId(courseIteration.getId()));
+    }
+
+    @GetMapping(params = "modifiedSince")
+    @PreAuthorize("hasRole('ipraktikum-pm') || hasRole('ipraktikum-tutor')")
+    public ResponseEntity<SyncDelta<IntroCourseParticipation>> getIntroCourseParticipationChanges(
+            @RequestParam(name = "courseIteration") @NotNull final String courseIterationName,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime modifiedSince
+    ) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+
+        return ResponseEntity.ok(introCourseService.findChangesByCourseIterationId(courseIteration.getId(), modifiedSince));
     }
 
     @GetMapping("/tutors")
@@ -65,9 +89,14 @@ public class IntroCourseController {
     @PreAuthorize("hasRole('ipraktikum-pm') || hasRole('ipraktikum-tutor')")
     public ResponseEntity<IntroCourseParticipation> updateIntroCourseParticipation(
             @PathVariable UUID introCourseParticipationId,
-            @RequestBody JsonPatch introCourseParticipationPatch)
+            @RequestBody JsonPatch introCourseParticipationPatch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
-        return ResponseEntity.ok(introCourseService.update(introCourseParticipationId, introCourseParticipationPatch));
+        final IntroCourseParticipation introCourseParticipation =
+                introCourseService.update(introCourseParticipationId, introCourseParticipationPatch, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(introCourseParticipation.getId(), introCourseParticipation.getVersion()))
+                .body(introCourseParticipation);
     }
 
     @PostMapping("/seat-plan-assignments")
@@ -145,10 +174,9 @@ public class IntroCourseController {
     }
 
     @PostMapping("/{courseIterationId}/technical-details-invitation")
-    public ResponseEntity<String> sendInvitationForStudentTechnicalDetailsSubmission(
+    public ResponseEntity<MailCampaignStatus> sendInvitationForStudentTechnicalDetailsSubmission(
             @PathVariable final UUID courseIterationId) {
-        introCourseService.sendInvitationsForStudentTechnicalDetailsSubmission(courseIterationId);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(introCourseService.sendInvitationsForStudentTechnicalDetailsSubmission(courseIterationId));
     }
 
     @DeleteMapping("/{introCourseParticipationId}/absences/{introCourseAbsenceId}")
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import prompt.ls1.controller.payload.MailCampaignStatus;
 import prompt.ls1.model.StudentPostKickoffSubmission;
 import prompt.ls1.service.StudentPostKickoffSubmissionService;
 
@@ -28,11 +29,10 @@ public class KickoffSubmissionController {
 
     @PostMapping("/invitations")
     @PreAuthorize("hasRole('ipraktikum-pm')")
-    public ResponseEntity<String> sendKickoffSubmissionInvitations(
+    public ResponseEntity<MailCampaignStatus> sendKickoffSubmissionInvitations(
             @RequestParam(name = "courseIteration") final String courseIterationName
     ) {
-        studentPostKickoffSubmissionService.inviteStudentsToKickoffSubmission(courseIterationName);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(studentPostKickoffSubmissionService.inviteStudentsToKickoffSubmission(courseIterationName));
     }
 
     @GetMapping
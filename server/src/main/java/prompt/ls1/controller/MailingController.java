@@ -8,17 +8,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import prompt.ls1.controller.payload.MailCampaignStatus;
+import prompt.ls1.model.CourseIteration;
+import prompt.ls1.service.CourseIterationService;
 import prompt.ls1.service.MailingService;
 
+import java.util.List;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/mailing")
 public class MailingController {
     private final MailingService mailingService;
+    private final CourseIterationService courseIterationService;
 
     @Autowired
-    public MailingController(final MailingService mailingService) {
+    public MailingController(final MailingService mailingService,
+                             final CourseIterationService courseIterationService) {
         this.mailingService = mailingService;
+        this.courseIterationService = courseIterationService;
     }
 
     @GetMapping("/templates/{filename}")
@@ -34,4 +44,18 @@ public class MailingController {
         mailingService.updateMailTemplate(filename, template);
         return ResponseEntity.ok("Template updated successfully");
     }
+
+    @GetMapping("/campaigns")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<List<MailCampaignStatus>> getMailCampaigns(
+            @RequestParam(name = "courseIteration") final String courseIterationName) {
+        final CourseIteration courseIteration = courseIterationService.findBySemesterName(courseIterationName);
+        return ResponseEntity.ok(mailingService.findCampaignStatusesByCourseIteration(courseIteration));
+    }
+
+    @GetMapping("/campaigns/{campaignId}")
+    @PreAuthorize("hasRole('ipraktikum-pm')")
+    public ResponseEntity<MailCampaignStatus> getMailCampaign(@PathVariable final UUID campaignId) {
+        return ResponseEntity.ok(mailingService.findCampaignStatus(campaignId));
+    }
 }
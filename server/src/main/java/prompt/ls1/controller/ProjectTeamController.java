@@ -5,6 +5,7 @@ import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +24,7 @@ import prompt.ls1.model.DeveloperApplication;
 import prompt.ls1.model.ProjectTeam;
 import prompt.ls1.service.ApplicationService;
 import prompt.ls1.service.CourseIterationService;
+import prompt.ls1.service.EntityTags;
 import prompt.ls1.service.ProjectTeamService;
 
 import java.util.List;
@@ -65,9 +68,13 @@ public class ProjectTeamController {
 
     @PatchMapping(path = "/{projectTeamId}", consumes = "application/json-path+json")
     @PreAuthorize("hasRole('ipraktikum-pm')")
-    public ResponseEntity<ProjectTeam> updateProjectTeam(@PathVariable UUID projectTeamId, @RequestBody JsonPatch patchProjectTeam)
+    public ResponseEntity<ProjectTeam> updateProjectTeam(@PathVariable UUID projectTeamId, @RequestBody JsonPatch patchProjectTeam,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final Optional<String> ifMatch)
                         throws JsonPatchException, JsonProcessingException{
-        return ResponseEntity.ok(projectTeamService.update(projectTeamId, patchProjectTeam));
+        final ProjectTeam projectTeam = projectTeamService.update(projectTeamId, patchProjectTeam, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(projectTeam.getId(), projectTeam.getVersion()))
+                .body(projectTeam);
     }
 
     @DeleteMapping(path = "/{projectTeamId}")
@@ -9,10 +9,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import prompt.ls1.config.JsonStreamWriter;
 import prompt.ls1.integration.tease.model.Allocation;
 import prompt.ls1.integration.tease.model.Project;
 import prompt.ls1.integration.tease.model.Skill;
-import prompt.ls1.integration.tease.model.Student;
 import prompt.ls1.integration.tease.service.TeaseIntegrationService;
 
 import java.util.List;
@@ -24,10 +25,13 @@ import java.util.UUID;
 @PreAuthorize("hasRole('ipraktikum-pm')")
 public class TeaseIntegrationController {
     private final TeaseIntegrationService teaseIntegrationService;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @Autowired
-    public TeaseIntegrationController(final TeaseIntegrationService teaseIntegrationService) {
+    public TeaseIntegrationController(final TeaseIntegrationService teaseIntegrationService,
+                                      final JsonStreamWriter jsonStreamWriter) {
         this.teaseIntegrationService = teaseIntegrationService;
+        this.jsonStreamWriter = jsonStreamWriter;
     }
 
     @GetMapping("/course-iterations/{courseIterationId}/projects")
@@ -36,8 +40,8 @@ public class TeaseIntegrationController {
     }
 
     @GetMapping("/course-iterations/{courseIterationId}/students")
-    public ResponseEntity<List<Student>> getStudents(@PathVariable final UUID courseIterationId) {
-        return ResponseEntity.ok(teaseIntegrationService.getStudents(courseIterationId));
+    public ResponseEntity<StreamingResponseBody> getStudents(@PathVariable final UUID courseIterationId) {
+        return jsonStreamWriter.stream(() -> teaseIntegrationService.streamStudents(courseIterationId));
     }
 
     @GetMapping("/course-iterations/{courseIterationId}/skills")
@@ -1,19 +1,17 @@
 package prompt.ls1.controller;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
 import jakarta.mail.MessagingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import prompt.ls1.config.JsonStreamWriter;
 import prompt.ls1.controller.payload.ThesisApplicationAssessment;
 import prompt.ls1.model.ThesisAdvisor;
 import prompt.ls1.model.ThesisApplication;
@@ -21,7 +19,6 @@ import prompt.ls1.service.MailingService;
 import prompt.ls1.service.ThesisApplicationService;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,25 +26,23 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/thesis-applications")
 public class ThesisApplicationController {
-    private final Bucket bucket;
     private final ThesisApplicationService thesisApplicationService;
     private final MailingService mailingService;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @Autowired
     public ThesisApplicationController(final ThesisApplicationService thesisApplicationService,
-                                       final MailingService mailingService) {
-        Bandwidth limit = Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1)));
-        this.bucket = Bucket.builder()
-                .addLimit(limit)
-                .build();
+                                       final MailingService mailingService,
+                                       final JsonStreamWriter jsonStreamWriter) {
         this.thesisApplicationService = thesisApplicationService;
         this.mailingService = mailingService;
+        this.jsonStreamWriter = jsonStreamWriter;
     }
 
     @GetMapping
     @PreAuthorize("hasRole('chair-member') || hasRole('prompt-admin')")
-    public ResponseEntity<List<ThesisApplication>> getAll() {
-        return ResponseEntity.ok(thesisApplicationService.getAll());
+    public ResponseEntity<StreamingResponseBody> getAll() {
+        return jsonStreamWriter.stream(thesisApplicationService::streamAll);
     }
 
     @GetMapping("/not-assessed")
@@ -88,16 +83,11 @@ public class ThesisApplicationController {
                                                     @RequestPart(value = "examinationReport") final MultipartFile examinationReport,
                                                     @RequestPart(value = "cv") final MultipartFile cv,
                                                     @RequestPart(value = "bachelorReport", required = false) final MultipartFile bachelorReport) throws MessagingException, IOException {
-        if (bucket.tryConsume(1)) {
-            final ThesisApplication application = thesisApplicationService
-                    .create(thesisApplication, examinationReport, cv, bachelorReport);
-            mailingService.thesisApplicationCreatedEmail(application.getStudent(), application);
-            mailingService.sendThesisApplicationConfirmationEmail(application.getStudent(), application);
-            return ResponseEntity.ok(application);
-        }
-
-        log.error("Post request on /thesis-applications was rejected due to exceeded request velocity.");
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        final ThesisApplication application = thesisApplicationService
+                .create(thesisApplication, examinationReport, cv, bachelorReport);
+        mailingService.thesisApplicationCreatedEmail(application.getStudent(), application);
+        mailingService.sendThesisApplicationConfirmationEmail(application.getStudent(), application);
+        return ResponseEntity.ok(application);
     }
 
     @PostMapping("/{thesisApplicationId}/assessment")
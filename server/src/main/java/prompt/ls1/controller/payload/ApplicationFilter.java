@@ -0,0 +1,19 @@
+package prompt.ls1.controller.payload;
+
+import lombok.Getter;
+import lombok.Setter;
+import prompt.ls1.model.enums.ApplicationStatus;
+import prompt.ls1.model.enums.StudyProgram;
+
+import java.util.Set;
+
+@Getter
+@Setter
+public class ApplicationFilter {
+    private Set<ApplicationStatus> statuses;
+    private Set<StudyProgram> studyPrograms;
+    private Short minSemester;
+    private Short maxSemester;
+    private Integer minScore;
+    private Integer maxScore;
+}
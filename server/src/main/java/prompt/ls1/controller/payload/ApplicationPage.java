@@ -0,0 +1,13 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ApplicationPage<T> {
+    private List<T> applications;
+    private String nextCursor;
+}
@@ -0,0 +1,49 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import prompt.ls1.exception.ResourceInvalidParametersException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token of a keyset paginated application listing. It stores the sort key
+ * and the id of the last returned row, so the next page can be fetched with a range predicate.
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationPageCursor {
+    private ApplicationSortField sortBy;
+    private Sort.Direction direction;
+    private UUID id;
+    private String sortValue;
+
+    public String encode() {
+        final String token = String.format("%s:%s:%s:%s", sortBy, direction, id, sortValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ApplicationPageCursor decode(final String cursor) {
+        try {
+            final String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = token.split(":", 4);
+            final ApplicationSortField sortBy = ApplicationSortField.valueOf(parts[0]);
+            // Numeric sort keys are parsed here, so that a tampered cursor is rejected as a bad request
+            switch (sortBy) {
+                case ASSESSMENT_SCORE -> Integer.valueOf(parts[3]);
+                case CURRENT_SEMESTER -> Short.valueOf(parts[3]);
+                default -> { }
+            }
+            return new ApplicationPageCursor(
+                    sortBy,
+                    Sort.Direction.valueOf(parts[1]),
+                    UUID.fromString(parts[2]),
+                    parts[3]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new ResourceInvalidParametersException(String.format("Cursor %s is invalid.", cursor));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import prompt.ls1.model.enums.ApplicationStatus;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ApplicationSearchHit {
+    private UUID applicationId;
+    private UUID studentId;
+    private String firstName;
+    private String lastName;
+    private ApplicationStatus status;
+    private double rank;
+    private String snippet;
+}
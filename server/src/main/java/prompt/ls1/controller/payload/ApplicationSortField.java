@@ -0,0 +1,8 @@
+package prompt.ls1.controller.payload;
+
+public enum ApplicationSortField {
+    ID,
+    ASSESSMENT_SCORE,
+    CURRENT_SEMESTER,
+    LAST_NAME
+}
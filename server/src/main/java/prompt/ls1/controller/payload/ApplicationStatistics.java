@@ -0,0 +1,17 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import prompt.ls1.model.enums.ApplicationStatisticsDimension;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ApplicationStatistics {
+    private UUID courseIterationId;
+    private String applicationType;
+    private long total;
+    private Map<ApplicationStatisticsDimension, Map<String, Long>> counts;
+}
@@ -0,0 +1,7 @@
+package prompt.ls1.controller.payload;
+
+public enum ApplicationStatusChangeOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND
+}
@@ -0,0 +1,14 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ApplicationStatusChangeResult {
+    private UUID applicationId;
+    private ApplicationStatusChangeOutcome outcome;
+    private String message;
+}
@@ -0,0 +1,74 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import prompt.ls1.model.enums.ApplicationStatus;
+import prompt.ls1.model.enums.Device;
+import prompt.ls1.model.enums.Gender;
+import prompt.ls1.model.enums.LanguageProficiency;
+import prompt.ls1.model.enums.StudyDegree;
+import prompt.ls1.model.enums.StudyProgram;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Flat read model of an application row as shown in the application tables. It is populated by a
+ * constructor expression, so loading a list never touches the entity graph behind an application.
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationSummary {
+    private UUID id;
+    private UUID courseIterationId;
+    private UUID studentId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String tumId;
+    private String matriculationNumber;
+    private Gender gender;
+    private String nationality;
+    private Boolean isExchangeStudent;
+    private StudyDegree studyDegree;
+    private StudyProgram studyProgram;
+    private Short currentSemester;
+    private LanguageProficiency germanLanguageProficiency;
+    private LanguageProficiency englishLanguageProficiency;
+    private Set<Device> devices;
+    private ApplicationStatus status;
+    private Integer assessmentScore;
+    private Double technicalChallengeProgrammingScore;
+    private Double technicalChallengeQuizScore;
+    private Float finalGrade;
+    private UUID projectTeamId;
+    private String projectTeamName;
+
+    public ApplicationSummary(final UUID id,
+                              final UUID courseIterationId,
+                              final UUID studentId,
+                              final String firstName,
+                              final String lastName,
+                              final String email,
+                              final String tumId,
+                              final String matriculationNumber,
+                              final Gender gender,
+                              final String nationality,
+                              final Boolean isExchangeStudent,
+                              final StudyDegree studyDegree,
+                              final StudyProgram studyProgram,
+                              final Short currentSemester,
+                              final LanguageProficiency germanLanguageProficiency,
+                              final LanguageProficiency englishLanguageProficiency,
+                              final Set<Device> devices,
+                              final ApplicationStatus status,
+                              final Integer assessmentScore,
+                              final Double technicalChallengeProgrammingScore,
+                              final Double technicalChallengeQuizScore,
+                              final Float finalGrade) {
+        this(id, courseIterationId, studentId, firstName, lastName, email, tumId, matriculationNumber, gender,
+                nationality, isExchangeStudent, studyDegree, studyProgram, currentSemester, germanLanguageProficiency,
+                englishLanguageProficiency, devices, status, assessmentScore, technicalChallengeProgrammingScore,
+                technicalChallengeQuizScore, finalGrade, null, null);
+    }
+}
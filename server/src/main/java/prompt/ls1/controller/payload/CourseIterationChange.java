@@ -0,0 +1,16 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CourseIterationChange {
+    private CourseIterationChangeEntity entityType;
+    private UUID entityId;
+    private String status;
+    private String version;
+    private boolean deleted;
+}
@@ -0,0 +1,9 @@
+package prompt.ls1.controller.payload;
+
+public enum CourseIterationChangeEntity {
+    DEVELOPER_APPLICATION,
+    COACH_APPLICATION,
+    TUTOR_APPLICATION,
+    INTRO_COURSE_PARTICIPATION,
+    KICKOFF_SUBMISSION
+}
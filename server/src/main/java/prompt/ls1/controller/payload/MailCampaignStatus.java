@@ -0,0 +1,22 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import prompt.ls1.model.enums.MailCampaignType;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class MailCampaignStatus {
+    private UUID id;
+    private MailCampaignType type;
+    private UUID courseIterationId;
+    private Date createdAt;
+    private long recipients;
+    private long pending;
+    private long sent;
+    private long failed;
+    private Date lastSentAt;
+}
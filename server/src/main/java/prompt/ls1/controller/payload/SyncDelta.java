@@ -0,0 +1,16 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class SyncDelta<T> {
+    private LocalDateTime watermark;
+    private List<T> changed;
+    private List<UUID> deleted;
+}
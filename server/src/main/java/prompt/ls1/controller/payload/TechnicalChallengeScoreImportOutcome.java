@@ -0,0 +1,8 @@
+package prompt.ls1.controller.payload;
+
+public enum TechnicalChallengeScoreImportOutcome {
+    UPDATED,
+    REJECTED,
+    NOT_FOUND,
+    INVALID
+}
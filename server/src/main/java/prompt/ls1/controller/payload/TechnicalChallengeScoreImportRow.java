@@ -0,0 +1,15 @@
+package prompt.ls1.controller.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TechnicalChallengeScoreImportRow {
+    private long rowNumber;
+    private UUID developerApplicationId;
+    private TechnicalChallengeScoreImportOutcome outcome;
+    private String message;
+}
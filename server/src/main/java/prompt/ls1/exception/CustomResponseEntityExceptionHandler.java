@@ -2,6 +2,7 @@ package prompt.ls1.exception;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,13 +36,21 @@ public class CustomResponseEntityExceptionHandler extends ResponseEntityExceptio
     }
 
     @ExceptionHandler(value
-            = { ResourceConflictException.class })
+            = { ResourceConflictException.class, OptimisticLockingFailureException.class })
     protected ResponseEntity<Object> handleConflict(
             RuntimeException ex, WebRequest request) {
         return handleExceptionInternal(ex, ex.getMessage(),
                 new HttpHeaders(), HttpStatus.CONFLICT, request);
     }
 
+    @ExceptionHandler(value
+            = { ResourcePreconditionFailedException.class })
+    protected ResponseEntity<Object> handlePreconditionFailed(
+            RuntimeException ex, WebRequest request) {
+        return handleExceptionInternal(ex, ex.getMessage(),
+                new HttpHeaders(), HttpStatus.PRECONDITION_FAILED, request);
+    }
+
     @ExceptionHandler(value
             = { AccessDeniedException.class })
     protected ResponseEntity<Object> handleAccessDenied(
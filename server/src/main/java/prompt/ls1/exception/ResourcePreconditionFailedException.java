@@ -0,0 +1,8 @@
+package prompt.ls1.exception;
+
+public class ResourcePreconditionFailedException extends RuntimeException {
+
+    public ResourcePreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -19,13 +19,22 @@ import prompt.ls1.service.ProjectTeamService;
 import prompt.ls1.service.SkillService;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class TeaseIntegrationService {
+    private static final EnumSet<ApplicationStatus> EXCLUDED_STATUSES = EnumSet.of(
+            ApplicationStatus.NOT_ASSESSED,
+            ApplicationStatus.PENDING_INTERVIEW,
+            ApplicationStatus.ACCEPTED,
+            ApplicationStatus.DROPPED_OUT,
+            ApplicationStatus.INTRO_COURSE_NOT_PASSED,
+            ApplicationStatus.REJECTED);
+
     private final CourseIterationService courseIterationService;
     private final ApplicationService applicationService;
     private final ProjectTeamService projectTeamService;
@@ -56,27 +65,12 @@ public class TeaseIntegrationService {
         return projectTeams.stream().map(projectTeam -> teaseProjectMapper.toTeaseProject(projectTeam)).toList();
     }
 
-    public List<Student> getStudents(final UUID courseIterationId) {
-        final List<ApplicationStatus> excludedStatus = Arrays.asList(
-                ApplicationStatus.NOT_ASSESSED,
-                ApplicationStatus.PENDING_INTERVIEW,
-                ApplicationStatus.ACCEPTED,
-                ApplicationStatus.DROPPED_OUT,
-                ApplicationStatus.INTRO_COURSE_NOT_PASSED,
-                ApplicationStatus.REJECTED);
-        final List<Application> applications = applicationService
-                .findAllApplicationsByCourseIterationAndApplicationTypeAndApplicationStatus(
-                        courseIterationId,
-                        "developer",
-                        Optional.empty())
-                .stream()
-                .filter(application -> !excludedStatus.contains(application.getAssessment().getStatus()))
-                .toList();
+    public Stream<Student> streamStudents(final UUID courseIterationId) {
         final List<ProjectTeam> projectTeams = projectTeamService.findAllByCourseIterationId(courseIterationId);
 
-        return applications.stream().map(application ->
-            teaseStudentMapper.toTeaseStudent((DeveloperApplication) application, projectTeams)
-        ).toList();
+        return applicationService
+                .streamDeveloperApplicationsByCourseIterationAndStatusIn(courseIterationId, EnumSet.complementOf(EXCLUDED_STATUSES))
+                .map(application -> teaseStudentMapper.toTeaseStudent(application, projectTeams));
     }
 
     public List<Skill> getSkills(final UUID courseIterationId) {
@@ -108,20 +102,13 @@ public class TeaseIntegrationService {
                 assignedStudents.add(studentId);
             });
         });
-        final List<ApplicationStatus> excludedStatus = Arrays.asList(
-                ApplicationStatus.NOT_ASSESSED,
-                ApplicationStatus.PENDING_INTERVIEW,
-                ApplicationStatus.ACCEPTED,
-                ApplicationStatus.DROPPED_OUT,
-                ApplicationStatus.INTRO_COURSE_NOT_PASSED,
-                ApplicationStatus.REJECTED);
         final List<Application> applications = applicationService
                 .findAllApplicationsByCourseIterationAndApplicationTypeAndApplicationStatus(
                         courseIterationId,
                         "developer",
                         Optional.empty())
                 .stream()
-                .filter(application -> !excludedStatus.contains(application.getAssessment().getStatus()))
+                .filter(application -> !EXCLUDED_STATUSES.contains(application.getAssessment().getStatus()))
                 .toList();
         applications.forEach(application -> {
             if (!assignedStudents.contains(((DeveloperApplication) application).getStudent().getId())) {
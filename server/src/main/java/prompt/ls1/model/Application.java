@@ -5,12 +5,16 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import prompt.ls1.model.enums.Course;
 import prompt.ls1.model.enums.Device;
 import prompt.ls1.model.enums.LanguageProficiency;
 import prompt.ls1.model.enums.StudyDegree;
 import prompt.ls1.model.enums.StudyProgram;
 
+import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
 
@@ -23,6 +27,15 @@ public abstract class Application {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    private Long version;
+
+    @CreationTimestamp(source = SourceType.DB)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp(source = SourceType.DB)
+    private LocalDateTime updatedAt;
+
     private UUID courseIterationId;
 
     @Enumerated(EnumType.STRING)
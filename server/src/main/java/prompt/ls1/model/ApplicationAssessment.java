@@ -5,13 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import prompt.ls1.model.enums.ApplicationStatus;
 
-import java.util.Set;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
 @Entity
+@DynamicUpdate
 @Table
 @Builder
 @AllArgsConstructor
@@ -21,15 +26,21 @@ public class ApplicationAssessment {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    private Long version;
+
+    @CreationTimestamp(source = SourceType.DB)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp(source = SourceType.DB)
+    private LocalDateTime updatedAt;
+
     private Integer assessmentScore;
 
     private Double technicalChallengeProgrammingScore;
 
     private Double technicalChallengeQuizScore;
 
-    @OneToMany(fetch = FetchType.EAGER, orphanRemoval = true)
-    private Set<InstructorComment> instructorComments;
-
     @Enumerated(EnumType.STRING)
     @Column(columnDefinition = "application_status")
     private ApplicationStatus status;
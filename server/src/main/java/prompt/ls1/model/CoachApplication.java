@@ -8,40 +8,13 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import org.hibernate.annotations.NamedQueries;
-import org.hibernate.annotations.NamedQuery;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Data
 @Table
 @Entity
+@DynamicUpdate
 @EqualsAndHashCode(callSuper = true)
-@NamedQueries({
-        @NamedQuery(
-                name = "CoachApplication.findEnrolledApplicationsByCourseIterationId",
-                query = "SELECT da FROM CoachApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.ENROLLED"
-        ),
-        @NamedQuery(
-                name = "CoachApplication.findAcceptedApplicationsByCourseIterationId",
-                query = "SELECT da FROM CoachApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.ACCEPTED"
-        ),
-        @NamedQuery(
-                name = "CoachApplication.findRejectedApplicationsByCourseIterationId",
-                query = "SELECT da FROM CoachApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.REJECTED"
-        ),
-        @NamedQuery(
-                name = "CoachApplication.findPendingInterviewApplicationsByCourseIterationId",
-                query = "SELECT da FROM CoachApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.PENDING_INTERVIEW"
-        ),
-        @NamedQuery(
-                name = "CoachApplication.findNotAssessedApplicationsByCourseIterationId",
-                query = "SELECT da FROM CoachApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.NOT_ASSESSED"
-        )
-})
 public class CoachApplication extends Application {
     @ManyToOne
     @JoinColumn(name = "student_id", referencedColumnName = "id")
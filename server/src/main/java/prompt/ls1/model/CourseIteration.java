@@ -2,6 +2,11 @@ package prompt.ls1.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.Date;
 import java.util.Set;
@@ -9,12 +14,26 @@ import java.util.UUID;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course-iteration")
+@DynamicUpdate
 @Table
+@NamedEntityGraph(name = CourseIteration.PHASES_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "phases", subgraph = "phase"),
+        subgraphs = @NamedSubgraph(name = "phase", attributeNodes = {
+                @NamedAttributeNode("coursePhase"),
+                @NamedAttributeNode("checkEntries")
+        }))
 public class CourseIteration {
+    public static final String PHASES_GRAPH = "CourseIteration.phases";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    private Long version;
+
     @Column(unique = true)
     private String semesterName;
 
@@ -68,7 +87,8 @@ public class CourseIteration {
     @Column(columnDefinition = "boolean default false")
     private Boolean projectTeamPreferencesSubmissionOpen;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     @JoinTable(name="course_iteration_phases",
             joinColumns = @JoinColumn(name = "course_iteration_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "phase_id", referencedColumnName = "id"))
@@ -2,6 +2,8 @@ package prompt.ls1.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.Date;
 import java.util.Set;
@@ -25,7 +27,8 @@ public class CourseIterationPhase {
     @Column(columnDefinition = "DATE")
     private Date endDate;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     @JoinTable(name="course_iteration_check_entries",
             joinColumns = @JoinColumn(name = "course_iteration_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "check_entry_id", referencedColumnName = "id"))
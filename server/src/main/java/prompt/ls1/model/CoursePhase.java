@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import prompt.ls1.model.enums.CoursePhaseType;
 
 import java.util.Set;
@@ -13,8 +16,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course-phase")
 @Table(uniqueConstraints = @UniqueConstraint(columnNames = {"sequentialOrder"}))
+@NamedEntityGraph(name = CoursePhase.CHECKS_GRAPH, attributeNodes = @NamedAttributeNode("checks"))
 public class CoursePhase {
+    public static final String CHECKS_GRAPH = "CoursePhase.checks";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -25,7 +33,9 @@ public class CoursePhase {
 
     private CoursePhaseType type;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course-phase")
     @JoinTable(name="course_phase_course_phase_check",
             joinColumns = @JoinColumn(name = "course_phase_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "course_phase_check_id", referencedColumnName = "id"))
@@ -4,55 +4,26 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import org.hibernate.annotations.NamedQueries;
-import org.hibernate.annotations.NamedQuery;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Data
 @Table
 @Entity
+@DynamicUpdate
 @EqualsAndHashCode(callSuper = true)
-@NamedQueries({
-        @NamedQuery(
-                name = "DeveloperApplication.findEnrolledApplicationsByCourseIterationId",
-                query = "SELECT da FROM DeveloperApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.ENROLLED"
-        ),
-        @NamedQuery(
-                name = "DeveloperApplication.findAcceptedApplicationsByCourseIterationId",
-                query = "SELECT da FROM DeveloperApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.ACCEPTED"
-        ),
-        @NamedQuery(
-                name = "DeveloperApplication.findRejectedApplicationsByCourseIterationId",
-                query = "SELECT da FROM DeveloperApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.REJECTED"
-        ),
-        @NamedQuery(
-                name = "DeveloperApplication.findPendingInterviewApplicationsByCourseIterationId",
-                query = "SELECT da FROM DeveloperApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.PENDING_INTERVIEW"
-        ),
-        @NamedQuery(
-                name = "DeveloperApplication.findNotAssessedApplicationsByCourseIterationId",
-                query = "SELECT da FROM DeveloperApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.NOT_ASSESSED"
-        ),
-        @NamedQuery(
-                name = "DeveloperApplication.findIntroCoursePassedApplicationsByCourseIterationId",
-                query = "SELECT da FROM DeveloperApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.INTRO_COURSE_PASSED"
-        ),
-        @NamedQuery(
-                name = "DeveloperApplication.findIntroCourseNotPassedApplicationsByCourseIterationId",
-                query = "SELECT da FROM DeveloperApplication da WHERE da.courseIterationId = :courseIterationId " +
-                        "AND da.assessment.status = prompt.ls1.model.enums.ApplicationStatus.INTRO_COURSE_NOT_PASSED"
-        )
+@NamedEntityGraph(name = DeveloperApplication.POST_KICKOFF_SUBMISSION_GRAPH, attributeNodes = {
+        @NamedAttributeNode("student"),
+        @NamedAttributeNode("studentPostKickOffSubmission")
 })
 public class DeveloperApplication extends Application {
+    public static final String POST_KICKOFF_SUBMISSION_GRAPH = "DeveloperApplication.postKickoffSubmission";
+
     @ManyToOne
     @JoinColumn(name = "student_id", referencedColumnName = "id")
     private Student student;
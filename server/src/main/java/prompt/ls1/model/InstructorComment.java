@@ -17,6 +17,8 @@ public class InstructorComment implements Serializable {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    private UUID assessmentId;
+
     private String author;
 
     @CreationTimestamp
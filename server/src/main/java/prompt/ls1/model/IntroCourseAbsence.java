@@ -11,12 +11,14 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.Date;
 import java.util.UUID;
 
 @Data
 @Entity
+@DynamicUpdate
 @Table
 public class IntroCourseAbsence {
     @AllArgsConstructor
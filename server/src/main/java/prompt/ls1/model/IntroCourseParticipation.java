@@ -5,23 +5,42 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import prompt.ls1.model.enums.SkillProficiency;
 
 import javax.annotation.Nullable;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Data
 @Entity
+@DynamicUpdate
 @Table
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@NamedEntityGraph(name = IntroCourseParticipation.ABSENCES_GRAPH, attributeNodes = @NamedAttributeNode("absences"))
 public class IntroCourseParticipation {
+    public static final String ABSENCES_GRAPH = "IntroCourseParticipation.absences";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    private Long version;
+
+    @CreationTimestamp(source = SourceType.DB)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp(source = SourceType.DB)
+    private LocalDateTime updatedAt;
+
     private UUID courseIterationId;
 
     private UUID tutorId;
@@ -52,7 +71,8 @@ public class IntroCourseParticipation {
 
     private Boolean droppedOut;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = 100)
     @JoinTable(name="intro_course_participation_absence",
             joinColumns = @JoinColumn(name = "intro_course_participation_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "intro_course_absence_id", referencedColumnName = "id"))
@@ -0,0 +1,55 @@
+package prompt.ls1.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import prompt.ls1.model.enums.MailOutboxStatus;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Data
+@Entity
+@Table
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(length = 1000)
+    private String recipients;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "mail_outbox_status")
+    private MailOutboxStatus status;
+
+    private int attempts;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private Date nextAttemptAt;
+
+    @CreationTimestamp
+    @Column(columnDefinition = "TIMESTAMP")
+    private Date createdAt;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private Date sentAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private UUID campaignId;
+
+    private UUID campaignRecipientId;
+}
@@ -3,6 +3,7 @@ package prompt.ls1.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.validator.constraints.Length;
 import prompt.ls1.model.enums.Gender;
 
@@ -12,13 +13,16 @@ import java.util.UUID;
 
 @Data
 @Entity
-@Table(uniqueConstraints = {@UniqueConstraint(columnNames = { "email" }) })
+@DynamicUpdate
 public class Student implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    private Long version;
+
     @Column(length = 50)
     @Length(max = 50)
     private String firstName;
@@ -35,7 +39,7 @@ public class Student implements Serializable {
     private String nationality;
 
     @Email
-    @Column(unique = true, length = 100)
+    @Column(length = 100)
     @Length(max = 100)
     private String email;
 
@@ -3,6 +3,7 @@ package prompt.ls1.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import prompt.ls1.model.enums.SkillProficiency;
 
 import java.io.Serializable;
@@ -21,7 +22,8 @@ public class StudentPostKickoffSubmission implements Serializable {
 
     private SkillProficiency selfReportedExperienceLevel;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = 100)
     @JoinTable(name="student_post_kickoff_submission_student_skill",
             joinColumns = @JoinColumn(name = "student_post_kickoff_submission_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "student_skill_id", referencedColumnName = "id"))
@@ -30,7 +32,8 @@ public class StudentPostKickoffSubmission implements Serializable {
     @Transient
     private Student student;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = 100)
     @JoinTable(name="student_post_kickoff_submission_student_project_team_preference",
             joinColumns = @JoinColumn(name = "student_post_kickoff_submission_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "student_project_team_preferences_id", referencedColumnName = "id"))
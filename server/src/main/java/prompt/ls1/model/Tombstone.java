@@ -0,0 +1,27 @@
+package prompt.ls1.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import prompt.ls1.model.enums.TombstoneEntityType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Entity
+@Table
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tombstone {
+    @Id
+    private UUID entityId;
+
+    @Enumerated(EnumType.STRING)
+    private TombstoneEntityType entityType;
+
+    private UUID courseIterationId;
+
+    private LocalDateTime deletedAt;
+}
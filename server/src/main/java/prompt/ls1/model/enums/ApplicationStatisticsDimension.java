@@ -0,0 +1,5 @@
+package prompt.ls1.model.enums;
+
+public enum ApplicationStatisticsDimension {
+    TOTAL, STATUS, STUDY_PROGRAM, STUDY_DEGREE, GENDER, DEVICE
+}
@@ -0,0 +1,14 @@
+package prompt.ls1.model.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum MailCampaignType {
+    KICKOFF_SUBMISSION_INVITATION("iPraktikum %s Kick-off Project Preferences", "kick-off-submission-invitation"),
+    TECHNICAL_DETAILS_SUBMISSION_INVITATION("iPraktikum %s Technical Details Submission", "technical-details-submission-invitation");
+
+    private final String subject;
+    private final String template;
+}
@@ -0,0 +1,5 @@
+package prompt.ls1.model.enums;
+
+public enum MailOutboxStatus {
+    PENDING, SENT, FAILED
+}
@@ -0,0 +1,5 @@
+package prompt.ls1.model.enums;
+
+public enum TombstoneEntityType {
+    DEVELOPER_APPLICATION, COACH_APPLICATION, TUTOR_APPLICATION, INTRO_COURSE_PARTICIPATION
+}
@@ -0,0 +1,22 @@
+package prompt.ls1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.model.ApplicationAssessment;
+import prompt.ls1.model.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ApplicationAssessmentRepository extends JpaRepository<ApplicationAssessment, UUID> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ApplicationAssessment a set a.status = ?2, a.version = a.version + 1, a.updatedAt = ?3 where a.id in ?1")
+    int updateStatusByIdIn(final Collection<UUID> assessmentIds, final ApplicationStatus status, final LocalDateTime updatedAt);
+}
@@ -0,0 +1,98 @@
+package prompt.ls1.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import prompt.ls1.model.enums.ApplicationStatus;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the developer applications of a course iteration as flat spreadsheet rows. Only the selected columns
+ * are queried and rows are handed out one at a time from a server-side cursor, so exports of any size run in
+ * constant memory. Must be called within a transaction, otherwise the driver materializes the whole result.
+ */
+@Repository
+public class ApplicationExportRepository {
+    private static final int FETCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ApplicationExportRepository(final DataSource dataSource) {
+        final JdbcTemplate cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(cursorJdbcTemplate);
+    }
+
+    public void forEachDeveloperApplication(final UUID courseIterationId,
+                                            final Optional<ApplicationStatus> status,
+                                            final List<ExportColumn> columns,
+                                            final Consumer<Object[]> rowConsumer) {
+        final String sql = "SELECT " + columns.stream().map(ExportColumn::getExpression).collect(Collectors.joining(", ")) + " " +
+                "FROM developer_application a " +
+                "LEFT JOIN student s ON s.id = a.student_id " +
+                "LEFT JOIN application_assessment aa ON aa.id = a.application_assessment_id " +
+                "LEFT JOIN project_team pt ON pt.id = a.project_team_id " +
+                "LEFT JOIN grade g ON g.id = a.grade_id " +
+                "WHERE a.course_iteration_id = :courseIterationId " +
+                (status.isPresent() ? "AND aa.status = CAST(:status AS application_status) " : "") +
+                "ORDER BY s.last_name, s.first_name, a.id";
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("courseIterationId", courseIterationId);
+        status.ifPresent(applicationStatus -> parameters.addValue("status", applicationStatus.name()));
+
+        jdbcTemplate.query(sql, parameters, resultSet -> {
+            final Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = resultSet.getObject(i + 1);
+            }
+            rowConsumer.accept(row);
+        });
+    }
+
+    public enum ExportColumn {
+        APPLICATION_ID("Application ID", "CAST(a.id AS text)"),
+        FIRST_NAME("First Name", "s.first_name"),
+        LAST_NAME("Last Name", "s.last_name"),
+        EMAIL("Email", "s.email"),
+        TUM_ID("TUM ID", "s.tum_id"),
+        MATRICULATION_NUMBER("Matriculation Number", "s.matriculation_number"),
+        GENDER("Gender", "CAST(s.gender AS text)"),
+        NATIONALITY("Nationality", "s.nationality"),
+        STUDY_DEGREE("Study Degree", "CAST(a.study_degree AS text)"),
+        STUDY_PROGRAM("Study Program", "CAST(a.study_program AS text)"),
+        CURRENT_SEMESTER("Current Semester", "a.current_semester"),
+        STATUS("Status", "CAST(aa.status AS text)"),
+        ASSESSMENT_SCORE("Assessment Score", "aa.assessment_score"),
+        PROGRAMMING_SCORE("Programming Score", "aa.technical_challenge_programming_score"),
+        QUIZ_SCORE("Quiz Score", "aa.technical_challenge_quiz_score"),
+        PROJECT_TEAM("Project Team", "pt.name"),
+        FINAL_GRADE("Final Grade", "g.grade"),
+        FINAL_GRADE_COMMENT("Final Grade Comment", "g.comment");
+
+        private final String header;
+        private final String expression;
+
+        ExportColumn(final String header, final String expression) {
+            this.header = header;
+            this.expression = expression;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package prompt.ls1.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.ApplicationFilter;
+import prompt.ls1.controller.payload.ApplicationPage;
+import prompt.ls1.controller.payload.ApplicationPageCursor;
+import prompt.ls1.controller.payload.ApplicationSortField;
+import prompt.ls1.model.Application;
+import prompt.ls1.model.ApplicationAssessment;
+import prompt.ls1.model.CoachApplication;
+import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.Student;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keyset paginated listing of developer, coach and tutor applications. Every page is fetched with a single
+ * query ordered by (sort key, id), so the cost of a page does not depend on how deep the client has scrolled.
+ */
+@Repository
+public class ApplicationPageRepository {
+    private static final int MISSING_SCORE = -1;
+    private static final short MISSING_SEMESTER = 0;
+    private static final String MISSING_LAST_NAME = "";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public <T extends Application> ApplicationPage<T> findPage(final Class<T> applicationClass,
+                                                               final UUID courseIterationId,
+                                                               final ApplicationFilter filter,
+                                                               final ApplicationSortField sortBy,
+                                                               final Sort.Direction direction,
+                                                               final Optional<ApplicationPageCursor> cursor,
+                                                               final int pageSize) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<T> root = query.from(applicationClass);
+        final Join<T, Student> student = (Join<T, Student>) root.<T, Student>fetch("student", JoinType.LEFT);
+        final Join<T, ApplicationAssessment> assessment =
+                (Join<T, ApplicationAssessment>) root.<T, ApplicationAssessment>fetch("assessment", JoinType.LEFT);
+        fetchSerializedAssociations(applicationClass, root, student);
+        final Path<UUID> id = root.get("id");
+
+        final List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("courseIterationId"), courseIterationId));
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            predicates.add(assessment.get("status").in(filter.getStatuses()));
+        }
+        if (filter.getStudyPrograms() != null && !filter.getStudyPrograms().isEmpty()) {
+            predicates.add(root.get("studyProgram").in(filter.getStudyPrograms()));
+        }
+        if (filter.getMinSemester() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("currentSemester"), filter.getMinSemester()));
+        }
+        if (filter.getMaxSemester() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("currentSemester"), filter.getMaxSemester()));
+        }
+        if (filter.getMinScore() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(assessment.get("assessmentScore"), filter.getMinScore()));
+        }
+        if (filter.getMaxScore() != null) {
+            predicates.add(cb.lessThanOrEqualTo(assessment.get("assessmentScore"), filter.getMaxScore()));
+        }
+
+        final boolean ascending = direction.isAscending();
+        final Expression<?> sortKey;
+        switch (sortBy) {
+            case ASSESSMENT_SCORE -> {
+                final Expression<Integer> score = cb.coalesce(assessment.get("assessmentScore"), MISSING_SCORE);
+                cursor.ifPresent(c -> predicates.add(after(cb, score, Integer.valueOf(c.getSortValue()), id, c.getId(), ascending)));
+                sortKey = score;
+            }
+            case CURRENT_SEMESTER -> {
+                final Expression<Short> semester = cb.coalesce(root.get("currentSemester"), MISSING_SEMESTER);
+                cursor.ifPresent(c -> predicates.add(after(cb, semester, Short.valueOf(c.getSortValue()), id, c.getId(), ascending)));
+                sortKey = semester;
+            }
+            case LAST_NAME -> {
+                final Expression<String> lastName = cb.coalesce(student.get("lastName"), MISSING_LAST_NAME);
+                cursor.ifPresent(c -> predicates.add(after(cb, lastName, c.getSortValue(), id, c.getId(), ascending)));
+                sortKey = lastName;
+            }
+            default -> {
+                cursor.ifPresent(c -> predicates.add(ascending ? cb.greaterThan(id, c.getId()) : cb.lessThan(id, c.getId())));
+                sortKey = id;
+            }
+        }
+
+        query.multiselect(root, sortKey)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ascending ? cb.asc(sortKey) : cb.desc(sortKey), ascending ? cb.asc(id) : cb.desc(id));
+
+        // One additional row tells whether another page exists without issuing a count query
+        final List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+
+        final List<T> applications = new ArrayList<>();
+        for (int i = 0; i < Math.min(rows.size(), pageSize); i++) {
+            applications.add((T) rows.get(i).get(0));
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            final Tuple last = rows.get(pageSize - 1);
+            nextCursor = new ApplicationPageCursor(sortBy, direction, ((Application) last.get(0)).getId(),
+                    String.valueOf(last.get(1))).encode();
+        }
+
+        return new ApplicationPage<>(applications, nextCursor);
+    }
+
+    /**
+     * Fetches every to-one association that is serialized with a listed application, so that rendering a page
+     * does not issue one query per row. Only to-one associations are joined, so the row limit stays in SQL.
+     */
+    private <T extends Application> void fetchSerializedAssociations(final Class<T> applicationClass,
+                                                                     final Root<T> root,
+                                                                     final Join<T, Student> student) {
+        student.fetch("developmentProfile", JoinType.LEFT);
+        root.fetch("finalGrade", JoinType.LEFT);
+        if (DeveloperApplication.class.isAssignableFrom(applicationClass)) {
+            root.fetch("studentPostKickOffSubmission", JoinType.LEFT);
+        }
+        if (DeveloperApplication.class.isAssignableFrom(applicationClass)
+                || CoachApplication.class.isAssignableFrom(applicationClass)) {
+            root.fetch("projectTeam", JoinType.LEFT).fetch("courseIteration", JoinType.LEFT);
+        }
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate after(final CriteriaBuilder cb,
+                                                              final Expression<Y> sortKey,
+                                                              final Y lastValue,
+                                                              final Path<UUID> id,
+                                                              final UUID lastId,
+                                                              final boolean ascending) {
+        if (ascending) {
+            return cb.or(cb.greaterThan(sortKey, lastValue),
+                    cb.and(cb.equal(sortKey, lastValue), cb.greaterThan(id, lastId)));
+        }
+        return cb.or(cb.lessThan(sortKey, lastValue),
+                cb.and(cb.equal(sortKey, lastValue), cb.lessThan(id, lastId)));
+    }
+}
@@ -0,0 +1,91 @@
+package prompt.ls1.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import prompt.ls1.controller.payload.ApplicationSearchHit;
+import prompt.ls1.model.enums.ApplicationStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Ranked full-text search over the free-text answers of an application. Matching and ranking use the
+ * generated search_vector column and its GIN index; snippets are only built for the rows of the requested page.
+ */
+@Repository
+public class ApplicationSearchRepository {
+    // The answers are HTML escaped before highlighting, so the <mark> tags are the only markup of a snippet
+    private static final String HTML_ESCAPED_TEXT = "replace(replace(replace(replace(replace(concat_ws(' ', %s), " +
+            "'&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '\"', '&quot;'), '''', '&#39;')";
+    private static final String HEADLINE_OPTIONS = "MaxFragments=2, MaxWords=25, MinWords=8, StartSel=<mark>, StopSel=</mark>";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ApplicationSearchRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<ApplicationSearchHit> search(final SearchableApplicationTable table,
+                                             final UUID courseIterationId,
+                                             final Optional<ApplicationStatus> status,
+                                             final String query,
+                                             final int offset,
+                                             final int limit) {
+        final String sql = "SELECT hit.id, s.id AS student_id, s.first_name, s.last_name, aa.status, hit.rank, " +
+                "ts_headline('english', " + String.format(HTML_ESCAPED_TEXT, table.getTextColumns()) + ", hit.query, '" +
+                HEADLINE_OPTIONS + "') AS snippet " +
+                "FROM (SELECT a.id, a.student_id, a.application_assessment_id, q.query, ts_rank(a.search_vector, q.query) AS rank " +
+                "      FROM " + table.getTableName() + " a " +
+                "      CROSS JOIN websearch_to_tsquery('english', :query) AS q(query) " +
+                "      LEFT JOIN application_assessment fa ON fa.id = a.application_assessment_id " +
+                "      WHERE a.course_iteration_id = :courseIterationId AND a.search_vector @@ q.query " +
+                (status.isPresent() ? "AND fa.status = CAST(:status AS application_status) " : "") +
+                "      ORDER BY rank DESC, a.id LIMIT :limit OFFSET :offset) hit " +
+                "JOIN " + table.getTableName() + " a ON a.id = hit.id " +
+                "LEFT JOIN student s ON s.id = hit.student_id " +
+                "LEFT JOIN application_assessment aa ON aa.id = hit.application_assessment_id " +
+                "ORDER BY hit.rank DESC, hit.id";
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("courseIterationId", courseIterationId)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        status.ifPresent(applicationStatus -> parameters.addValue("status", applicationStatus.name()));
+
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> new ApplicationSearchHit(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("student_id", UUID.class),
+                resultSet.getString("first_name"),
+                resultSet.getString("last_name"),
+                resultSet.getString("status") == null ? null : ApplicationStatus.valueOf(resultSet.getString("status")),
+                resultSet.getDouble("rank"),
+                resultSet.getString("snippet")));
+    }
+
+    public enum SearchableApplicationTable {
+        DEVELOPER("developer_application", "a.experience, a.motivation"),
+        COACH("coach_application", "a.experience, a.motivation, a.solved_problem"),
+        TUTOR("tutor_application", "a.experience, a.motivation, a.reason_good_tutor");
+
+        private final String tableName;
+        private final String textColumns;
+
+        SearchableApplicationTable(final String tableName, final String textColumns) {
+            this.tableName = tableName;
+            this.textColumns = textColumns;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public String getTextColumns() {
+            return textColumns;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package prompt.ls1.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.model.enums.ApplicationStatisticsDimension;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per course iteration and application type counters behind the statistics dashboard. Services apply
+ * signed deltas in the transaction that changes an application; {@link #reconcile} recomputes the counters
+ * of an iteration from the application tables to repair any drift.
+ */
+@Repository
+public class ApplicationStatisticsRepository {
+    public static final String MISSING_VALUE = "NONE";
+
+    private static final int BATCH_SIZE = 100;
+    private static final Map<String, String> APPLICATION_TABLES = Map.of(
+            "developer", "developer_application",
+            "coach", "coach_application",
+            "tutor", "tutor_application");
+    private static final Comparator<CounterKey> LOCK_ORDER = Comparator
+            .comparing(CounterKey::courseIterationId)
+            .thenComparing(CounterKey::applicationType)
+            .thenComparing(CounterKey::dimension)
+            .thenComparing(CounterKey::value);
+
+    private static final String INCREMENT = "INSERT INTO application_statistics_counter " +
+            "(course_iteration_id, application_type, dimension, dimension_value, count) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (course_iteration_id, application_type, dimension, dimension_value) " +
+            "DO UPDATE SET count = application_statistics_counter.count + EXCLUDED.count";
+    private static final String FIND = "SELECT dimension, dimension_value, count FROM application_statistics_counter " +
+            "WHERE course_iteration_id = ? AND application_type = ? AND count <> 0";
+    private static final String DELETE = "DELETE FROM application_statistics_counter " +
+            "WHERE course_iteration_id = ? AND application_type = ?";
+    private static final String RECOMPUTE = "INSERT INTO application_statistics_counter " +
+            "(course_iteration_id, application_type, dimension, dimension_value, count) " +
+            "SELECT ?, ?, c.dimension, c.dimension_value, count(*) FROM (" +
+            "  SELECT v.dimension, v.dimension_value FROM %1$s a" +
+            "  LEFT JOIN application_assessment aa ON aa.id = a.application_assessment_id" +
+            "  LEFT JOIN student s ON s.id = a.student_id" +
+            "  CROSS JOIN LATERAL (VALUES" +
+            "    ('TOTAL', 'TOTAL')," +
+            "    ('STATUS', coalesce(aa.status::text, '%2$s'))," +
+            "    ('STUDY_PROGRAM', coalesce(a.study_program::text, '%2$s'))," +
+            "    ('STUDY_DEGREE', coalesce(a.study_degree::text, '%2$s'))," +
+            "    ('GENDER', coalesce(s.gender::text, '%2$s'))" +
+            "  ) AS v(dimension, dimension_value)" +
+            "  WHERE a.course_iteration_id = ?" +
+            "  UNION ALL" +
+            "  SELECT 'DEVICE', d.device::text FROM %1$s a CROSS JOIN unnest(a.devices) AS d(device)" +
+            "  WHERE a.course_iteration_id = ?" +
+            ") c GROUP BY c.dimension, c.dimension_value";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ApplicationStatisticsRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void increment(final Map<CounterKey, Long> deltas) {
+        final List<Map.Entry<CounterKey, Long>> changes = deltas.entrySet()
+                .stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(LOCK_ORDER))
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // Rows are always locked in the same order, so concurrent transitions cannot deadlock on the counters
+        jdbcTemplate.batchUpdate(INCREMENT, changes, BATCH_SIZE, (statement, change) -> {
+            statement.setObject(1, change.getKey().courseIterationId());
+            statement.setString(2, change.getKey().applicationType());
+            statement.setString(3, change.getKey().dimension().name());
+            statement.setString(4, change.getKey().value());
+            statement.setLong(5, change.getValue());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<Counter> findAll(final UUID courseIterationId, final String applicationType) {
+        return jdbcTemplate.query(FIND, (resultSet, rowNumber) -> new Counter(
+                ApplicationStatisticsDimension.valueOf(resultSet.getString("dimension")),
+                resultSet.getString("dimension_value"),
+                resultSet.getLong("count")), courseIterationId, applicationType);
+    }
+
+    @Transactional
+    public void reconcile(final UUID courseIterationId, final String applicationType) {
+        final String table = APPLICATION_TABLES.get(applicationType);
+        if (table == null) {
+            throw new IllegalArgumentException(String.format("Application type %s is not supported.", applicationType));
+        }
+
+        // Blocks incremental writers until the recomputed rows are committed; dashboard reads are not affected
+        jdbcTemplate.execute("LOCK TABLE application_statistics_counter IN EXCLUSIVE MODE");
+        jdbcTemplate.update(DELETE, courseIterationId, applicationType);
+        jdbcTemplate.update(String.format(RECOMPUTE, table, MISSING_VALUE),
+                courseIterationId, applicationType, courseIterationId, courseIterationId);
+    }
+
+    public record CounterKey(UUID courseIterationId,
+                             String applicationType,
+                             ApplicationStatisticsDimension dimension,
+                             String value) {
+    }
+
+    public record Counter(ApplicationStatisticsDimension dimension, String value, long count) {
+    }
+}
@@ -0,0 +1,16 @@
+package prompt.ls1.repository;
+
+import java.util.UUID;
+
+/**
+ * Versions of the rows that make up the representation of an application. Final grades and post-kickoff
+ * submissions are never edited in place, replacing them bumps the application's own version.
+ */
+public record ApplicationVersion(UUID id,
+                                 Long version,
+                                 Long assessmentVersion,
+                                 Long studentVersion,
+                                 Long developmentProfileVersion,
+                                 Long projectTeamVersion,
+                                 Long projectTeamCourseIterationVersion) {
+}
@@ -1,14 +1,22 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.ApplicationSummary;
 import prompt.ls1.model.CoachApplication;
+import prompt.ls1.model.enums.ApplicationStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CoachApplicationRepository extends JpaRepository<CoachApplication, UUID> {
@@ -17,21 +25,50 @@ public interface CoachApplicationRepository extends JpaRepository<CoachApplicati
     List<CoachApplication> findAllByCourseIterationId(final UUID courseIterationId);
 
     @Transactional
-    List<CoachApplication> findEnrolledApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Query(value="select ca from CoachApplication ca where ca.courseIterationId=?1 and ca.updatedAt > ?2")
+    List<CoachApplication> findAllByCourseIterationIdModifiedSince(final UUID courseIterationId, final LocalDateTime modifiedSince);
 
     @Transactional
-    List<CoachApplication> findAcceptedApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Query(value="select ca from CoachApplication ca where ca.courseIterationId=?1 and ca.assessment.status in ?2")
+    List<CoachApplication> findAllByCourseIterationIdAndStatusIn(final UUID courseIterationId, final Collection<ApplicationStatus> statuses);
 
-    @Transactional
-    List<CoachApplication> findRejectedApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<CoachApplication> findNotAssessedApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<CoachApplication> findPendingInterviewApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Transactional(readOnly = true)
+    @Query(value="select new prompt.ls1.controller.payload.ApplicationSummary(" +
+            "ca.id, ca.courseIterationId, s.id, s.firstName, s.lastName, s.email, s.tumId, s.matriculationNumber, " +
+            "s.gender, s.nationality, s.isExchangeStudent, ca.studyDegree, ca.studyProgram, ca.currentSemester, " +
+            "ca.germanLanguageProficiency, ca.englishLanguageProficiency, ca.devices, a.status, " +
+            "a.assessmentScore, a.technicalChallengeProgrammingScore, a.technicalChallengeQuizScore, g.grade, " +
+            "pt.id, pt.name) " +
+            "from CoachApplication ca left join ca.student s left join ca.assessment a left join ca.finalGrade g " +
+            "left join ca.projectTeam pt " +
+            "where ca.courseIterationId=?1 and (?2 is null or a.status=?2)")
+    List<ApplicationSummary> findSummariesByCourseIterationIdAndStatus(final UUID courseIterationId,
+                                                                       final ApplicationStatus status);
 
     @Transactional
     @Query(value="select da from CoachApplication da where da.courseIterationId=?2 and da.student.id=?1")
     Optional<CoachApplication> findByStudentAndCourseIteration(final UUID studentId, final UUID courseIterationId);
+
+    @Query(value="select ca from CoachApplication ca left join fetch ca.student left join fetch ca.assessment " +
+            "where ca.id in ?1")
+    List<CoachApplication> findAllWithStudentByIdIn(final Collection<UUID> coachApplicationIds);
+
+    @Query(value="select new prompt.ls1.repository.ApplicationVersion(ca.id, ca.version, a.version, s.version, dp.version, pt.version, ci.version) " +
+            "from CoachApplication ca left join ca.assessment a left join ca.student s left join s.developmentProfile dp " +
+            "left join ca.projectTeam pt left join pt.courseIteration ci where ca.id=?1")
+    Optional<ApplicationVersion> findVersionById(final UUID coachApplicationId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value="select ca from CoachApplication ca left join fetch ca.student s left join fetch s.developmentProfile " +
+            "left join fetch ca.assessment left join fetch ca.finalGrade " +
+            "left join fetch ca.projectTeam pt left join fetch pt.courseIteration where ca.courseIterationId=?1")
+    Stream<CoachApplication> streamAllByCourseIterationId(final UUID courseIterationId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value="select ca from CoachApplication ca left join fetch ca.student s left join fetch s.developmentProfile " +
+            "join fetch ca.assessment a left join fetch ca.finalGrade " +
+            "left join fetch ca.projectTeam pt left join fetch pt.courseIteration where ca.courseIterationId=?1 and a.status in ?2")
+    Stream<CoachApplication> streamAllByCourseIterationIdAndStatusIn(final UUID courseIterationId, final Collection<ApplicationStatus> statuses);
 }
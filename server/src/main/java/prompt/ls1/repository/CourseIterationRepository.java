@@ -1,7 +1,11 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import prompt.ls1.model.CourseIteration;
@@ -14,33 +18,22 @@ import java.util.UUID;
 @Repository
 public interface CourseIterationRepository extends JpaRepository<CourseIteration, UUID> {
     @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<CourseIteration> findBySemesterName(final String semesterName);
 
-    @Transactional
-    @Query("select s from CourseIteration s where s.developerApplicationPeriodStart <= ?1 and s.developerApplicationPeriodEnd >= ?1")
-    Optional<CourseIteration> findWithApplicationPeriodIncludes(final Date date);
-
-    @Transactional
-    @Query("select s from CourseIteration s where s.coachApplicationPeriodStart <= ?1 and s.coachApplicationPeriodEnd >= ?1")
-    Optional<CourseIteration> findWithCoachApplicationPeriodIncludes(final Date date);
+    @EntityGraph(CourseIteration.PHASES_GRAPH)
+    @Query("select s from CourseIteration s")
+    List<CourseIteration> findAllWithPhases();
 
-    @Transactional
-    @Query("select s from CourseIteration s where s.tutorApplicationPeriodStart <= ?1 and s.tutorApplicationPeriodEnd >= ?1")
-    Optional<CourseIteration> findWithTutorApplicationPeriodIncludes(final Date date);
-
-    @Transactional
-    @Query("select s from CourseIteration s where s.kickoffSubmissionPeriodStart <= ?1 and s.kickoffSubmissionPeriodEnd >= ?1")
-    Optional<CourseIteration> findWithKickoffSubmissionPeriodIncludes(final Date date);
+    @EntityGraph(CourseIteration.PHASES_GRAPH)
+    @Query("select s from CourseIteration s where s.id = ?1")
+    Optional<CourseIteration> findWithPhasesById(final UUID courseIterationId);
 
-    @Query("select s from CourseIteration s where (s.developerApplicationPeriodStart <= ?1 and s.developerApplicationPeriodEnd >= ?2)" +
-            " or (s.developerApplicationPeriodStart >= ?1 and s.developerApplicationPeriodEnd <= ?2)" +
-            " or (s.developerApplicationPeriodStart <= ?1 and s.developerApplicationPeriodEnd >= ?1)" +
-            " or (s.developerApplicationPeriodStart >= ?1 and s.developerApplicationPeriodStart <= ?2)")
-    List<CourseIteration> findWithApplicationPeriodOverlap(final Date startDate, final Date endDate);
+    @Query(value = "SELECT semester_name FROM course_iteration WHERE developer_application_period_start <= CAST(?2 AS date) " +
+            "AND developer_application_period_end >= CAST(?1 AS date) LIMIT 1", nativeQuery = true)
+    Optional<String> findSemesterNameByDeveloperApplicationPeriodOverlapping(final Date start, final Date end);
 
-    @Query("select s from CourseIteration s where (s.kickoffSubmissionPeriodStart <= ?1 and s.kickoffSubmissionPeriodEnd >= ?2)" +
-            " or (s.kickoffSubmissionPeriodStart >= ?1 and s.kickoffSubmissionPeriodEnd <= ?2)" +
-            " or (s.kickoffSubmissionPeriodStart <= ?1 and s.kickoffSubmissionPeriodEnd >= ?1)" +
-            " or (s.kickoffSubmissionPeriodStart >= ?1 and s.kickoffSubmissionPeriodStart <= ?2)")
-    List<CourseIteration> findWithKickoffSubmissionPeriodOverlap(final Date startDate, final Date endDate);
+    @Query(value = "SELECT semester_name FROM course_iteration WHERE kickoff_submission_period_start <= CAST(?2 AS date) " +
+            "AND kickoff_submission_period_end >= CAST(?1 AS date) LIMIT 1", nativeQuery = true)
+    Optional<String> findSemesterNameByKickoffSubmissionPeriodOverlapping(final Date start, final Date end);
 }
@@ -1,9 +1,11 @@
 package prompt.ls1.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import prompt.ls1.model.CoursePhase;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,12 @@ import java.util.UUID;
 public interface CoursePhaseRepository extends JpaRepository<CoursePhase, UUID> {
 
     Optional<CoursePhase> findBySequentialOrder(final Integer sequentialOrder);
+
+    @Override
+    @EntityGraph(CoursePhase.CHECKS_GRAPH)
+    List<CoursePhase> findAll();
+
+    @Override
+    @EntityGraph(CoursePhase.CHECKS_GRAPH)
+    Optional<CoursePhase> findById(final UUID coursePhaseId);
 }
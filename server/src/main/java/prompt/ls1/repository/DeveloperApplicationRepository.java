@@ -1,14 +1,23 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.ApplicationSummary;
 import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.enums.ApplicationStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface DeveloperApplicationRepository extends JpaRepository<DeveloperApplication, UUID> {
@@ -18,25 +27,32 @@ public interface DeveloperApplicationRepository extends JpaRepository<DeveloperA
     List<DeveloperApplication> findAllByCourseIterationId(final UUID courseIterationId);
 
     @Transactional
-    List<DeveloperApplication> findEnrolledApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Query(value="select da from DeveloperApplication da where da.courseIterationId=?1 and da.updatedAt > ?2")
+    List<DeveloperApplication> findAllByCourseIterationIdModifiedSince(final UUID courseIterationId, final LocalDateTime modifiedSince);
 
     @Transactional
-    List<DeveloperApplication> findAcceptedApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Query(value="select da from DeveloperApplication da where da.courseIterationId=?1 and da.assessment.status in ?2")
+    List<DeveloperApplication> findAllByCourseIterationIdAndStatusIn(final UUID courseIterationId, final Collection<ApplicationStatus> statuses);
 
     @Transactional
-    List<DeveloperApplication> findRejectedApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<DeveloperApplication> findNotAssessedApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<DeveloperApplication> findPendingInterviewApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<DeveloperApplication> findIntroCoursePassedApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<DeveloperApplication> findIntroCourseNotPassedApplicationsByCourseIterationId(final UUID courseIterationId);
+    @EntityGraph(DeveloperApplication.POST_KICKOFF_SUBMISSION_GRAPH)
+    @Query(value="select da from DeveloperApplication da where da.courseIterationId=?1 and da.assessment.status in ?2 " +
+            "and da.studentPostKickOffSubmission is not null")
+    List<DeveloperApplication> findAllWithPostKickoffSubmissionByCourseIterationIdAndStatusIn(final UUID courseIterationId,
+                                                                                          final Collection<ApplicationStatus> statuses);
+
+    @Transactional(readOnly = true)
+    @Query(value="select new prompt.ls1.controller.payload.ApplicationSummary(" +
+            "da.id, da.courseIterationId, s.id, s.firstName, s.lastName, s.email, s.tumId, s.matriculationNumber, " +
+            "s.gender, s.nationality, s.isExchangeStudent, da.studyDegree, da.studyProgram, da.currentSemester, " +
+            "da.germanLanguageProficiency, da.englishLanguageProficiency, da.devices, a.status, " +
+            "a.assessmentScore, a.technicalChallengeProgrammingScore, a.technicalChallengeQuizScore, g.grade, " +
+            "pt.id, pt.name) " +
+            "from DeveloperApplication da left join da.student s left join da.assessment a left join da.finalGrade g " +
+            "left join da.projectTeam pt " +
+            "where da.courseIterationId=?1 and (?2 is null or a.status=?2)")
+    List<ApplicationSummary> findSummariesByCourseIterationIdAndStatus(final UUID courseIterationId,
+                                                                       final ApplicationStatus status);
 
     @Transactional
     @Query(value="select da from DeveloperApplication da where da.student.id=?1")
@@ -52,4 +68,22 @@ public interface DeveloperApplicationRepository extends JpaRepository<DeveloperA
     @Query(value="select da from DeveloperApplication da where da.courseIterationId=?2 and da.student.id=?1")
     Optional<DeveloperApplication> findByStudentAndCourseIteration(final UUID studentId, final UUID courseIterationId);
 
+    @Query(value="select new prompt.ls1.repository.ApplicationVersion(da.id, da.version, a.version, s.version, dp.version, pt.version, ci.version) " +
+            "from DeveloperApplication da left join da.assessment a left join da.student s left join s.developmentProfile dp " +
+            "left join da.projectTeam pt left join pt.courseIteration ci where da.id=?1")
+    Optional<ApplicationVersion> findVersionById(final UUID developerApplicationId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value="select da from DeveloperApplication da left join fetch da.student s left join fetch s.developmentProfile " +
+            "left join fetch da.assessment left join fetch da.finalGrade left join fetch da.studentPostKickOffSubmission " +
+            "left join fetch da.projectTeam pt left join fetch pt.courseIteration where da.courseIterationId=?1")
+    Stream<DeveloperApplication> streamAllByCourseIterationId(final UUID courseIterationId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value="select da from DeveloperApplication da left join fetch da.student s left join fetch s.developmentProfile " +
+            "join fetch da.assessment a left join fetch da.finalGrade left join fetch da.studentPostKickOffSubmission " +
+            "left join fetch da.projectTeam pt left join fetch pt.courseIteration where da.courseIterationId=?1 and a.status in ?2")
+    Stream<DeveloperApplication> streamAllByCourseIterationIdAndStatusIn(final UUID courseIterationId, final Collection<ApplicationStatus> statuses);
 }
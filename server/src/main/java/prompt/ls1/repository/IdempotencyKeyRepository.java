@@ -0,0 +1,99 @@
+package prompt.ls1.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Responses to requests carrying an Idempotency-Key, shared by all server instances. A request claims its key with
+ * a single upsert, which only takes over entries that expired or whose request was abandoned while in flight.
+ */
+@Repository
+public class IdempotencyKeyRepository {
+    private static final String CLAIM = "INSERT INTO idempotency_key AS k (idempotency_key, request_hash, claimed_at, expires_at) " +
+            "VALUES (:key, :requestHash, now(), now() + :ttlSeconds * INTERVAL '1 second') " +
+            "ON CONFLICT (idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, status = NULL, " +
+            "content_type = NULL, location = NULL, etag = NULL, body = NULL, " +
+            "claimed_at = EXCLUDED.claimed_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE k.expires_at <= now() " +
+            "OR (k.status IS NULL AND k.claimed_at <= now() - :abandonedAfterSeconds * INTERVAL '1 second') " +
+            "RETURNING k.idempotency_key";
+    private static final String FIND = "SELECT request_hash, status, content_type, location, etag, body " +
+            "FROM idempotency_key WHERE idempotency_key = :key AND expires_at > now()";
+    private static final String COMPLETE = "UPDATE idempotency_key SET status = :status, content_type = :contentType, " +
+            "location = :location, etag = :etag, body = :body " +
+            "WHERE idempotency_key = :key AND request_hash = :requestHash AND status IS NULL";
+    private static final String RELEASE = "DELETE FROM idempotency_key " +
+            "WHERE idempotency_key = :key AND request_hash = :requestHash AND status IS NULL";
+    private static final String DELETE_EXPIRED = "DELETE FROM idempotency_key WHERE expires_at <= now()";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public IdempotencyKeyRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims the key for the calling request and returns whether it succeeded. If it did not, an earlier request
+     * with the same key is either still in flight or its response is stored.
+     */
+    public boolean claim(final String key, final String requestHash, final Duration ttl, final Duration abandonedAfter) {
+        return !jdbcTemplate.queryForList(CLAIM, new MapSqlParameterSource()
+                        .addValue("key", key)
+                        .addValue("requestHash", requestHash)
+                        .addValue("ttlSeconds", ttl.toSeconds())
+                        .addValue("abandonedAfterSeconds", abandonedAfter.toSeconds()),
+                String.class).isEmpty();
+    }
+
+    public Optional<StoredRequest> findByKey(final String key) {
+        return jdbcTemplate.query(FIND, new MapSqlParameterSource("key", key), (resultSet, rowNumber) -> {
+                    final int status = resultSet.getInt("status");
+                    final boolean inFlight = resultSet.wasNull();
+                    return new StoredRequest(resultSet.getString("request_hash"), inFlight ? null :
+                            new StoredResponse(status,
+                                    resultSet.getString("content_type"),
+                                    resultSet.getString("location"),
+                                    resultSet.getString("etag"),
+                                    resultSet.getBytes("body")));
+                })
+                .stream()
+                .findFirst();
+    }
+
+    public void complete(final String key, final String requestHash, final StoredResponse response) {
+        jdbcTemplate.update(COMPLETE, new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("requestHash", requestHash)
+                .addValue("status", response.status())
+                .addValue("contentType", response.contentType(), Types.VARCHAR)
+                .addValue("location", response.location(), Types.VARCHAR)
+                .addValue("etag", response.etag(), Types.VARCHAR)
+                .addValue("body", response.body(), Types.BINARY));
+    }
+
+    /**
+     * Drops the claim of a request that failed, so that the client can retry it with the same key.
+     */
+    public void release(final String key, final String requestHash) {
+        jdbcTemplate.update(RELEASE, new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("requestHash", requestHash));
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED, new MapSqlParameterSource());
+    }
+
+    public record StoredRequest(String requestHash, StoredResponse response) {
+    }
+
+    public record StoredResponse(int status, String contentType, String location, String etag, byte[] body) {
+    }
+}
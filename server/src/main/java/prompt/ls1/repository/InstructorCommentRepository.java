@@ -1,10 +1,73 @@
 package prompt.ls1.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import prompt.ls1.model.InstructorComment;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Append-only instructor comments of an application assessment. Comments are addressed through the application
+ * they belong to, so appending one is a single INSERT ... SELECT and reading a page never loads the application.
+ */
 @Repository
-public interface InstructorCommentRepository extends JpaRepository<InstructorComment, UUID> {}
+public class InstructorCommentRepository {
+    public static final Map<String, String> APPLICATION_TABLES = Map.of(
+            "developer", "developer_application",
+            "coach", "coach_application",
+            "tutor", "tutor_application");
+
+    private static final String APPEND = "INSERT INTO instructor_comment (id, assessment_id, author, text, timestamp) " +
+            "SELECT :id, a.application_assessment_id, :author, :text, :timestamp FROM %s a " +
+            "WHERE a.id = :applicationId AND a.application_assessment_id IS NOT NULL RETURNING assessment_id";
+    private static final String FIND_PAGE = "SELECT c.id, c.assessment_id, c.author, c.text, c.timestamp " +
+            "FROM %s a JOIN instructor_comment c ON c.assessment_id = a.application_assessment_id " +
+            "WHERE a.id = :applicationId ORDER BY c.timestamp, c.id LIMIT :limit OFFSET :offset";
+
+    private static final RowMapper<InstructorComment> INSTRUCTOR_COMMENT_MAPPER = (rs, rowNum) -> {
+        final InstructorComment instructorComment = new InstructorComment();
+        instructorComment.setId(rs.getObject("id", UUID.class));
+        instructorComment.setAssessmentId(rs.getObject("assessment_id", UUID.class));
+        instructorComment.setAuthor(rs.getString("author"));
+        instructorComment.setText(rs.getString("text"));
+        instructorComment.setTimestamp(rs.getTimestamp("timestamp"));
+        return instructorComment;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InstructorCommentRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the id of the assessment the comment was appended to, or an empty optional if the application
+     * does not exist or has no assessment yet.
+     */
+    public Optional<UUID> append(final String applicationType, final UUID applicationId, final InstructorComment instructorComment) {
+        return jdbcTemplate.queryForList(String.format(APPEND, APPLICATION_TABLES.get(applicationType)), new MapSqlParameterSource()
+                .addValue("id", instructorComment.getId())
+                .addValue("author", instructorComment.getAuthor())
+                .addValue("text", instructorComment.getText())
+                .addValue("timestamp", new Timestamp(instructorComment.getTimestamp().getTime()))
+                .addValue("applicationId", applicationId), UUID.class).stream().findFirst();
+    }
+
+    public List<InstructorComment> findPage(final String applicationType,
+                                            final UUID applicationId,
+                                            final int offset,
+                                            final int limit) {
+        return jdbcTemplate.query(String.format(FIND_PAGE, APPLICATION_TABLES.get(applicationType)), new MapSqlParameterSource()
+                .addValue("applicationId", applicationId)
+                .addValue("limit", limit)
+                .addValue("offset", offset), INSTRUCTOR_COMMENT_MAPPER);
+    }
+}
@@ -0,0 +1,41 @@
+package prompt.ls1.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.model.IntroCourseParticipation;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Creates intro course participations in JDBC batches. Rows that already exist for a
+ * (course iteration, student) pair are skipped, so repeated enrollments never create duplicates.
+ */
+@Repository
+public class IntroCourseParticipationBatchRepository {
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_IF_ABSENT = "INSERT INTO intro_course_participation (id, course_iteration_id, student_id) " +
+            "VALUES (?, ?, ?) ON CONFLICT (course_iteration_id, student_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public IntroCourseParticipationBatchRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void insertIfAbsent(final Collection<IntroCourseParticipation> participations) {
+        if (participations.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, participations, BATCH_SIZE, (statement, participation) -> {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setObject(2, participation.getCourseIterationId());
+            statement.setObject(3, participation.getStudent().getId());
+        });
+    }
+}
@@ -1,14 +1,20 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import prompt.ls1.model.IntroCourseParticipation;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface IntroCourseParticipationRepository extends JpaRepository<IntroCourseParticipation, UUID> {
@@ -18,9 +24,27 @@ public interface IntroCourseParticipationRepository extends JpaRepository<IntroC
     @Transactional
     Optional<IntroCourseParticipation> findByCourseIterationIdAndStudentId(final UUID courseIterationId, final UUID studentId);
 
+    @Override
+    @EntityGraph(IntroCourseParticipation.ABSENCES_GRAPH)
+    Optional<IntroCourseParticipation> findById(final UUID introCourseParticipationId);
+
     @Transactional
+    @EntityGraph(IntroCourseParticipation.ABSENCES_GRAPH)
     List<IntroCourseParticipation> findAllByCourseIterationId(final UUID courseIterationId);
 
-    @Query("select p from IntroCourseParticipation p where p.student.tumId = ?1 and p.courseIterationId = ?2")
+    @Transactional
+    @EntityGraph(IntroCourseParticipation.ABSENCES_GRAPH)
+    @Query("select p from IntroCourseParticipation p where p.courseIterationId = ?1 and p.updatedAt > ?2")
+    List<IntroCourseParticipation> findAllByCourseIterationIdModifiedSince(final UUID courseIterationId,
+                                                                          final LocalDateTime modifiedSince);
+
+    @EntityGraph(IntroCourseParticipation.ABSENCES_GRAPH)
+    @Query("select p from IntroCourseParticipation p where lower(p.student.tumId) = lower(trim(?1)) and p.courseIterationId = ?2")
     Optional<IntroCourseParticipation> findByStudentTumIdAndCourseIterationId(final String tumId, final UUID courseIterationId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select p from IntroCourseParticipation p left join fetch p.student s left join fetch s.developmentProfile " +
+            "where p.courseIterationId = ?1")
+    Stream<IntroCourseParticipation> streamAllByCourseIterationId(final UUID courseIterationId);
 }
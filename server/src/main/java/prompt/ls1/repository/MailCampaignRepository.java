@@ -0,0 +1,95 @@
+package prompt.ls1.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import prompt.ls1.controller.payload.MailCampaignStatus;
+import prompt.ls1.model.MailOutboxEntry;
+import prompt.ls1.model.enums.MailCampaignType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bulk mail campaigns of a course iteration. A campaign enqueues at most one outbox entry per recipient, so
+ * sending it again only picks up new recipients and retries failed mails instead of mailing everyone twice.
+ */
+@Repository
+public class MailCampaignRepository {
+    private static final String FIND_OR_CREATE = "INSERT INTO mail_campaign AS c (id, type, course_iteration_id, created_at) " +
+            "VALUES (:id, CAST(:type AS mail_campaign_type), :courseIterationId, now()) " +
+            "ON CONFLICT (type, course_iteration_id) DO UPDATE SET type = c.type " +
+            "RETURNING id";
+    private static final String ENQUEUE = "INSERT INTO mail_outbox_entry AS e " +
+            "(id, recipients, subject, content, status, attempts, next_attempt_at, created_at, campaign_id, campaign_recipient_id) " +
+            "VALUES (:id, :recipients, :subject, :content, 'PENDING', 0, now(), now(), :campaignId, :campaignRecipientId) " +
+            "ON CONFLICT (campaign_id, campaign_recipient_id) DO UPDATE SET recipients = EXCLUDED.recipients, " +
+            "subject = EXCLUDED.subject, content = EXCLUDED.content, status = 'PENDING', attempts = 0, " +
+            "next_attempt_at = now(), last_error = NULL " +
+            "WHERE e.status = 'FAILED'";
+    private static final String FIND_STATUS = "SELECT c.id, c.type, c.course_iteration_id, c.created_at, " +
+            "count(e.id) AS recipients, " +
+            "count(e.id) FILTER (WHERE e.status = 'PENDING') AS pending, " +
+            "count(e.id) FILTER (WHERE e.status = 'SENT') AS sent, " +
+            "count(e.id) FILTER (WHERE e.status = 'FAILED') AS failed, " +
+            "max(e.sent_at) AS last_sent_at " +
+            "FROM mail_campaign c LEFT JOIN mail_outbox_entry e ON e.campaign_id = c.id " +
+            "WHERE %s GROUP BY c.id ORDER BY c.created_at";
+
+    private static final RowMapper<MailCampaignStatus> MAIL_CAMPAIGN_STATUS_MAPPER = (rs, rowNum) -> new MailCampaignStatus(
+            rs.getObject("id", UUID.class),
+            MailCampaignType.valueOf(rs.getString("type")),
+            rs.getObject("course_iteration_id", UUID.class),
+            rs.getTimestamp("created_at"),
+            rs.getLong("recipients"),
+            rs.getLong("pending"),
+            rs.getLong("sent"),
+            rs.getLong("failed"),
+            rs.getTimestamp("last_sent_at"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public MailCampaignRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public UUID findOrCreate(final MailCampaignType type, final UUID courseIterationId) {
+        return jdbcTemplate.queryForObject(FIND_OR_CREATE, new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID())
+                .addValue("type", type.name())
+                .addValue("courseIterationId", courseIterationId), UUID.class);
+    }
+
+    /**
+     * Enqueues the mails of a campaign in one batch and returns the number of mails that were enqueued or
+     * requeued. Mails of recipients that are already pending or sent are left untouched.
+     */
+    public int enqueue(final UUID campaignId, final List<MailOutboxEntry> mailOutboxEntries) {
+        final SqlParameterSource[] batch = mailOutboxEntries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", UUID.randomUUID())
+                        .addValue("recipients", entry.getRecipients())
+                        .addValue("subject", entry.getSubject())
+                        .addValue("content", entry.getContent())
+                        .addValue("campaignId", campaignId)
+                        .addValue("campaignRecipientId", entry.getCampaignRecipientId()))
+                .toArray(SqlParameterSource[]::new);
+        return Arrays.stream(jdbcTemplate.batchUpdate(ENQUEUE, batch)).map(count -> Math.max(count, 0)).sum();
+    }
+
+    public Optional<MailCampaignStatus> findStatus(final UUID campaignId) {
+        return jdbcTemplate.query(String.format(FIND_STATUS, "c.id = :campaignId"), new MapSqlParameterSource()
+                .addValue("campaignId", campaignId), MAIL_CAMPAIGN_STATUS_MAPPER).stream().findFirst();
+    }
+
+    public List<MailCampaignStatus> findStatusesByCourseIterationId(final UUID courseIterationId) {
+        return jdbcTemplate.query(String.format(FIND_STATUS, "c.course_iteration_id = :courseIterationId"), new MapSqlParameterSource()
+                .addValue("courseIterationId", courseIterationId), MAIL_CAMPAIGN_STATUS_MAPPER);
+    }
+}
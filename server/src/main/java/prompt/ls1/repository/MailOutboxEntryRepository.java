@@ -0,0 +1,17 @@
+package prompt.ls1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import prompt.ls1.model.MailOutboxEntry;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MailOutboxEntryRepository extends JpaRepository<MailOutboxEntry, UUID> {
+
+    @Query(value = "SELECT * FROM mail_outbox_entry WHERE status = 'PENDING' AND next_attempt_at <= now() " +
+            "ORDER BY next_attempt_at LIMIT ?1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MailOutboxEntry> findDueForUpdate(final int limit);
+}
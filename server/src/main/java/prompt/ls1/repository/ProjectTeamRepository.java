@@ -1,7 +1,10 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import prompt.ls1.model.ProjectTeam;
@@ -15,6 +18,7 @@ public interface ProjectTeamRepository extends JpaRepository<ProjectTeam, UUID>
     Optional<ProjectTeam> findFirstByName(final String projectTeamName);
 
     @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query(value="select pt from ProjectTeam pt where pt.courseIteration.id=?1")
     List<ProjectTeam> findAllByCourseIterationId(final UUID courseIterationId);
 
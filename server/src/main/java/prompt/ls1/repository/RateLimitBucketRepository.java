@@ -0,0 +1,73 @@
+package prompt.ls1.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+/**
+ * Token buckets shared by all server instances. Refilling and consuming a token is a single atomic upsert,
+ * so a rate limit check costs one round trip and never goes through the persistence context.
+ */
+@Repository
+public class RateLimitBucketRepository {
+    private static final String AVAILABLE_TOKENS =
+            "LEAST(:capacity, b.tokens + EXTRACT(EPOCH FROM (now() - b.refilled_at)) * :refillPerSecond)";
+    private static final String TRY_CONSUME = "INSERT INTO rate_limit_bucket AS b (bucket_key, tokens, refilled_at, allowed) " +
+            "VALUES (:bucketKey, :capacity - 1, now(), true) " +
+            "ON CONFLICT (bucket_key) DO UPDATE SET " +
+            "tokens = " + AVAILABLE_TOKENS + " - CASE WHEN " + AVAILABLE_TOKENS + " >= 1 THEN 1 ELSE 0 END, " +
+            "refilled_at = now(), " +
+            "allowed = " + AVAILABLE_TOKENS + " >= 1 " +
+            "RETURNING allowed";
+    private static final String REFILL = "INSERT INTO rate_limit_bucket AS b (bucket_key, tokens, refilled_at, allowed) " +
+            "VALUES (:bucketKey, :capacity, now(), true) " +
+            "ON CONFLICT (bucket_key) DO UPDATE SET tokens = " + AVAILABLE_TOKENS + ", refilled_at = now() " +
+            "RETURNING tokens";
+    private static final String CONSUME = "UPDATE rate_limit_bucket SET tokens = tokens - :tokens, allowed = :tokens > 0 " +
+            "WHERE bucket_key = :bucketKey";
+    private static final String DELETE_IDLE = "DELETE FROM rate_limit_bucket WHERE refilled_at < :idleSince";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RateLimitBucketRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean tryConsume(final String bucketKey, final int capacity, final Duration refillPeriod) {
+        final Boolean allowed = jdbcTemplate.queryForObject(TRY_CONSUME, new MapSqlParameterSource()
+                        .addValue("bucketKey", bucketKey)
+                        .addValue("capacity", (double) capacity)
+                        .addValue("refillPerSecond", capacity * 1000.0 / refillPeriod.toMillis()),
+                Boolean.class);
+        return Boolean.TRUE.equals(allowed);
+    }
+
+    /**
+     * Consumes as many tokens as are available, but at most the requested number, and returns how many were
+     * consumed. The refill locks the bucket row, so concurrent callers wait for each other and never overdraw it.
+     */
+    @Transactional
+    public int tryConsumeUpTo(final String bucketKey, final int requested, final int capacity, final Duration refillPeriod) {
+        final Double tokens = jdbcTemplate.queryForObject(REFILL, new MapSqlParameterSource()
+                        .addValue("bucketKey", bucketKey)
+                        .addValue("capacity", (double) capacity)
+                        .addValue("refillPerSecond", capacity * 1000.0 / refillPeriod.toMillis()),
+                Double.class);
+        final int consumed = (int) Math.min(requested, Math.floor(tokens == null ? 0 : tokens));
+        jdbcTemplate.update(CONSUME, new MapSqlParameterSource()
+                .addValue("bucketKey", bucketKey)
+                .addValue("tokens", consumed));
+        return consumed;
+    }
+
+    public int deleteIdle(final Duration idleFor) {
+        return jdbcTemplate.update(DELETE_IDLE, new MapSqlParameterSource()
+                .addValue("idleSince", new Timestamp(System.currentTimeMillis() - idleFor.toMillis())));
+    }
+}
@@ -0,0 +1,104 @@
+package prompt.ls1.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import prompt.ls1.model.DevelopmentProfile;
+import prompt.ls1.model.Student;
+import prompt.ls1.model.enums.Gender;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves the student behind a submitted application with a single upsert. The statement locks the student
+ * matched by TUM ID or matriculation number (or by email if neither is given) and updates it, or inserts a new
+ * student that falls back to the existing row on an email conflict, so concurrent submissions of the same
+ * student converge on one row instead of racing on the unique indexes.
+ */
+@Repository
+public class StudentResolutionRepository {
+    private static final String TUM_ID = "CAST(:tumId AS varchar)";
+    private static final String MATRICULATION_NUMBER = "CAST(:matriculationNumber AS varchar)";
+    private static final String EMAIL = "CAST(:email AS varchar)";
+    private static final String UPSERT = "WITH matched AS (" +
+            "  SELECT s.id, (s.tum_id IS NOT NULL AND lower(s.tum_id) IS DISTINCT FROM " + TUM_ID + ")" +
+            "    OR (s.matriculation_number IS NOT NULL AND s.matriculation_number IS DISTINCT FROM " + MATRICULATION_NUMBER + ") AS mismatch" +
+            "  FROM student s" +
+            "  WHERE lower(s.tum_id) = " + TUM_ID +
+            "    OR s.matriculation_number = " + MATRICULATION_NUMBER +
+            "    OR (" + TUM_ID + " IS NULL AND " + MATRICULATION_NUMBER + " IS NULL AND lower(s.email) = " + EMAIL + ")" +
+            "  LIMIT 1 FOR UPDATE OF s" +
+            "), updated AS (" +
+            "  UPDATE student s SET gender = CAST(:gender AS gender), first_name = :firstName, last_name = :lastName, email = " + EMAIL + ", version = s.version + 1" +
+            "  FROM matched m WHERE s.id = m.id AND NOT m.mismatch" +
+            "  RETURNING s.*" +
+            "), inserted AS (" +
+            "  INSERT INTO student AS s (id, first_name, last_name, gender, nationality, email, tum_id, matriculation_number, is_exchange_student)" +
+            "  SELECT :id, CAST(:firstName AS varchar), CAST(:lastName AS varchar), CAST(:gender AS gender)," +
+            "    CAST(:nationality AS varchar), " + EMAIL + ", " + TUM_ID + ", " + MATRICULATION_NUMBER + ", CAST(:isExchangeStudent AS boolean)" +
+            "  WHERE NOT EXISTS (SELECT 1 FROM matched)" +
+            "  ON CONFLICT (lower(email)) DO UPDATE SET gender = EXCLUDED.gender, first_name = EXCLUDED.first_name," +
+            "    last_name = EXCLUDED.last_name, tum_id = coalesce(s.tum_id, EXCLUDED.tum_id)," +
+            "    matriculation_number = coalesce(s.matriculation_number, EXCLUDED.matriculation_number), version = s.version + 1" +
+            "  WHERE (s.tum_id IS NULL OR lower(s.tum_id) IS NOT DISTINCT FROM EXCLUDED.tum_id)" +
+            "    AND (s.matriculation_number IS NULL OR s.matriculation_number IS NOT DISTINCT FROM EXCLUDED.matriculation_number)" +
+            "  RETURNING s.*" +
+            ") SELECT * FROM updated UNION ALL SELECT * FROM inserted";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public StudentResolutionRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the canonical student as written by the upsert, or an empty optional if the submitted identifiers
+     * contradict the ones stored for the matched student.
+     */
+    public Optional<Student> upsert(final Student student) {
+        return jdbcTemplate.queryForList(UPSERT, new MapSqlParameterSource()
+                        .addValue("id", UUID.randomUUID())
+                        .addValue("tumId", student.getTumId())
+                        .addValue("matriculationNumber", student.getMatriculationNumber())
+                        .addValue("email", student.getEmail())
+                        .addValue("gender", student.getGender() == null ? null : student.getGender().name())
+                        .addValue("firstName", student.getFirstName())
+                        .addValue("lastName", student.getLastName())
+                        .addValue("nationality", student.getNationality())
+                        .addValue("isExchangeStudent", student.getIsExchangeStudent()),
+                this::mapStudent).stream().findFirst();
+    }
+
+    private Student mapStudent(final ResultSet resultSet, final int rowNumber) throws SQLException {
+        final Student student = new Student();
+        student.setId(resultSet.getObject("id", UUID.class));
+        student.setVersion(resultSet.getLong("version"));
+        student.setFirstName(resultSet.getString("first_name"));
+        student.setLastName(resultSet.getString("last_name"));
+        student.setGender(resultSet.getString("gender") == null ? null : Gender.valueOf(resultSet.getString("gender")));
+        student.setNationality(resultSet.getString("nationality"));
+        student.setEmail(resultSet.getString("email"));
+        student.setTumId(resultSet.getString("tum_id"));
+        student.setMatriculationNumber(resultSet.getString("matriculation_number"));
+        student.setIsExchangeStudent(resultSet.getObject("is_exchange_student", Boolean.class));
+        student.setSuggestedAsCoach(resultSet.getObject("suggested_as_coach", Boolean.class));
+        student.setSuggestedAsTutor(resultSet.getObject("suggested_as_tutor", Boolean.class));
+        student.setBlockedByPm(resultSet.getObject("blocked_by_pm", Boolean.class));
+        student.setReasonForBlockedByPm(resultSet.getString("reason_for_blocked_by_pm"));
+        // A reference keeps the profile untouched when the student is merged, it is only loaded if it is accessed
+        final UUID developmentProfileId = resultSet.getObject("development_profile_id", UUID.class);
+        student.setDevelopmentProfile(developmentProfileId == null ? null :
+                entityManager.getReference(DevelopmentProfile.class, developmentProfileId));
+        return student;
+    }
+}
@@ -1,6 +1,9 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import prompt.ls1.model.ThesisAdvisor;
 
@@ -9,5 +12,6 @@ import java.util.UUID;
 
 @Repository
 public interface ThesisAdvisorRepository extends JpaRepository<ThesisAdvisor, UUID> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<ThesisAdvisor> findByTumId(final String tumId);
 }
@@ -1,15 +1,26 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import prompt.ls1.model.ThesisApplication;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ThesisApplicationRepository extends JpaRepository<ThesisApplication, UUID> {
     @Transactional
     List<ThesisApplication> findAllNotAssessed();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value="select ta from ThesisApplication ta left join fetch ta.student s left join fetch s.developmentProfile " +
+            "left join fetch ta.thesisAdvisor")
+    Stream<ThesisApplication> streamAll();
 }
@@ -0,0 +1,30 @@
+package prompt.ls1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.model.Tombstone;
+import prompt.ls1.model.enums.TombstoneEntityType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, UUID> {
+
+    @Query(value = "select localtimestamp", nativeQuery = true)
+    LocalDateTime findCurrentTimestamp();
+
+    @Query("select t.entityId from Tombstone t where t.courseIterationId = ?1 and t.entityType = ?2 and t.deletedAt > ?3")
+    List<UUID> findEntityIdsDeletedSince(final UUID courseIterationId,
+                                         final TombstoneEntityType entityType,
+                                         final LocalDateTime deletedSince);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Tombstone t where t.deletedAt < ?1")
+    int deleteAllDeletedBefore(final LocalDateTime deletedBefore);
+}
@@ -1,14 +1,22 @@
 package prompt.ls1.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.ApplicationSummary;
 import prompt.ls1.model.TutorApplication;
+import prompt.ls1.model.enums.ApplicationStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TutorApplicationRepository extends JpaRepository<TutorApplication, UUID> {
@@ -17,21 +25,45 @@ public interface TutorApplicationRepository extends JpaRepository<TutorApplicati
     List<TutorApplication> findAllByCourseIterationId(final UUID courseIterationId);
 
     @Transactional
-    List<TutorApplication> findEnrolledApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Query(value="select ta from TutorApplication ta where ta.courseIterationId=?1 and ta.updatedAt > ?2")
+    List<TutorApplication> findAllByCourseIterationIdModifiedSince(final UUID courseIterationId, final LocalDateTime modifiedSince);
 
     @Transactional
-    List<TutorApplication> findAcceptedApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Query(value="select ta from TutorApplication ta where ta.courseIterationId=?1 and ta.assessment.status in ?2")
+    List<TutorApplication> findAllByCourseIterationIdAndStatusIn(final UUID courseIterationId, final Collection<ApplicationStatus> statuses);
 
-    @Transactional
-    List<TutorApplication> findRejectedApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<TutorApplication> findNotAssessedApplicationsByCourseIterationId(final UUID courseIterationId);
-
-    @Transactional
-    List<TutorApplication> findPendingInterviewApplicationsByCourseIterationId(final UUID courseIterationId);
+    @Transactional(readOnly = true)
+    @Query(value="select new prompt.ls1.controller.payload.ApplicationSummary(" +
+            "ta.id, ta.courseIterationId, s.id, s.firstName, s.lastName, s.email, s.tumId, s.matriculationNumber, " +
+            "s.gender, s.nationality, s.isExchangeStudent, ta.studyDegree, ta.studyProgram, ta.currentSemester, " +
+            "ta.germanLanguageProficiency, ta.englishLanguageProficiency, ta.devices, a.status, " +
+            "a.assessmentScore, a.technicalChallengeProgrammingScore, a.technicalChallengeQuizScore, g.grade) " +
+            "from TutorApplication ta left join ta.student s left join ta.assessment a left join ta.finalGrade g " +
+            "where ta.courseIterationId=?1 and (?2 is null or a.status=?2)")
+    List<ApplicationSummary> findSummariesByCourseIterationIdAndStatus(final UUID courseIterationId,
+                                                                       final ApplicationStatus status);
 
     @Transactional
     @Query(value="select da from TutorApplication da where da.courseIterationId=?2 and da.student.id=?1")
     Optional<TutorApplication> findByStudentAndCourseIteration(final UUID studentId, final UUID courseIterationId);
+
+    @Query(value="select ta from TutorApplication ta left join fetch ta.student left join fetch ta.assessment " +
+            "where ta.id in ?1")
+    List<TutorApplication> findAllWithStudentByIdIn(final Collection<UUID> tutorApplicationIds);
+
+    @Query(value="select new prompt.ls1.repository.ApplicationVersion(ta.id, ta.version, a.version, s.version, dp.version, cast(null as Long), cast(null as Long)) " +
+            "from TutorApplication ta left join ta.assessment a left join ta.student s left join s.developmentProfile dp where ta.id=?1")
+    Optional<ApplicationVersion> findVersionById(final UUID tutorApplicationId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value="select ta from TutorApplication ta left join fetch ta.student s left join fetch s.developmentProfile " +
+            "left join fetch ta.assessment left join fetch ta.finalGrade where ta.courseIterationId=?1")
+    Stream<TutorApplication> streamAllByCourseIterationId(final UUID courseIterationId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value="select ta from TutorApplication ta left join fetch ta.student s left join fetch s.developmentProfile " +
+            "join fetch ta.assessment a left join fetch ta.finalGrade where ta.courseIterationId=?1 and a.status in ?2")
+    Stream<TutorApplication> streamAllByCourseIterationIdAndStatusIn(final UUID courseIterationId, final Collection<ApplicationStatus> statuses);
 }
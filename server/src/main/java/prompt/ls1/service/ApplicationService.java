@@ -1,14 +1,23 @@
 package prompt.ls1.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
-import jakarta.mail.MessagingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.ApplicationFilter;
+import prompt.ls1.controller.payload.ApplicationPage;
+import prompt.ls1.controller.payload.ApplicationSearchHit;
+import prompt.ls1.controller.payload.ApplicationPageCursor;
+import prompt.ls1.controller.payload.ApplicationSortField;
+import prompt.ls1.controller.payload.ApplicationStatusChangeOutcome;
+import prompt.ls1.controller.payload.ApplicationStatusChangeResult;
+import prompt.ls1.controller.payload.ApplicationSummary;
+import prompt.ls1.controller.payload.SyncDelta;
 import prompt.ls1.controller.payload.TechnicalChallengeScore;
 import prompt.ls1.exception.AccessDeniedException;
 import prompt.ls1.exception.ResourceConflictException;
@@ -16,54 +25,104 @@ import prompt.ls1.exception.ResourceInvalidParametersException;
 import prompt.ls1.exception.ResourceNotFoundException;
 import prompt.ls1.model.*;
 import prompt.ls1.model.enums.ApplicationStatus;
+import prompt.ls1.model.enums.TombstoneEntityType;
+import prompt.ls1.repository.ApplicationAssessmentRepository;
+import prompt.ls1.repository.ApplicationPageRepository;
+import prompt.ls1.repository.ApplicationExportRepository;
+import prompt.ls1.repository.ApplicationExportRepository.ExportColumn;
+import prompt.ls1.repository.ApplicationSearchRepository;
 import prompt.ls1.repository.CoachApplicationRepository;
 import prompt.ls1.repository.CourseIterationRepository;
 import prompt.ls1.repository.DeveloperApplicationRepository;
 import prompt.ls1.repository.InstructorCommentRepository;
-import prompt.ls1.repository.IntroCourseParticipationRepository;
+import prompt.ls1.repository.IntroCourseParticipationBatchRepository;
 import prompt.ls1.repository.StudentRepository;
 import prompt.ls1.repository.TutorApplicationRepository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class ApplicationService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_RESULTS = 10000;
+
     private final DeveloperApplicationRepository developerApplicationRepository;
     private final TutorApplicationRepository tutorApplicationRepository;
     private final CoachApplicationRepository coachApplicationRepository;
+    private final ApplicationPageRepository applicationPageRepository;
+    private final ApplicationSearchRepository applicationSearchRepository;
+    private final ApplicationExportRepository applicationExportRepository;
     private final CourseIterationRepository courseIterationRepository;
     private final InstructorCommentRepository instructorCommentRepository;
     private final StudentRepository studentRepository;
+    private final StudentResolutionService studentResolutionService;
     private final ProjectTeamService projectTeamService;
-    private final IntroCourseParticipationRepository introCourseParticipationRepository;
+    private final IntroCourseParticipationBatchRepository introCourseParticipationBatchRepository;
+    private final ApplicationAssessmentRepository applicationAssessmentRepository;
     private final MailingService mailingService;
+    private final JsonPatchService jsonPatchService;
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final CourseIterationChangePublisher courseIterationChangePublisher;
+    private final DeltaSyncService deltaSyncService;
 
     @Autowired
     public ApplicationService(
             final DeveloperApplicationRepository developerApplicationRepository,
             final TutorApplicationRepository tutorApplicationRepository,
             final CoachApplicationRepository coachApplicationRepository,
+            final ApplicationPageRepository applicationPageRepository,
+            final ApplicationSearchRepository applicationSearchRepository,
+            final ApplicationExportRepository applicationExportRepository,
             final CourseIterationRepository courseIterationRepository,
             final InstructorCommentRepository instructorCommentRepository,
             final StudentRepository studentRepository,
+            final StudentResolutionService studentResolutionService,
             final ProjectTeamService projectTeamService,
-            final IntroCourseParticipationRepository introCourseParticipationRepository,
-            final MailingService mailingService) {
+            final IntroCourseParticipationBatchRepository introCourseParticipationBatchRepository,
+            final ApplicationAssessmentRepository applicationAssessmentRepository,
+            final MailingService mailingService,
+            final JsonPatchService jsonPatchService,
+            final ApplicationStatisticsService applicationStatisticsService,
+            final CourseIterationChangePublisher courseIterationChangePublisher,
+            final DeltaSyncService deltaSyncService) {
         this.developerApplicationRepository = developerApplicationRepository;
         this.tutorApplicationRepository = tutorApplicationRepository;
         this.coachApplicationRepository = coachApplicationRepository;
+        this.applicationPageRepository = applicationPageRepository;
+        this.applicationSearchRepository = applicationSearchRepository;
+        this.applicationExportRepository = applicationExportRepository;
         this.courseIterationRepository = courseIterationRepository;
         this.instructorCommentRepository = instructorCommentRepository;
         this.studentRepository = studentRepository;
+        this.studentResolutionService = studentResolutionService;
         this.projectTeamService = projectTeamService;
-        this.introCourseParticipationRepository = introCourseParticipationRepository;
+        this.introCourseParticipationBatchRepository = introCourseParticipationBatchRepository;
+        this.applicationAssessmentRepository = applicationAssessmentRepository;
         this.mailingService = mailingService;
+        this.jsonPatchService = jsonPatchService;
+        this.applicationStatisticsService = applicationStatisticsService;
+        this.courseIterationChangePublisher = courseIterationChangePublisher;
+        this.deltaSyncService = deltaSyncService;
+    }
+
+    public String findDeveloperApplicationEntityTag(final UUID developerApplicationId) {
+        return developerApplicationRepository.findVersionById(developerApplicationId)
+                .map(EntityTags::of)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Developer application with id %s not found.", developerApplicationId)));
     }
 
     public DeveloperApplication findDeveloperApplicationById(final UUID developerApplicationId) {
@@ -71,74 +130,186 @@ public class ApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Developer application with id %s not found.", developerApplicationId)));
     }
 
+    public String findCoachApplicationEntityTag(final UUID coachApplicationId) {
+        return coachApplicationRepository.findVersionById(coachApplicationId)
+                .map(EntityTags::of)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Coach application with id %s not found.", coachApplicationId)));
+    }
+
     public CoachApplication findCoachApplicationById(final UUID coachApplicationId) {
         return coachApplicationRepository.findById(coachApplicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Coach application with id %s not found.", coachApplicationId)));
     }
 
+    public String findTutorApplicationEntityTag(final UUID tutorApplicationId) {
+        return tutorApplicationRepository.findVersionById(tutorApplicationId)
+                .map(EntityTags::of)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Tutor application with id %s not found.", tutorApplicationId)));
+    }
+
     public TutorApplication findTutorApplicationById(final UUID tutorApplicationId) {
         return tutorApplicationRepository.findById(tutorApplicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Tutor application with id %s not found.", tutorApplicationId)));
     }
 
+    @Transactional(readOnly = true)
+    public SyncDelta<Application> findApplicationChangesByCourseIteration(final UUID courseIterationId,
+                                                                      final String applicationType,
+                                                                      final LocalDateTime modifiedSince) {
+        return switch (applicationType) {
+            case "developer" -> deltaSyncService.findChanges(courseIterationId, TombstoneEntityType.DEVELOPER_APPLICATION, modifiedSince,
+                    since -> new ArrayList<>(developerApplicationRepository.findAllByCourseIterationIdModifiedSince(courseIterationId, since)));
+            case "coach" -> deltaSyncService.findChanges(courseIterationId, TombstoneEntityType.COACH_APPLICATION, modifiedSince,
+                    since -> new ArrayList<>(coachApplicationRepository.findAllByCourseIterationIdModifiedSince(courseIterationId, since)));
+            case "tutor" -> deltaSyncService.findChanges(courseIterationId, TombstoneEntityType.TUTOR_APPLICATION, modifiedSince,
+                    since -> new ArrayList<>(tutorApplicationRepository.findAllByCourseIterationIdModifiedSince(courseIterationId, since)));
+            default -> throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
+                    applicationType));
+        };
+    }
+
+    @Transactional(readOnly = true)
     public List<Application> findAllApplicationsByCourseIterationAndApplicationTypeAndApplicationStatus(
             final UUID courseIterationId,
             final String applicationType,
             final Optional<ApplicationStatus> applicationStatus
     ) {
-        final List<Application> applications = new ArrayList<>();
-
-        switch (applicationType) {
-            case "developer" -> {
-                if (applicationStatus.isPresent()) {
-                    switch (applicationStatus.get()) {
-                        case ENROLLED -> applications.addAll(developerApplicationRepository.findEnrolledApplicationsByCourseIterationId(courseIterationId));
-                        case ACCEPTED -> applications.addAll(developerApplicationRepository.findAcceptedApplicationsByCourseIterationId(courseIterationId));
-                        case REJECTED -> applications.addAll(developerApplicationRepository.findRejectedApplicationsByCourseIterationId(courseIterationId));
-                        case PENDING_INTERVIEW -> applications.addAll(developerApplicationRepository.findPendingInterviewApplicationsByCourseIterationId(courseIterationId));
-                        case NOT_ASSESSED -> applications.addAll(developerApplicationRepository.findNotAssessedApplicationsByCourseIterationId(courseIterationId));
-                        case INTRO_COURSE_PASSED -> applications.addAll(developerApplicationRepository.findIntroCoursePassedApplicationsByCourseIterationId(courseIterationId));
-                        case INTRO_COURSE_NOT_PASSED -> applications.addAll(developerApplicationRepository.findIntroCourseNotPassedApplicationsByCourseIterationId(courseIterationId));
-                        default -> applications.addAll(developerApplicationRepository.findAllByCourseIterationId(courseIterationId));
-                    }
-                } else {
-                    applications.addAll(developerApplicationRepository.findAllByCourseIterationId(courseIterationId));
-                }
-            }
-            case "coach" -> {
-                if (applicationStatus.isPresent()) {
-                    switch (applicationStatus.get()) {
-                        case ENROLLED -> applications.addAll(coachApplicationRepository.findEnrolledApplicationsByCourseIterationId(courseIterationId));
-                        case ACCEPTED -> applications.addAll(coachApplicationRepository.findAcceptedApplicationsByCourseIterationId(courseIterationId));
-                        case REJECTED -> applications.addAll(coachApplicationRepository.findRejectedApplicationsByCourseIterationId(courseIterationId));
-                        case PENDING_INTERVIEW -> applications.addAll(coachApplicationRepository.findPendingInterviewApplicationsByCourseIterationId(courseIterationId));
-                        case NOT_ASSESSED -> applications.addAll(coachApplicationRepository.findNotAssessedApplicationsByCourseIterationId(courseIterationId));
-                        default -> applications.addAll(coachApplicationRepository.findAllByCourseIterationId(courseIterationId));
-                    }
-                } else {
-                    applications.addAll(coachApplicationRepository.findAllByCourseIterationId(courseIterationId));
-                }
-            }
-            case "tutor" -> {
-                if (applicationStatus.isPresent()) {
-                    switch (applicationStatus.get()) {
-                        case ENROLLED -> applications.addAll(tutorApplicationRepository.findEnrolledApplicationsByCourseIterationId(courseIterationId));
-                        case ACCEPTED -> applications.addAll(tutorApplicationRepository.findAcceptedApplicationsByCourseIterationId(courseIterationId));
-                        case REJECTED -> applications.addAll(tutorApplicationRepository.findRejectedApplicationsByCourseIterationId(courseIterationId));
-                        case PENDING_INTERVIEW -> applications.addAll(tutorApplicationRepository.findPendingInterviewApplicationsByCourseIterationId(courseIterationId));
-                        case NOT_ASSESSED -> applications.addAll(tutorApplicationRepository.findNotAssessedApplicationsByCourseIterationId(courseIterationId));
-                        default -> applications.addAll(tutorApplicationRepository.findAllByCourseIterationId(courseIterationId));
-                    }
-                } else {
-                    applications.addAll(tutorApplicationRepository.findAllByCourseIterationId(courseIterationId));
-                }
-            }
-            default ->
-                    throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
-                            applicationType));
+        final Set<ApplicationStatus> statuses = applicationStatus.map(Set::of).orElse(Set.of());
+
+        return switch (applicationType) {
+            case "developer" -> new ArrayList<>(statuses.isEmpty() ?
+                    developerApplicationRepository.findAllByCourseIterationId(courseIterationId) :
+                    developerApplicationRepository.findAllByCourseIterationIdAndStatusIn(courseIterationId, statuses));
+            case "coach" -> new ArrayList<>(statuses.isEmpty() ?
+                    coachApplicationRepository.findAllByCourseIterationId(courseIterationId) :
+                    coachApplicationRepository.findAllByCourseIterationIdAndStatusIn(courseIterationId, statuses));
+            case "tutor" -> new ArrayList<>(statuses.isEmpty() ?
+                    tutorApplicationRepository.findAllByCourseIterationId(courseIterationId) :
+                    tutorApplicationRepository.findAllByCourseIterationIdAndStatusIn(courseIterationId, statuses));
+            default -> throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
+                    applicationType));
+        };
+    }
+
+    public Supplier<Stream<? extends Application>> streamAllApplicationsByCourseIterationAndApplicationTypeAndApplicationStatus(
+            final UUID courseIterationId,
+            final String applicationType,
+            final Optional<ApplicationStatus> applicationStatus
+    ) {
+        final Set<ApplicationStatus> statuses = applicationStatus.map(Set::of).orElse(Set.of());
+
+        return switch (applicationType) {
+            case "developer" -> () -> statuses.isEmpty() ?
+                    developerApplicationRepository.streamAllByCourseIterationId(courseIterationId) :
+                    developerApplicationRepository.streamAllByCourseIterationIdAndStatusIn(courseIterationId, statuses);
+            case "coach" -> () -> statuses.isEmpty() ?
+                    coachApplicationRepository.streamAllByCourseIterationId(courseIterationId) :
+                    coachApplicationRepository.streamAllByCourseIterationIdAndStatusIn(courseIterationId, statuses);
+            case "tutor" -> () -> statuses.isEmpty() ?
+                    tutorApplicationRepository.streamAllByCourseIterationId(courseIterationId) :
+                    tutorApplicationRepository.streamAllByCourseIterationIdAndStatusIn(courseIterationId, statuses);
+            default -> throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
+                    applicationType));
+        };
+    }
+
+    public Stream<DeveloperApplication> streamDeveloperApplicationsByCourseIterationAndStatusIn(
+            final UUID courseIterationId,
+            final Collection<ApplicationStatus> statuses
+    ) {
+        return developerApplicationRepository.streamAllByCourseIterationIdAndStatusIn(courseIterationId, statuses);
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationPage<? extends Application> findApplicationPageByCourseIteration(
+            final UUID courseIterationId,
+            final String applicationType,
+            final ApplicationFilter filter,
+            final ApplicationSortField sortBy,
+            final Sort.Direction direction,
+            final Optional<String> cursor,
+            final int pageSize
+    ) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResourceInvalidParametersException(String.format("Page size must be between 1 and %d.", MAX_PAGE_SIZE));
         }
 
-        return applications;
+        final Optional<ApplicationPageCursor> decodedCursor = cursor.map(ApplicationPageCursor::decode);
+        if (decodedCursor.isPresent() &&
+                (decodedCursor.get().getSortBy() != sortBy || decodedCursor.get().getDirection() != direction)) {
+            throw new ResourceInvalidParametersException("Cursor does not match the requested sort order.");
+        }
+
+        return switch (applicationType) {
+            case "developer" -> applicationPageRepository.findPage(DeveloperApplication.class, courseIterationId,
+                    filter, sortBy, direction, decodedCursor, pageSize);
+            case "coach" -> applicationPageRepository.findPage(CoachApplication.class, courseIterationId,
+                    filter, sortBy, direction, decodedCursor, pageSize);
+            case "tutor" -> applicationPageRepository.findPage(TutorApplication.class, courseIterationId,
+                    filter, sortBy, direction, decodedCursor, pageSize);
+            default -> throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
+                    applicationType));
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApplicationSearchHit> searchApplicationsByCourseIteration(
+            final UUID courseIterationId,
+            final String applicationType,
+            final Optional<ApplicationStatus> applicationStatus,
+            final String query,
+            final int page,
+            final int pageSize
+    ) {
+        if (query == null || query.isBlank()) {
+            throw new ResourceInvalidParametersException("Search query must not be empty.");
+        }
+        if (page < 0) {
+            throw new ResourceInvalidParametersException("Page must not be negative.");
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResourceInvalidParametersException(String.format("Page size must be between 1 and %d.", MAX_PAGE_SIZE));
+        }
+        if (page > MAX_SEARCH_RESULTS / pageSize) {
+            throw new ResourceInvalidParametersException(String.format("Only the first %d search results can be paged through.",
+                    MAX_SEARCH_RESULTS));
+        }
+
+        final ApplicationSearchRepository.SearchableApplicationTable table = switch (applicationType) {
+            case "developer" -> ApplicationSearchRepository.SearchableApplicationTable.DEVELOPER;
+            case "coach" -> ApplicationSearchRepository.SearchableApplicationTable.COACH;
+            case "tutor" -> ApplicationSearchRepository.SearchableApplicationTable.TUTOR;
+            default -> throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
+                    applicationType));
+        };
+
+        return applicationSearchRepository.search(table, courseIterationId, applicationStatus, query.trim(),
+                page * pageSize, pageSize);
+    }
+
+    public void exportDeveloperApplications(final UUID courseIterationId,
+                                            final Optional<ApplicationStatus> applicationStatus,
+                                            final List<ExportColumn> columns,
+                                            final Consumer<Object[]> rowConsumer) {
+        applicationExportRepository.forEachDeveloperApplication(courseIterationId, applicationStatus, columns, rowConsumer);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApplicationSummary> findApplicationSummariesByCourseIterationAndApplicationTypeAndApplicationStatus(
+            final UUID courseIterationId,
+            final String applicationType,
+            final Optional<ApplicationStatus> applicationStatus
+    ) {
+        return switch (applicationType) {
+            case "developer" -> developerApplicationRepository.findSummariesByCourseIterationIdAndStatus(
+                    courseIterationId, applicationStatus.orElse(null));
+            case "coach" -> coachApplicationRepository.findSummariesByCourseIterationIdAndStatus(
+                    courseIterationId, applicationStatus.orElse(null));
+            case "tutor" -> tutorApplicationRepository.findSummariesByCourseIterationIdAndStatus(
+                    courseIterationId, applicationStatus.orElse(null));
+            default -> throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
+                    applicationType));
+        };
     }
 
     public List<DeveloperApplication> findDeveloperApplicationsByProjectTeamId(final UUID projectTeamId, final Optional<String> managedBy) {
@@ -153,15 +324,9 @@ public class ApplicationService {
         throw new ResourceNotFoundException("Could not find a project team.");
     }
 
-    public DeveloperApplication createDeveloperApplication(final DeveloperApplication developerApplication) {
-        Optional<Student> existingStudent = findStudent(developerApplication.getStudent().getTumId(),
-                developerApplication.getStudent().getMatriculationNumber(), developerApplication.getStudent().getEmail());
-
-        if (existingStudent.isEmpty()) {
-            studentRepository.save(developerApplication.getStudent());
-        } else {
-            developerApplication.setStudent(checkAndUpdateStudent(existingStudent.get(), developerApplication.getStudent()));
-        }
+    @Transactional
+    public DeveloperApplication createDeveloperApplication(final DeveloperApplication developerApplication, final CourseIteration courseIteration) {
+        developerApplication.setStudent(studentResolutionService.resolve(developerApplication.getStudent()));
 
         final Optional<DeveloperApplication> existingDeveloperApplication = developerApplicationRepository.findByStudentAndCourseIteration(
                 developerApplication.getStudent().getId(),
@@ -173,18 +338,17 @@ public class ApplicationService {
 
         developerApplication.setAssessment(ApplicationAssessment.builder().status(ApplicationStatus.NOT_ASSESSED).build());
 
-        return developerApplicationRepository.save(developerApplication);
-    }
+        final DeveloperApplication savedDeveloperApplication = developerApplicationRepository.save(developerApplication);
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().add(savedDeveloperApplication));
+        courseIterationChangePublisher.applicationChanged(savedDeveloperApplication);
+        mailingService.sendDeveloperApplicationConfirmationEmail(savedDeveloperApplication.getStudent(), savedDeveloperApplication, courseIteration);
 
-    public TutorApplication createTutorApplication(final TutorApplication tutorApplication) {
-        Optional<Student> existingStudent = findStudent(tutorApplication.getStudent().getTumId(),
-                tutorApplication.getStudent().getMatriculationNumber(), tutorApplication.getStudent().getEmail());
+        return savedDeveloperApplication;
+    }
 
-        if (existingStudent.isEmpty()) {
-            studentRepository.save(tutorApplication.getStudent());
-        } else {
-            tutorApplication.setStudent(checkAndUpdateStudent(existingStudent.get(), tutorApplication.getStudent()));
-        }
+    @Transactional
+    public TutorApplication createTutorApplication(final TutorApplication tutorApplication, final CourseIteration courseIteration) {
+        tutorApplication.setStudent(studentResolutionService.resolve(tutorApplication.getStudent()));
 
         final Optional<TutorApplication> existingTutorApplication = tutorApplicationRepository.findByStudentAndCourseIteration(
                 tutorApplication.getStudent().getId(),
@@ -196,18 +360,17 @@ public class ApplicationService {
 
         tutorApplication.setAssessment(ApplicationAssessment.builder().status(ApplicationStatus.NOT_ASSESSED).build());
 
-        return tutorApplicationRepository.save(tutorApplication);
-    }
+        final TutorApplication savedTutorApplication = tutorApplicationRepository.save(tutorApplication);
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().add(savedTutorApplication));
+        courseIterationChangePublisher.applicationChanged(savedTutorApplication);
+        mailingService.sendTutorApplicationConfirmationEmail(savedTutorApplication.getStudent(), savedTutorApplication, courseIteration);
 
-    public CoachApplication createCoachApplication(final CoachApplication coachApplication) {
-        Optional<Student> existingStudent = findStudent(coachApplication.getStudent().getTumId(),
-                coachApplication.getStudent().getMatriculationNumber(), coachApplication.getStudent().getEmail());
+        return savedTutorApplication;
+    }
 
-        if (existingStudent.isEmpty()) {
-            studentRepository.save(coachApplication.getStudent());
-        } else {
-            coachApplication.setStudent(checkAndUpdateStudent(existingStudent.get(), coachApplication.getStudent()));
-        }
+    @Transactional
+    public CoachApplication createCoachApplication(final CoachApplication coachApplication, final CourseIteration courseIteration) {
+        coachApplication.setStudent(studentResolutionService.resolve(coachApplication.getStudent()));
 
         final Optional<CoachApplication> existingCoachApplication = coachApplicationRepository.findByStudentAndCourseIteration(
                 coachApplication.getStudent().getId(),
@@ -219,208 +382,270 @@ public class ApplicationService {
 
         coachApplication.setAssessment(ApplicationAssessment.builder().status(ApplicationStatus.NOT_ASSESSED).build());
 
-        return coachApplicationRepository.save(coachApplication);
+        final CoachApplication savedCoachApplication = coachApplicationRepository.save(coachApplication);
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().add(savedCoachApplication));
+        courseIterationChangePublisher.applicationChanged(savedCoachApplication);
+        mailingService.sendCoachApplicationConfirmationEmail(savedCoachApplication.getStudent(), savedCoachApplication, courseIteration);
+
+        return savedCoachApplication;
     }
 
-    public DeveloperApplication updateDeveloperApplication(final UUID developerApplicationId, JsonPatch patchDeveloperApplication)
+    @Transactional
+    public DeveloperApplication updateDeveloperApplication(final UUID developerApplicationId,
+                                                           JsonPatch patchDeveloperApplication,
+                                                           final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
         DeveloperApplication existingApplication = findDeveloperApplicationById(developerApplicationId);
+        EntityTags.checkIfMatch(ifMatch, EntityTags.of(existingApplication));
+        final ApplicationStatisticsDelta statisticsDelta = new ApplicationStatisticsDelta().subtract(existingApplication);
 
-        DeveloperApplication patchedApplication = applyPatchToDeveloperApplication(patchDeveloperApplication, existingApplication);
-        return developerApplicationRepository.save(patchedApplication);
+        DeveloperApplication patchedApplication = jsonPatchService.applyPatch(patchDeveloperApplication, existingApplication, DeveloperApplication.class);
+        final DeveloperApplication savedApplication = developerApplicationRepository.save(patchedApplication);
+        applicationStatisticsService.apply(statisticsDelta.add(savedApplication));
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+
+        return savedApplication;
     }
 
+    @Transactional
     public CoachApplication sendCoachInterviewInvite(final UUID applicationId) {
         final CoachApplication coachApplication = findCoachApplicationById(applicationId);
+        final CourseIteration courseIteration = courseIterationRepository.findById(coachApplication.getCourseIterationId())
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
+                        coachApplication.getCourseIterationId())));
 
-        try {
-            final CourseIteration courseIteration = courseIterationRepository.findById(coachApplication.getCourseIterationId())
-                            .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
-                                    coachApplication.getCourseIterationId())));
-            mailingService.sendCoachInterviewInvitationEmail(coachApplication.getStudent(), courseIteration);
-        } catch (MessagingException e) {
-            log.error(String.format("Failed to send a coach interview invitation email. Error message: %s. Stacktrace: %s",
-                    e.getMessage(), Arrays.toString(e.getStackTrace())));
-        }
+        final CoachApplication updatedCoachApplication = changeApplicationStatus(coachApplication, ApplicationStatus.PENDING_INTERVIEW, coachApplicationRepository);
+        mailingService.sendCoachInterviewInvitationEmail(updatedCoachApplication.getStudent(), courseIteration);
 
-        return coachApplicationRepository.save((CoachApplication) setApplicationStatus(coachApplication, ApplicationStatus.PENDING_INTERVIEW));
+        return updatedCoachApplication;
     }
 
+    @Transactional
     public TutorApplication sendTutorInterviewInvite(final UUID applicationId) {
         final TutorApplication tutorApplication = findTutorApplicationById(applicationId);
+        final CourseIteration courseIteration = courseIterationRepository.findById(tutorApplication.getCourseIterationId())
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
+                        tutorApplication.getCourseIterationId())));
 
-        try {
-            final CourseIteration courseIteration = courseIterationRepository.findById(tutorApplication.getCourseIterationId())
-                    .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
-                            tutorApplication.getCourseIterationId())));
-            mailingService.sendTutorInterviewInvitationEmail(tutorApplication.getStudent(), courseIteration);
-        } catch (MessagingException e) {
-            log.error(String.format("Failed to send a tutor interview invitation email. Error message: %s. Stacktrace: %s",
-                    e.getMessage(), Arrays.toString(e.getStackTrace())));
-        }
+        final TutorApplication updatedTutorApplication = changeApplicationStatus(tutorApplication, ApplicationStatus.PENDING_INTERVIEW, tutorApplicationRepository);
+        mailingService.sendTutorInterviewInvitationEmail(updatedTutorApplication.getStudent(), courseIteration);
 
-        return tutorApplicationRepository.save((TutorApplication) setApplicationStatus(tutorApplication, ApplicationStatus.PENDING_INTERVIEW));
+        return updatedTutorApplication;
     }
 
+    @Transactional
     public CoachApplication sendCoachApplicationRejection(final UUID applicationId) {
         final CoachApplication coachApplication = findCoachApplicationById(applicationId);
+        final CourseIteration courseIteration = courseIterationRepository.findById(coachApplication.getCourseIterationId())
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
+                        coachApplication.getCourseIterationId())));
 
-        try {
-            final CourseIteration courseIteration = courseIterationRepository.findById(coachApplication.getCourseIterationId())
-                    .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
-                            coachApplication.getCourseIterationId())));
-            mailingService.sendCoachApplicationRejectionEmail(coachApplication.getStudent(), courseIteration);
-        } catch (MessagingException e) {
-            log.error(String.format("Failed to send a coach application rejection email. Error message: %s. Stacktrace: %s",
-                    e.getMessage(), Arrays.toString(e.getStackTrace())));
-        }
+        final CoachApplication updatedCoachApplication = changeApplicationStatus(coachApplication, ApplicationStatus.REJECTED, coachApplicationRepository);
+        mailingService.sendCoachApplicationRejectionEmail(updatedCoachApplication.getStudent(), courseIteration);
 
-        return coachApplicationRepository.save((CoachApplication) setApplicationStatus(coachApplication, ApplicationStatus.REJECTED));
+        return updatedCoachApplication;
     }
 
+    @Transactional
     public TutorApplication sendTutorApplicationRejection(final UUID applicationId) {
         final TutorApplication tutorApplication = findTutorApplicationById(applicationId);
+        final CourseIteration courseIteration = courseIterationRepository.findById(tutorApplication.getCourseIterationId())
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
+                        tutorApplication.getCourseIterationId())));
 
-        try {
-            final CourseIteration courseIteration = courseIterationRepository.findById(tutorApplication.getCourseIterationId())
-                    .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
-                            tutorApplication.getCourseIterationId())));
-            mailingService.sendTutorApplicationRejectionEmail(tutorApplication.getStudent(), courseIteration);
-        } catch (MessagingException e) {
-            log.error(String.format("Failed to send a tutor application rejection email. Error message: %s. Stacktrace: %s",
-                    e.getMessage(), Arrays.toString(e.getStackTrace())));
-        }
+        final TutorApplication updatedTutorApplication = changeApplicationStatus(tutorApplication, ApplicationStatus.REJECTED, tutorApplicationRepository);
+        mailingService.sendTutorApplicationRejectionEmail(updatedTutorApplication.getStudent(), courseIteration);
 
-        return tutorApplicationRepository.save((TutorApplication) setApplicationStatus(tutorApplication, ApplicationStatus.REJECTED));
+        return updatedTutorApplication;
     }
 
+    @Transactional
     public CoachApplication sendCoachApplicationAcceptance(final UUID applicationId) {
         final CoachApplication coachApplication = findCoachApplicationById(applicationId);
+        final CourseIteration courseIteration = courseIterationRepository.findById(coachApplication.getCourseIterationId())
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
+                        coachApplication.getCourseIterationId())));
 
-        try {
-            final CourseIteration courseIteration = courseIterationRepository.findById(coachApplication.getCourseIterationId())
-                    .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
-                            coachApplication.getCourseIterationId())));
-            mailingService.sendCoachApplicationAcceptanceEmail(coachApplication.getStudent(), courseIteration);
-        } catch (MessagingException e) {
-            log.error(String.format("Failed to send a coach application acceptance email. Error message: %s. Stacktrace: %s",
-                    e.getMessage(), Arrays.toString(e.getStackTrace())));
-        }
+        final CoachApplication updatedCoachApplication = changeApplicationStatus(coachApplication, ApplicationStatus.ACCEPTED, coachApplicationRepository);
+        mailingService.sendCoachApplicationAcceptanceEmail(updatedCoachApplication.getStudent(), courseIteration);
 
-        return coachApplicationRepository.save((CoachApplication) setApplicationStatus(coachApplication, ApplicationStatus.ACCEPTED));
+        return updatedCoachApplication;
     }
 
+    @Transactional
     public TutorApplication sendTutorApplicationAcceptance(final UUID applicationId) {
         final TutorApplication tutorApplication = findTutorApplicationById(applicationId);
+        final CourseIteration courseIteration = courseIterationRepository.findById(tutorApplication.getCourseIterationId())
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
+                        tutorApplication.getCourseIterationId())));
 
-        try {
-            final CourseIteration courseIteration = courseIterationRepository.findById(tutorApplication.getCourseIterationId())
-                    .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.",
-                            tutorApplication.getCourseIterationId())));
-            mailingService.sendTutorApplicationAcceptanceEmail(tutorApplication.getStudent(), courseIteration);
-        } catch (MessagingException e) {
-            log.error(String.format("Failed to send a tutor application acceptance email. Error message: %s. Stacktrace: %s",
-                    e.getMessage(), Arrays.toString(e.getStackTrace())));
-        }
+        final TutorApplication updatedTutorApplication = changeApplicationStatus(tutorApplication, ApplicationStatus.ACCEPTED, tutorApplicationRepository);
+        mailingService.sendTutorApplicationAcceptanceEmail(updatedTutorApplication.getStudent(), courseIteration);
+
+        return updatedTutorApplication;
+    }
+
+    @Transactional
+    public List<ApplicationStatusChangeResult> sendCoachInterviewInvites(final List<UUID> applicationIds) {
+        return changeApplicationStatuses(coachApplicationRepository.findAllWithStudentByIdIn(applicationIds), applicationIds,
+                ApplicationStatus.PENDING_INTERVIEW, CoachApplication::getStudent,
+                coachApplicationRepository, ApplicationStatusMail.COACH_INTERVIEW_INVITATION);
+    }
+
+    @Transactional
+    public List<ApplicationStatusChangeResult> sendTutorInterviewInvites(final List<UUID> applicationIds) {
+        return changeApplicationStatuses(tutorApplicationRepository.findAllWithStudentByIdIn(applicationIds), applicationIds,
+                ApplicationStatus.PENDING_INTERVIEW, TutorApplication::getStudent,
+                tutorApplicationRepository, ApplicationStatusMail.TUTOR_INTERVIEW_INVITATION);
+    }
+
+    @Transactional
+    public List<ApplicationStatusChangeResult> sendCoachApplicationRejections(final List<UUID> applicationIds) {
+        return changeApplicationStatuses(coachApplicationRepository.findAllWithStudentByIdIn(applicationIds), applicationIds,
+                ApplicationStatus.REJECTED, CoachApplication::getStudent,
+                coachApplicationRepository, ApplicationStatusMail.COACH_APPLICATION_REJECTION);
+    }
+
+    @Transactional
+    public List<ApplicationStatusChangeResult> sendTutorApplicationRejections(final List<UUID> applicationIds) {
+        return changeApplicationStatuses(tutorApplicationRepository.findAllWithStudentByIdIn(applicationIds), applicationIds,
+                ApplicationStatus.REJECTED, TutorApplication::getStudent,
+                tutorApplicationRepository, ApplicationStatusMail.TUTOR_APPLICATION_REJECTION);
+    }
+
+    @Transactional
+    public List<ApplicationStatusChangeResult> sendCoachApplicationAcceptances(final List<UUID> applicationIds) {
+        return changeApplicationStatuses(coachApplicationRepository.findAllWithStudentByIdIn(applicationIds), applicationIds,
+                ApplicationStatus.ACCEPTED, CoachApplication::getStudent,
+                coachApplicationRepository, ApplicationStatusMail.COACH_APPLICATION_ACCEPTANCE);
+    }
 
-        return tutorApplicationRepository.save((TutorApplication) setApplicationStatus(tutorApplication, ApplicationStatus.ACCEPTED));
+    @Transactional
+    public List<ApplicationStatusChangeResult> sendTutorApplicationAcceptances(final List<UUID> applicationIds) {
+        return changeApplicationStatuses(tutorApplicationRepository.findAllWithStudentByIdIn(applicationIds), applicationIds,
+                ApplicationStatus.ACCEPTED, TutorApplication::getStudent,
+                tutorApplicationRepository, ApplicationStatusMail.TUTOR_APPLICATION_ACCEPTANCE);
     }
 
+    @Transactional
     public Student updateStudentAssessment(final UUID studentId, JsonPatch patchStudentAssessment)
             throws JsonPatchException, JsonProcessingException {
         final Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Student with id %s not found.", studentId)));
 
-        final Student patchedStudent = applyPatchToStudent(patchStudentAssessment, student);
+        final Student patchedStudent = jsonPatchService.applyPatch(patchStudentAssessment, student, Student.class);
 
         return studentRepository.save(patchedStudent);
     }
 
-    public DeveloperApplication updateDeveloperApplicationAssessment(final UUID developerApplicationId, JsonPatch patchDeveloperApplicationAssessment)
+    @Transactional
+    public DeveloperApplication updateDeveloperApplicationAssessment(final UUID developerApplicationId,
+                                                                     JsonPatch patchDeveloperApplicationAssessment,
+                                                                     final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
         final DeveloperApplication application = findDeveloperApplicationById(developerApplicationId);
+        EntityTags.checkIfMatch(ifMatch, EntityTags.of(application));
+        final ApplicationStatisticsDelta statisticsDelta = new ApplicationStatisticsDelta().subtract(application);
 
-        ApplicationAssessment patchedApplicationAssessment = applyPatchToStudentApplicationAssessment(
+        ApplicationAssessment patchedApplicationAssessment = jsonPatchService.applyPatch(
                 patchDeveloperApplicationAssessment,
-                application.getAssessment() != null ? application.getAssessment() : new ApplicationAssessment());
+                application.getAssessment() != null ? application.getAssessment() : new ApplicationAssessment(),
+                ApplicationAssessment.class);
 
         application.setAssessment(patchedApplicationAssessment);
-        return developerApplicationRepository.save(application);
+        final DeveloperApplication savedApplication = developerApplicationRepository.save(application);
+        applicationStatisticsService.apply(statisticsDelta.add(savedApplication));
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+
+        return savedApplication;
     }
 
-    public CoachApplication updateCoachApplicationAssessment(final UUID coachApplicationId, JsonPatch patchDeveloperApplicationAssessment)
+    @Transactional
+    public CoachApplication updateCoachApplicationAssessment(final UUID coachApplicationId,
+                                                             JsonPatch patchDeveloperApplicationAssessment,
+                                                             final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
         final CoachApplication application = findCoachApplicationById(coachApplicationId);
+        EntityTags.checkIfMatch(ifMatch, EntityTags.of(application));
+        final ApplicationStatisticsDelta statisticsDelta = new ApplicationStatisticsDelta().subtract(application);
 
-        ApplicationAssessment patchedApplicationAssessment = applyPatchToStudentApplicationAssessment(
+        ApplicationAssessment patchedApplicationAssessment = jsonPatchService.applyPatch(
                 patchDeveloperApplicationAssessment,
-                application.getAssessment() != null ? application.getAssessment() : new ApplicationAssessment());
+                application.getAssessment() != null ? application.getAssessment() : new ApplicationAssessment(),
+                ApplicationAssessment.class);
 
         application.setAssessment(patchedApplicationAssessment);
-        return coachApplicationRepository.save(application);
+        final CoachApplication savedApplication = coachApplicationRepository.save(application);
+        applicationStatisticsService.apply(statisticsDelta.add(savedApplication));
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+
+        return savedApplication;
     }
 
-    public TutorApplication updateTutorApplicationAssessment(final UUID tutorApplicationId, JsonPatch patchDeveloperApplicationAssessment)
+    @Transactional
+    public TutorApplication updateTutorApplicationAssessment(final UUID tutorApplicationId,
+                                                             JsonPatch patchDeveloperApplicationAssessment,
+                                                             final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
         final TutorApplication application = findTutorApplicationById(tutorApplicationId);
+        EntityTags.checkIfMatch(ifMatch, EntityTags.of(application));
+        final ApplicationStatisticsDelta statisticsDelta = new ApplicationStatisticsDelta().subtract(application);
 
-        ApplicationAssessment patchedApplicationAssessment = applyPatchToStudentApplicationAssessment(
+        ApplicationAssessment patchedApplicationAssessment = jsonPatchService.applyPatch(
                 patchDeveloperApplicationAssessment,
-                application.getAssessment() != null ? application.getAssessment() : new ApplicationAssessment());
+                application.getAssessment() != null ? application.getAssessment() : new ApplicationAssessment(),
+                ApplicationAssessment.class);
 
         application.setAssessment(patchedApplicationAssessment);
-        return tutorApplicationRepository.save(application);
+        final TutorApplication savedApplication = tutorApplicationRepository.save(application);
+        applicationStatisticsService.apply(statisticsDelta.add(savedApplication));
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+
+        return savedApplication;
     }
 
+    @Transactional
     public List<DeveloperApplication> enrollDeveloperApplicationToCourse(final List<UUID> developerApplicationIds) {
-        final List<DeveloperApplication> updatedDeveloperApplications = new ArrayList<>();
-        developerApplicationIds.forEach(developerApplicationId -> {
-            final DeveloperApplication developerApplication = findDeveloperApplicationById(developerApplicationId);
-            if (developerApplication.getAssessment().getStatus().equals(ApplicationStatus.ENROLLED)) {
-                updatedDeveloperApplications.add(developerApplication);
-                return;
-            }
+        final List<DeveloperApplication> developerApplications =
+                findAllApplicationsById(developerApplicationRepository, developerApplicationIds, "Developer");
+        changeApplicationStatuses(developerApplications, ApplicationStatus.ENROLLED, developerApplicationRepository);
 
-            setApplicationStatus(developerApplication, ApplicationStatus.ENROLLED);
-            final IntroCourseParticipation introCourseParticipation = IntroCourseParticipation
-                    .builder()
-                    .courseIterationId(developerApplication.getCourseIterationId())
-                    .student(developerApplication.getStudent())
-                    .build();
+        introCourseParticipationBatchRepository.insertIfAbsent(developerApplications
+                .stream()
+                .map(developerApplication -> IntroCourseParticipation
+                        .builder()
+                        .courseIterationId(developerApplication.getCourseIterationId())
+                        .student(developerApplication.getStudent())
+                        .build())
+                .toList());
 
-            introCourseParticipationRepository.save(introCourseParticipation);
-            updatedDeveloperApplications.add(developerApplicationRepository.save(developerApplication));
-        });
-
-        return updatedDeveloperApplications;
+        return developerApplicationRepository.findAllById(developerApplicationIds);
     }
 
+    @Transactional
     public List<CoachApplication> enrollCoachApplicationToCourse(final List<UUID> coachApplicationIds) {
-        final List<CoachApplication> updatedCoachApplications = new ArrayList<>();
-        coachApplicationIds.forEach(coachApplicationId -> {
-            final CoachApplication coachApplication = findCoachApplicationById(coachApplicationId);
-            setApplicationStatus(coachApplication, ApplicationStatus.ENROLLED);
-            updatedCoachApplications.add(coachApplicationRepository.save(coachApplication));
-        });
+        final List<CoachApplication> coachApplications =
+                findAllApplicationsById(coachApplicationRepository, coachApplicationIds, "Coach");
+        changeApplicationStatuses(coachApplications, ApplicationStatus.ENROLLED, coachApplicationRepository);
 
-        return updatedCoachApplications;
+        return coachApplicationRepository.findAllById(coachApplicationIds);
     }
 
+    @Transactional
     public List<TutorApplication> enrollTutorApplicationToCourse(final List<UUID> tutorApplicationIds) {
-        final List<TutorApplication> updatedTutorApplications = new ArrayList<>();
-        tutorApplicationIds.forEach(tutorApplicationId -> {
-            final TutorApplication tutorApplication = findTutorApplicationById(tutorApplicationId);
-            setApplicationStatus(tutorApplication, ApplicationStatus.ENROLLED);
-            updatedTutorApplications.add(tutorApplicationRepository.save(tutorApplication));
-        });
+        final List<TutorApplication> tutorApplications =
+                findAllApplicationsById(tutorApplicationRepository, tutorApplicationIds, "Tutor");
+        changeApplicationStatuses(tutorApplications, ApplicationStatus.ENROLLED, tutorApplicationRepository);
 
-        return updatedTutorApplications;
+        return tutorApplicationRepository.findAllById(tutorApplicationIds);
     }
 
+    @Transactional
     public List<DeveloperApplication> assignTechnicalChallengeScoresToDeveloperApplications(final Double programmingScoreThreshold,
                                                                                             final Double quizScoreThreshold,
                                                                                             final List<TechnicalChallengeScore> scores) {
         final List<DeveloperApplication> updatedDeveloperApplications = new ArrayList<>();
+        final ApplicationStatisticsDelta statisticsDelta = new ApplicationStatisticsDelta();
         scores.forEach(score -> {
             final DeveloperApplication developerApplication = findDeveloperApplicationById(score.getDeveloperApplicationId());
             if (developerApplication.getAssessment() == null) {
@@ -429,55 +654,63 @@ public class ApplicationService {
             developerApplication.getAssessment().setTechnicalChallengeProgrammingScore(score.getProgrammingScore());
             developerApplication.getAssessment().setTechnicalChallengeQuizScore(score.getQuizScore());
             if (score.getProgrammingScore() < programmingScoreThreshold || score.getQuizScore() < quizScoreThreshold) {
+                statisticsDelta.changeStatus(developerApplication, ApplicationStatus.REJECTED);
                 developerApplication.getAssessment().setStatus(ApplicationStatus.REJECTED);
             }
 
             updatedDeveloperApplications.add(developerApplicationRepository.save(developerApplication));
         });
+        applicationStatisticsService.apply(statisticsDelta);
+        courseIterationChangePublisher.applicationsChanged(updatedDeveloperApplications);
 
         return updatedDeveloperApplications;
     }
 
-    public Application createInstructorCommentForDeveloperApplication(final UUID developerApplicationId, final InstructorComment instructorComment) {
-        final DeveloperApplication application = findDeveloperApplicationById(developerApplicationId);
-        if (application.getAssessment() == null) {
-            application.setAssessment(new ApplicationAssessment());
-        }
-        if (application.getAssessment().getInstructorComments() == null) {
-            application.getAssessment().setInstructorComments(new HashSet<>());
+    public List<InstructorComment> findInstructorComments(final String applicationType,
+                                                          final UUID applicationId,
+                                                          final int page,
+                                                          final int pageSize) {
+        validateInstructorCommentApplicationType(applicationType);
+        if (page < 0) {
+            throw new ResourceInvalidParametersException("Page must not be negative.");
         }
-        application.getAssessment().getInstructorComments().add(instructorComment);
-        instructorCommentRepository.save(instructorComment);
-
-        return findDeveloperApplicationById(developerApplicationId);
-    }
-
-    public Application createInstructorCommentForCoachApplication(final UUID coachApplicationId, final InstructorComment instructorComment) {
-        final CoachApplication application = findCoachApplicationById(coachApplicationId);
-        if (application.getAssessment() == null) {
-            application.setAssessment(new ApplicationAssessment());
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResourceInvalidParametersException(String.format("Page size must be between 1 and %d.", MAX_PAGE_SIZE));
         }
-        if (application.getAssessment().getInstructorComments() == null) {
-            application.getAssessment().setInstructorComments(new HashSet<>());
+        if (page > Integer.MAX_VALUE / pageSize) {
+            throw new ResourceInvalidParametersException(String.format("Page %d is out of range.", page));
         }
-        application.getAssessment().getInstructorComments().add(instructorComment);
-        instructorCommentRepository.save(instructorComment);
 
-        return findCoachApplicationById(coachApplicationId);
-    }
-
-    public Application createInstructorCommentForTutorApplication(final UUID tutorApplicationId, final InstructorComment instructorComment) {
-        final TutorApplication application = findTutorApplicationById(tutorApplicationId);
-        if (application.getAssessment() == null) {
-            application.setAssessment(new ApplicationAssessment());
-        }
-        if (application.getAssessment().getInstructorComments() == null) {
-            application.getAssessment().setInstructorComments(new HashSet<>());
-        }
-        application.getAssessment().getInstructorComments().add(instructorComment);
-        instructorCommentRepository.save(instructorComment);
+        return instructorCommentRepository.findPage(applicationType, applicationId, page * pageSize, pageSize);
+    }
+
+    @Transactional
+    public InstructorComment createInstructorComment(final String applicationType,
+                                                     final UUID applicationId,
+                                                     final InstructorComment instructorComment) {
+        validateInstructorCommentApplicationType(applicationType);
+        instructorComment.setId(UUID.randomUUID());
+        instructorComment.setTimestamp(new Date());
+
+        final UUID assessmentId = instructorCommentRepository.append(applicationType, applicationId, instructorComment)
+                .orElseGet(() -> {
+                    // Only applications without an assessment take this path, they get one with their first comment.
+                    // The assessment is flushed so that the plain JDBC retry below sees it.
+                    switch (applicationType) {
+                        case "developer" -> developerApplicationRepository.saveAndFlush(
+                                setAssessmentIfAbsent(findDeveloperApplicationById(applicationId)));
+                        case "coach" -> coachApplicationRepository.saveAndFlush(
+                                setAssessmentIfAbsent(findCoachApplicationById(applicationId)));
+                        default -> tutorApplicationRepository.saveAndFlush(
+                                setAssessmentIfAbsent(findTutorApplicationById(applicationId)));
+                    }
+                    return instructorCommentRepository.append(applicationType, applicationId, instructorComment)
+                            .orElseThrow(() -> new ResourceNotFoundException(String.format("Application with id %s not found.",
+                                    applicationId)));
+                });
+        instructorComment.setAssessmentId(assessmentId);
 
-        return findTutorApplicationById(tutorApplicationId);
+        return instructorComment;
     }
 
     public Application assignDeveloperApplicationToProjectTeam(final UUID developerApplicationId, final UUID projectTeamId, final UUID courseIterationId) {
@@ -492,13 +725,17 @@ public class ApplicationService {
         }
 
         application.setProjectTeam(projectTeam);
-        return developerApplicationRepository.save(application);
+        final DeveloperApplication savedApplication = developerApplicationRepository.save(application);
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+        return savedApplication;
     }
 
     public Application removeFromProjectTeam(final UUID studentApplicationId) {
         DeveloperApplication application = findDeveloperApplicationById(studentApplicationId);
         application.setProjectTeam(null);
-        return developerApplicationRepository.save(application);
+        final DeveloperApplication savedApplication = developerApplicationRepository.save(application);
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+        return savedApplication;
     }
 
     public void assignStudentToProjectTeam(final UUID courseIterationId,
@@ -509,7 +746,7 @@ public class ApplicationService {
         final ProjectTeam projectTeam = projectTeamService.findById(projectTeamId);
 
         application.setProjectTeam(projectTeam);
-        developerApplicationRepository.save(application);
+        courseIterationChangePublisher.applicationChanged(developerApplicationRepository.save(application));
     }
 
     public DeveloperApplication gradeDeveloperApplication(final UUID applicationId, final Grade grade, final Optional<String> author) {
@@ -522,91 +759,158 @@ public class ApplicationService {
             throw new AccessDeniedException("Access denied.");
         }
         application.setFinalGrade(grade);
-        return developerApplicationRepository.save(application);
+        final DeveloperApplication savedApplication = developerApplicationRepository.save(application);
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+        return savedApplication;
     }
 
+    @Transactional
     public UUID deleteDeveloperApplication(final UUID developerApplicationId) {
-        findDeveloperApplicationById(developerApplicationId);
+        final DeveloperApplication application = findDeveloperApplicationById(developerApplicationId);
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().subtract(application));
         developerApplicationRepository.deleteById(developerApplicationId);
+        deltaSyncService.recordDeletion(TombstoneEntityType.DEVELOPER_APPLICATION, developerApplicationId, application.getCourseIterationId());
+        courseIterationChangePublisher.applicationDeleted(application);
 
         return developerApplicationId;
     }
 
+    @Transactional
     public UUID deleteCoachApplication(final UUID coachApplicationId) {
-        findCoachApplicationById(coachApplicationId);
+        final CoachApplication application = findCoachApplicationById(coachApplicationId);
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().subtract(application));
         coachApplicationRepository.deleteById(coachApplicationId);
+        deltaSyncService.recordDeletion(TombstoneEntityType.COACH_APPLICATION, coachApplicationId, application.getCourseIterationId());
+        courseIterationChangePublisher.applicationDeleted(application);
 
         return coachApplicationId;
     }
 
+    @Transactional
     public UUID deleteTutorApplication(final UUID tutorApplicationId) {
-        findTutorApplicationById(tutorApplicationId);
+        final TutorApplication application = findTutorApplicationById(tutorApplicationId);
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().subtract(application));
         tutorApplicationRepository.deleteById(tutorApplicationId);
+        deltaSyncService.recordDeletion(TombstoneEntityType.TUTOR_APPLICATION, tutorApplicationId, application.getCourseIterationId());
+        courseIterationChangePublisher.applicationDeleted(application);
 
         return tutorApplicationId;
     }
 
-    private Application setApplicationStatus(final Application application, final ApplicationStatus status) {
-        if (application.getAssessment() == null) {
-            application.setAssessment(new ApplicationAssessment());
+    private <T extends Application> List<T> findAllApplicationsById(final JpaRepository<T, UUID> repository,
+                                                                   final List<UUID> applicationIds,
+                                                                   final String applicationType) {
+        final List<T> applications = repository.findAllById(applicationIds);
+        final Set<UUID> foundIds = applications.stream().map(Application::getId).collect(Collectors.toSet());
+        final List<UUID> missingIds = applicationIds.stream().filter(id -> !foundIds.contains(id)).toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException(String.format("%s applications with ids %s not found.",
+                    applicationType, missingIds));
         }
-        application.getAssessment().setStatus(status);
-        return application;
-    }
-
-    private Student applyPatchToStudent(
-            JsonPatch patch, Student student) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(student, JsonNode.class));
-        return objectMapper.treeToValue(patched, Student.class);
-    }
-
-    private DeveloperApplication applyPatchToDeveloperApplication(
-            JsonPatch patch, DeveloperApplication developerApplication) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(developerApplication, JsonNode.class));
-        return objectMapper.treeToValue(patched, DeveloperApplication.class);
-    }
 
-    private TutorApplication applyPatchToTutorApplication(
-            JsonPatch patch, TutorApplication tutorApplication) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(tutorApplication, JsonNode.class));
-        return objectMapper.treeToValue(patched, TutorApplication.class);
+        return applications;
     }
 
-    private CoachApplication applyPatchToCoachApplication(
-            JsonPatch patch, CoachApplication coachApplication) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(coachApplication, JsonNode.class));
-        return objectMapper.treeToValue(patched, CoachApplication.class);
+    private <T extends Application> void changeApplicationStatuses(final List<T> applications,
+                                                                   final ApplicationStatus status,
+                                                                   final JpaRepository<T, UUID> repository) {
+        final ApplicationStatisticsDelta statisticsDelta = new ApplicationStatisticsDelta();
+        applications.forEach(application -> statisticsDelta.changeStatus(application, status));
+        applicationStatisticsService.apply(statisticsDelta);
+
+        final List<T> applicationsWithoutAssessment = applications
+                .stream()
+                .filter(application -> application.getAssessment() == null)
+                .toList();
+        applicationsWithoutAssessment.forEach(application -> setApplicationStatus(application, status));
+        repository.saveAll(applicationsWithoutAssessment);
+
+        final List<T> applicationsWithAssessment = applications
+                .stream()
+                .filter(application -> application.getAssessment() != null)
+                .filter(application -> application.getAssessment().getStatus() != status)
+                .toList();
+        if (!applicationsWithAssessment.isEmpty()) {
+            final LocalDateTime updatedAt = deltaSyncService.currentTimestamp();
+            applicationAssessmentRepository.updateStatusByIdIn(applicationsWithAssessment
+                    .stream()
+                    .map(application -> application.getAssessment().getId())
+                    .toList(), status, updatedAt);
+            // The bulk update bypasses the persistence context, bring the now detached copies in line for the change events
+            applicationsWithAssessment.forEach(application -> {
+                application.getAssessment().setStatus(status);
+                application.getAssessment().setVersion(application.getAssessment().getVersion() + 1);
+                application.getAssessment().setUpdatedAt(updatedAt);
+            });
+        }
+        courseIterationChangePublisher.applicationsChanged(applicationsWithoutAssessment);
+        courseIterationChangePublisher.applicationsChanged(applicationsWithAssessment);
+    }
+
+    private <T extends Application> List<ApplicationStatusChangeResult> changeApplicationStatuses(final List<T> applications,
+                                                                                                 final List<UUID> applicationIds,
+                                                                                                 final ApplicationStatus status,
+                                                                                                 final Function<T, Student> student,
+                                                                                                 final JpaRepository<T, UUID> repository,
+                                                                                                 final ApplicationStatusMail mail) {
+        final Set<UUID> foundApplicationIds = applications.stream().map(Application::getId).collect(Collectors.toSet());
+        final List<T> changedApplications = applications
+                .stream()
+                .filter(application -> application.getAssessment() == null || application.getAssessment().getStatus() != status)
+                .toList();
+        final Set<UUID> changedApplicationIds = changedApplications.stream().map(Application::getId).collect(Collectors.toSet());
+
+        // Mail content is taken from the already loaded students, the status update clears the persistence context
+        final Map<UUID, List<Student>> studentsByCourseIteration = changedApplications
+                .stream()
+                .collect(Collectors.groupingBy(Application::getCourseIterationId,
+                        Collectors.mapping(student, Collectors.toList())));
+        changeApplicationStatuses(changedApplications, status, repository);
+
+        courseIterationRepository.findAllById(studentsByCourseIteration.keySet()).forEach(courseIteration ->
+                mailingService.sendApplicationStatusEmails(mail, courseIteration, studentsByCourseIteration.get(courseIteration.getId())));
+
+        return applicationIds
+                .stream()
+                .distinct()
+                .map(applicationId -> {
+                    if (!foundApplicationIds.contains(applicationId)) {
+                        return new ApplicationStatusChangeResult(applicationId, ApplicationStatusChangeOutcome.NOT_FOUND,
+                                String.format("Application with id %s not found.", applicationId));
+                    }
+                    if (!changedApplicationIds.contains(applicationId)) {
+                        return new ApplicationStatusChangeResult(applicationId, ApplicationStatusChangeOutcome.UNCHANGED,
+                                String.format("Application is already in status %s.", status));
+                    }
+                    return new ApplicationStatusChangeResult(applicationId, ApplicationStatusChangeOutcome.UPDATED, null);
+                })
+                .toList();
     }
 
-    private ApplicationAssessment applyPatchToStudentApplicationAssessment(
-            JsonPatch patch, ApplicationAssessment targetApplicationAssessment) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(targetApplicationAssessment, JsonNode.class));
-        return objectMapper.treeToValue(patched, ApplicationAssessment.class);
+    private <T extends Application> T changeApplicationStatus(final T application,
+                                                              final ApplicationStatus status,
+                                                              final JpaRepository<T, UUID> repository) {
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().changeStatus(application, status));
+        final T savedApplication = repository.save(setApplicationStatus(application, status));
+        courseIterationChangePublisher.applicationChanged(savedApplication);
+        return savedApplication;
     }
 
-    private Optional<Student> findStudent(final String tumId, final String matriculationNumber, final String email) {
-        if ((tumId != null && !tumId.isBlank()) || (matriculationNumber != null && !matriculationNumber.isBlank())) {
-            return studentRepository.findByTumIdOrMatriculationNumber(tumId, matriculationNumber);
+    private void validateInstructorCommentApplicationType(final String applicationType) {
+        if (!InstructorCommentRepository.APPLICATION_TABLES.containsKey(applicationType)) {
+            throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.", applicationType));
         }
-        return studentRepository.findByEmail(email);
     }
 
-    private Student checkAndUpdateStudent(final Student existingStudent, final Student updatedStudent) {
-        if (((existingStudent.getTumId() != null && !existingStudent.getTumId().isBlank()) && !existingStudent.getTumId().equals(updatedStudent.getTumId())) ||
-                (existingStudent.getMatriculationNumber() != null && !existingStudent.getMatriculationNumber().isBlank()) && !existingStudent.getMatriculationNumber().equals(updatedStudent.getMatriculationNumber())) {
-            throw new ResourceInvalidParametersException("Provided TUM ID does not match with the matriculation number you submitted. " +
-                    "If You are sure the data is entered correct, please contact the Program Management.");
+    private <T extends Application> T setAssessmentIfAbsent(final T application) {
+        if (application.getAssessment() == null) {
+            application.setAssessment(new ApplicationAssessment());
         }
-        existingStudent.setGender(updatedStudent.getGender());
-        existingStudent.setFirstName(updatedStudent.getFirstName());
-        existingStudent.setLastName(updatedStudent.getLastName());
-        existingStudent.setEmail(updatedStudent.getEmail());
+        return application;
+    }
 
-        return studentRepository.save(existingStudent);
+    private <T extends Application> T setApplicationStatus(final T application, final ApplicationStatus status) {
+        setAssessmentIfAbsent(application).getAssessment().setStatus(status);
+        return application;
     }
 }
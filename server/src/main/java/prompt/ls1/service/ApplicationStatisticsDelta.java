@@ -0,0 +1,90 @@
+package prompt.ls1.service;
+
+import prompt.ls1.model.Application;
+import prompt.ls1.model.CoachApplication;
+import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.Student;
+import prompt.ls1.model.TutorApplication;
+import prompt.ls1.model.enums.ApplicationStatisticsDimension;
+import prompt.ls1.model.enums.ApplicationStatus;
+import prompt.ls1.repository.ApplicationStatisticsRepository.CounterKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static prompt.ls1.repository.ApplicationStatisticsRepository.MISSING_VALUE;
+
+/**
+ * Collects the counter changes caused by one unit of work. Subtract an application before changing it and
+ * add it afterwards; dimensions that did not change cancel out and are never written.
+ */
+public class ApplicationStatisticsDelta {
+    private final Map<CounterKey, Long> deltas = new HashMap<>();
+
+    public ApplicationStatisticsDelta add(final Application application) {
+        return record(application, 1);
+    }
+
+    public ApplicationStatisticsDelta subtract(final Application application) {
+        return record(application, -1);
+    }
+
+    public ApplicationStatisticsDelta changeStatus(final Application application, final ApplicationStatus status) {
+        final ApplicationStatus currentStatus = application.getAssessment() == null ? null : application.getAssessment().getStatus();
+        if (currentStatus != status) {
+            count(application, ApplicationStatisticsDimension.STATUS, currentStatus, -1);
+            count(application, ApplicationStatisticsDimension.STATUS, status, 1);
+        }
+        return this;
+    }
+
+    Map<CounterKey, Long> getDeltas() {
+        return deltas;
+    }
+
+    private ApplicationStatisticsDelta record(final Application application, final long sign) {
+        if (application == null || application.getCourseIterationId() == null) {
+            return this;
+        }
+
+        final Student student = student(application);
+        count(application, ApplicationStatisticsDimension.TOTAL, ApplicationStatisticsDimension.TOTAL, sign);
+        count(application, ApplicationStatisticsDimension.STATUS,
+                application.getAssessment() == null ? null : application.getAssessment().getStatus(), sign);
+        count(application, ApplicationStatisticsDimension.STUDY_PROGRAM, application.getStudyProgram(), sign);
+        count(application, ApplicationStatisticsDimension.STUDY_DEGREE, application.getStudyDegree(), sign);
+        count(application, ApplicationStatisticsDimension.GENDER, student == null ? null : student.getGender(), sign);
+        if (application.getDevices() != null) {
+            application.getDevices().forEach(device -> count(application, ApplicationStatisticsDimension.DEVICE, device, sign));
+        }
+        return this;
+    }
+
+    private void count(final Application application,
+                       final ApplicationStatisticsDimension dimension,
+                       final Enum<?> value,
+                       final long delta) {
+        final CounterKey key = new CounterKey(application.getCourseIterationId(), applicationType(application), dimension,
+                value == null ? MISSING_VALUE : value.name());
+        deltas.merge(key, delta, Long::sum);
+    }
+
+    private static String applicationType(final Application application) {
+        return switch (application) {
+            case DeveloperApplication ignored -> "developer";
+            case CoachApplication ignored -> "coach";
+            case TutorApplication ignored -> "tutor";
+            default -> throw new IllegalArgumentException(String.format("Application type %s is not supported.",
+                    application.getClass().getSimpleName()));
+        };
+    }
+
+    private static Student student(final Application application) {
+        return switch (application) {
+            case DeveloperApplication developerApplication -> developerApplication.getStudent();
+            case CoachApplication coachApplication -> coachApplication.getStudent();
+            case TutorApplication tutorApplication -> tutorApplication.getStudent();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package prompt.ls1.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.ApplicationStatistics;
+import prompt.ls1.exception.ResourceInvalidParametersException;
+import prompt.ls1.model.CourseIteration;
+import prompt.ls1.model.enums.ApplicationStatisticsDimension;
+import prompt.ls1.repository.ApplicationStatisticsRepository;
+import prompt.ls1.repository.CourseIterationRepository;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class ApplicationStatisticsService {
+    private static final List<String> APPLICATION_TYPES = List.of("developer", "coach", "tutor");
+
+    private final ApplicationStatisticsRepository applicationStatisticsRepository;
+    private final CourseIterationRepository courseIterationRepository;
+
+    @Autowired
+    public ApplicationStatisticsService(final ApplicationStatisticsRepository applicationStatisticsRepository,
+                                        final CourseIterationRepository courseIterationRepository) {
+        this.applicationStatisticsRepository = applicationStatisticsRepository;
+        this.courseIterationRepository = courseIterationRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(final ApplicationStatisticsDelta delta) {
+        applicationStatisticsRepository.increment(delta.getDeltas());
+    }
+
+    public ApplicationStatistics findStatistics(final UUID courseIterationId, final String applicationType) {
+        if (!APPLICATION_TYPES.contains(applicationType)) {
+            throw new ResourceInvalidParametersException(String.format("Application type %s is not supported.",
+                    applicationType));
+        }
+
+        long total = 0;
+        final Map<ApplicationStatisticsDimension, Map<String, Long>> counts = new EnumMap<>(ApplicationStatisticsDimension.class);
+        for (final ApplicationStatisticsRepository.Counter counter : applicationStatisticsRepository.findAll(courseIterationId, applicationType)) {
+            if (counter.dimension() == ApplicationStatisticsDimension.TOTAL) {
+                total = counter.count();
+            } else {
+                counts.computeIfAbsent(counter.dimension(), dimension -> new TreeMap<>()).put(counter.value(), counter.count());
+            }
+        }
+
+        return new ApplicationStatistics(courseIterationId, applicationType, total, counts);
+    }
+
+    @Scheduled(fixedDelayString = "${prompt.statistics.reconcile-interval}")
+    public void reconcile() {
+        for (final CourseIteration courseIteration : courseIterationRepository.findAll()) {
+            for (final String applicationType : APPLICATION_TYPES) {
+                try {
+                    applicationStatisticsRepository.reconcile(courseIteration.getId(), applicationType);
+                } catch (Exception e) {
+                    log.error(String.format("Failed to reconcile %s application statistics of course iteration %s: %s",
+                            applicationType, courseIteration.getId(), e.getMessage()));
+                }
+            }
+        }
+    }
+}
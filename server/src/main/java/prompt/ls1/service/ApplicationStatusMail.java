@@ -0,0 +1,18 @@
+package prompt.ls1.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum ApplicationStatusMail {
+    COACH_INTERVIEW_INVITATION("Agile Project Management %s Interview Invitation", "coach-interview-invitation"),
+    TUTOR_INTERVIEW_INVITATION("Teaching iOS %s Interview Invitation", "tutor-interview-invitation"),
+    COACH_APPLICATION_REJECTION("Agile Project Management %s Application Rejection", "coach-application-rejection"),
+    TUTOR_APPLICATION_REJECTION("Teaching iOS %s Application Rejection", "tutor-application-rejection"),
+    COACH_APPLICATION_ACCEPTANCE("Agile Project Management %s Application Acceptance", "coach-application-acceptance"),
+    TUTOR_APPLICATION_ACCEPTANCE("Teaching iOS %s Application Acceptance", "tutor-application-acceptance");
+
+    private final String subject;
+    private final String template;
+}
@@ -0,0 +1,13 @@
+package prompt.ls1.service;
+
+import prompt.ls1.controller.payload.CourseIterationChange;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Published whenever an entity of a course iteration changes. The change is only materialized once the
+ * surrounding transaction committed, so it carries the flushed version of the entity.
+ */
+public record CourseIterationChangeEvent(UUID courseIterationId, Supplier<CourseIterationChange> change) {
+}
@@ -0,0 +1,98 @@
+package prompt.ls1.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import prompt.ls1.controller.payload.CourseIterationChange;
+import prompt.ls1.controller.payload.CourseIterationChangeEntity;
+import prompt.ls1.model.Application;
+import prompt.ls1.model.CoachApplication;
+import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.IntroCourseParticipation;
+import prompt.ls1.model.TutorApplication;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Service
+public class CourseIterationChangePublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    public CourseIterationChangePublisher(final ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    public void applicationChanged(final Application application) {
+        publishApplication(application, false);
+    }
+
+    public void applicationsChanged(final Collection<? extends Application> applications) {
+        applications.forEach(application -> publishApplication(application, false));
+    }
+
+    /**
+     * Announces that an unspecified number of developer applications of the course iteration changed, for bulk
+     * operations whose entities are detached before the transaction commits. Subscribers reload the whole list.
+     */
+    public void developerApplicationsChanged(final UUID courseIterationId) {
+        applicationEventPublisher.publishEvent(new CourseIterationChangeEvent(courseIterationId,
+                () -> new CourseIterationChange(CourseIterationChangeEntity.DEVELOPER_APPLICATION, null, null, null, false)));
+    }
+
+    public void applicationDeleted(final Application application) {
+        publishApplication(application, true);
+    }
+
+    public void introCourseParticipationChanged(final IntroCourseParticipation introCourseParticipation) {
+        applicationEventPublisher.publishEvent(new CourseIterationChangeEvent(introCourseParticipation.getCourseIterationId(),
+                () -> new CourseIterationChange(CourseIterationChangeEntity.INTRO_COURSE_PARTICIPATION,
+                        introCourseParticipation.getId(),
+                        introCourseParticipationStatus(introCourseParticipation),
+                        EntityTags.of(introCourseParticipation.getId(), introCourseParticipation.getVersion()),
+                        false)));
+    }
+
+    public void introCourseParticipationsChanged(final Collection<IntroCourseParticipation> introCourseParticipations) {
+        introCourseParticipations.forEach(this::introCourseParticipationChanged);
+    }
+
+    public void kickoffSubmissionChanged(final DeveloperApplication developerApplication) {
+        if (developerApplication.getStudentPostKickOffSubmission() == null) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(new CourseIterationChangeEvent(developerApplication.getCourseIterationId(),
+                () -> new CourseIterationChange(CourseIterationChangeEntity.KICKOFF_SUBMISSION,
+                        developerApplication.getStudentPostKickOffSubmission().getId(), null, null, false)));
+    }
+
+    private void publishApplication(final Application application, final boolean deleted) {
+        applicationEventPublisher.publishEvent(new CourseIterationChangeEvent(application.getCourseIterationId(),
+                () -> new CourseIterationChange(applicationEntity(application),
+                        application.getId(),
+                        deleted || application.getAssessment() == null || application.getAssessment().getStatus() == null ?
+                                null : application.getAssessment().getStatus().name(),
+                        deleted ? null : EntityTags.of(application),
+                        deleted)));
+    }
+
+    private static CourseIterationChangeEntity applicationEntity(final Application application) {
+        return switch (application) {
+            case DeveloperApplication ignored -> CourseIterationChangeEntity.DEVELOPER_APPLICATION;
+            case CoachApplication ignored -> CourseIterationChangeEntity.COACH_APPLICATION;
+            case TutorApplication ignored -> CourseIterationChangeEntity.TUTOR_APPLICATION;
+            default -> throw new IllegalArgumentException(String.format("Application type %s is not supported.",
+                    application.getClass().getSimpleName()));
+        };
+    }
+
+    private static String introCourseParticipationStatus(final IntroCourseParticipation introCourseParticipation) {
+        if (Boolean.TRUE.equals(introCourseParticipation.getDroppedOut())) {
+            return "DROPPED_OUT";
+        }
+        if (introCourseParticipation.getPassed() == null) {
+            return null;
+        }
+        return introCourseParticipation.getPassed() ? "PASSED" : "NOT_PASSED";
+    }
+}
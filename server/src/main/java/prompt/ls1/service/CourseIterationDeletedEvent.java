@@ -0,0 +1,9 @@
+package prompt.ls1.service;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a course iteration is deleted, handled once the surrounding transaction committed.
+ */
+public record CourseIterationDeletedEvent(UUID courseIterationId) {
+}
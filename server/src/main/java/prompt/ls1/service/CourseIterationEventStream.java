@@ -0,0 +1,168 @@
+package prompt.ls1.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import prompt.ls1.controller.payload.CourseIterationChange;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed course iteration changes to the dashboards subscribed to that course iteration as
+ * server-sent events, so they only refetch the changed rows instead of polling whole lists. Events are
+ * delivered by a bounded worker pool, one subscriber at a time and in order, so a slow dashboard never
+ * holds up the committing request; subscribers whose pending events back up are dropped.
+ */
+@Slf4j
+@Service
+public class CourseIterationEventStream {
+    private static final String CHANGE_EVENT = "change";
+
+    private final Map<UUID, Set<Subscriber>> subscriptions = new ConcurrentHashMap<>();
+    private final Duration emitterTimeout;
+    private final int maxPendingEvents;
+    private final ExecutorService deliveryPool;
+
+    @Autowired
+    public CourseIterationEventStream(@Value("${prompt.events.emitter-timeout}") final Duration emitterTimeout,
+                                      @Value("${prompt.events.delivery-threads}") final int deliveryThreads,
+                                      @Value("${prompt.events.delivery-queue-capacity}") final int deliveryQueueCapacity,
+                                      @Value("${prompt.events.max-pending-events}") final int maxPendingEvents) {
+        this.emitterTimeout = emitterTimeout;
+        this.maxPendingEvents = maxPendingEvents;
+        this.deliveryPool = new ThreadPoolExecutor(deliveryThreads, deliveryThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(deliveryQueueCapacity));
+    }
+
+    public SseEmitter subscribe(final UUID courseIterationId) {
+        final SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        final Subscriber subscriber = new Subscriber(courseIterationId, emitter);
+        subscriptions.computeIfAbsent(courseIterationId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // Commits the response headers right away so that clients see the stream as open
+        subscriber.send(SseEmitter.event().comment("subscribed"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseIterationChange(final CourseIterationChangeEvent event) {
+        final Set<Subscriber> subscribers = subscriptions.get(event.courseIterationId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        final CourseIterationChange change = event.change().get();
+        subscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event()
+                .name(CHANGE_EVENT)
+                .data(change, MediaType.APPLICATION_JSON)));
+    }
+
+    @Scheduled(fixedDelayString = "${prompt.events.heartbeat-interval}")
+    public void sendHeartbeats() {
+        subscriptions.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryPool.shutdown();
+    }
+
+    private void unsubscribe(final Subscriber subscriber) {
+        subscriptions.computeIfPresent(subscriber.courseIterationId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private final class Subscriber {
+        private final UUID courseIterationId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pendingEvents = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean delivering = new AtomicBoolean();
+
+        private Subscriber(final UUID courseIterationId, final SseEmitter emitter) {
+            this.courseIterationId = courseIterationId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(final SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > maxPendingEvents) {
+                drop(String.format("%d events are pending", maxPendingEvents));
+                return;
+            }
+            pendingEvents.add(event);
+            scheduleDelivery();
+        }
+
+        private void scheduleDelivery() {
+            if (!delivering.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                deliveryPool.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                drop("the delivery queue is full");
+            }
+        }
+
+        private void deliver() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = pendingEvents.poll()) != null) {
+                pendingCount.decrementAndGet();
+                if (!send(event)) {
+                    return;
+                }
+            }
+            delivering.set(false);
+            // Events enqueued after the queue was drained but before the flag was reset still need a delivery
+            if (!pendingEvents.isEmpty()) {
+                scheduleDelivery();
+            }
+        }
+
+        private boolean send(final SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.info(String.format("Dropping event subscriber of course iteration %s. Error message: %s",
+                        courseIterationId, e.getMessage()));
+                unsubscribe(this);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+
+        private void drop(final String reason) {
+            log.info(String.format("Dropping event subscriber of course iteration %s, %s.", courseIterationId, reason));
+            unsubscribe(this);
+            pendingEvents.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package prompt.ls1.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import prompt.ls1.model.CourseIteration;
+import prompt.ls1.repository.CourseIterationRepository;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Answers which course iteration has a period open at a given time from an immutable in-memory index of the
+ * periods of all course iterations. Committed changes replace the whole index at once, so lookups never hit the
+ * database and never see a half-updated index. A periodic reload picks up changes made by other instances.
+ */
+@Slf4j
+@Component
+public class CourseIterationPeriodResolver {
+
+    @AllArgsConstructor
+    public enum Period {
+        DEVELOPER_APPLICATION(CourseIteration::getDeveloperApplicationPeriodStart, CourseIteration::getDeveloperApplicationPeriodEnd),
+        COACH_APPLICATION(CourseIteration::getCoachApplicationPeriodStart, CourseIteration::getCoachApplicationPeriodEnd),
+        TUTOR_APPLICATION(CourseIteration::getTutorApplicationPeriodStart, CourseIteration::getTutorApplicationPeriodEnd),
+        KICKOFF_SUBMISSION(CourseIteration::getKickoffSubmissionPeriodStart, CourseIteration::getKickoffSubmissionPeriodEnd),
+        INTRO_COURSE(CourseIteration::getIntroCourseStart, CourseIteration::getIntroCourseEnd);
+
+        private final Function<CourseIteration, Date> start;
+        private final Function<CourseIteration, Date> end;
+    }
+
+    private final CourseIterationRepository courseIterationRepository;
+    private final AtomicReference<PeriodIndex> index = new AtomicReference<>(PeriodIndex.of(List.of()));
+
+    @Autowired
+    public CourseIterationPeriodResolver(final CourseIterationRepository courseIterationRepository) {
+        this.courseIterationRepository = courseIterationRepository;
+    }
+
+    /**
+     * Returns the id of the course iteration whose period includes the given time. Should periods of several
+     * course iterations include it, the one that started last wins.
+     */
+    public Optional<UUID> findOpen(final Period period, final Date date) {
+        return index.get().findOpen(period, date.getTime());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${prompt.course-iteration-periods.reload-interval}",
+            initialDelayString = "${prompt.course-iteration-periods.reload-interval}")
+    public void reload() {
+        final PeriodIndex current = index.get();
+        final PeriodIndex reloaded = PeriodIndex.of(courseIterationRepository.findAll());
+        // A change committed while reloading is newer than what was just read, keep it until the next reload
+        if (!index.compareAndSet(current, reloaded)) {
+            log.info("Course iteration periods changed while reloading, keeping the updated index.");
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseIterationSaved(final CourseIterationSavedEvent event) {
+        index.updateAndGet(current -> current.with(event.courseIteration()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseIterationDeleted(final CourseIterationDeletedEvent event) {
+        index.updateAndGet(current -> current.without(event.courseIterationId()));
+    }
+
+    // Period dates are stored as DATE columns and compared against the current timestamp, i.e. from midnight to midnight
+    private static long startOfDay(final Date date) {
+        return date.toInstant()
+                .atZone(ZoneId.systemDefault())
+                .toLocalDate()
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private record Interval(Period period, UUID courseIterationId, long start, long end) {
+    }
+
+    private static final class PeriodIndex {
+        private final List<Interval> all;
+        private final Map<Period, List<Interval>> byPeriod = new EnumMap<>(Period.class);
+
+        private PeriodIndex(final List<Interval> all) {
+            this.all = all;
+            for (final Period period : Period.values()) {
+                byPeriod.put(period, all.stream()
+                        .filter(interval -> interval.period() == period)
+                        .sorted(Comparator.comparingLong(Interval::start).reversed())
+                        .toList());
+            }
+        }
+
+        static PeriodIndex of(final Collection<CourseIteration> courseIterations) {
+            return new PeriodIndex(courseIterations.stream()
+                    .flatMap(courseIteration -> intervals(courseIteration).stream())
+                    .toList());
+        }
+
+        PeriodIndex with(final CourseIteration courseIteration) {
+            return new PeriodIndex(Stream.concat(
+                            all.stream().filter(interval -> !interval.courseIterationId().equals(courseIteration.getId())),
+                            intervals(courseIteration).stream())
+                    .toList());
+        }
+
+        PeriodIndex without(final UUID courseIterationId) {
+            return new PeriodIndex(all.stream()
+                    .filter(interval -> !interval.courseIterationId().equals(courseIterationId))
+                    .toList());
+        }
+
+        Optional<UUID> findOpen(final Period period, final long time) {
+            // Sorted by descending start, the first interval that started already and has not ended is the latest one
+            return byPeriod.get(period)
+                    .stream()
+                    .filter(interval -> interval.start() <= time && interval.end() >= time)
+                    .map(Interval::courseIterationId)
+                    .findFirst();
+        }
+
+        private static List<Interval> intervals(final CourseIteration courseIteration) {
+            return Arrays.stream(Period.values())
+                    .filter(period -> period.start.apply(courseIteration) != null && period.end.apply(courseIteration) != null)
+                    .map(period -> new Interval(period, courseIteration.getId(),
+                            startOfDay(period.start.apply(courseIteration)), startOfDay(period.end.apply(courseIteration))))
+                    .toList();
+        }
+    }
+}
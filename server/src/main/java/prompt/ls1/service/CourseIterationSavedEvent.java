@@ -0,0 +1,9 @@
+package prompt.ls1.service;
+
+import prompt.ls1.model.CourseIteration;
+
+/**
+ * Published whenever a course iteration is created or updated, handled once the surrounding transaction committed.
+ */
+public record CourseIterationSavedEvent(CourseIteration courseIteration) {
+}
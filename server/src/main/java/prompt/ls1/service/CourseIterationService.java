@@ -1,12 +1,12 @@
 package prompt.ls1.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import prompt.ls1.exception.ResourceConflictException;
 import prompt.ls1.exception.ResourceInvalidParametersException;
 import prompt.ls1.exception.ResourceNotFoundException;
@@ -16,6 +16,7 @@ import prompt.ls1.model.CourseIterationPhaseCheckEntry;
 import prompt.ls1.model.CoursePhase;
 import prompt.ls1.repository.CourseIterationRepository;
 import prompt.ls1.repository.CoursePhaseRepository;
+import prompt.ls1.service.CourseIterationPeriodResolver.Period;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -30,13 +31,22 @@ import java.util.stream.Collectors;
 public class CourseIterationService {
     private final CourseIterationRepository courseIterationRepository;
     private final CoursePhaseRepository coursePhaseRepository;
+    private final JsonPatchService jsonPatchService;
+    private final CourseIterationPeriodResolver courseIterationPeriodResolver;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final SimpleDateFormat simpleDateFormat;
 
     @Autowired
     public CourseIterationService(final CourseIterationRepository courseIterationRepository,
-                                  final CoursePhaseRepository coursePhaseRepository) {
+                                  final CoursePhaseRepository coursePhaseRepository,
+                                  final JsonPatchService jsonPatchService,
+                                  final CourseIterationPeriodResolver courseIterationPeriodResolver,
+                                  final ApplicationEventPublisher applicationEventPublisher) {
         this.courseIterationRepository = courseIterationRepository;
         this.coursePhaseRepository = coursePhaseRepository;
+        this.jsonPatchService = jsonPatchService;
+        this.courseIterationPeriodResolver = courseIterationPeriodResolver;
+        this.applicationEventPublisher = applicationEventPublisher;
         this.simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX", Locale.GERMAN);
     }
 
@@ -51,22 +61,24 @@ public class CourseIterationService {
             throw new ResourceInvalidParametersException("Application period start date is after the end date.");
         }
 
-        List<CourseIteration> courseIterationPeriodOverlap = courseIterationRepository
-                .findWithApplicationPeriodOverlap(courseIteration.getDeveloperApplicationPeriodStart(), courseIteration.getDeveloperApplicationPeriodEnd());
-        if (!courseIterationPeriodOverlap.isEmpty()) {
-            throw new ResourceInvalidParametersException(
-                    String.format("Course iteration application period overlaps with existing course iteration with name %s",
-                            courseIterationPeriodOverlap.get(0).getSemesterName()));
-        }
-
-        List<CourseIteration> courseIterationKickoffSubmissionPeriodOverlap = courseIterationRepository
-                .findWithKickoffSubmissionPeriodOverlap(courseIteration.getKickoffSubmissionPeriodStart(),
-                        courseIteration.getKickoffSubmissionPeriodEnd());
-        if (!courseIterationKickoffSubmissionPeriodOverlap.isEmpty()) {
-            throw new ResourceInvalidParametersException(
-                    String.format("Course iteration kickoff submission period overlaps with existing course iteration with name %s",
-                            courseIterationPeriodOverlap.get(0).getSemesterName()));
-        }
+        // The period index may lag behind course iterations created on other instances, so overlaps are checked in the database
+        courseIterationRepository.findSemesterNameByDeveloperApplicationPeriodOverlapping(
+                        courseIteration.getDeveloperApplicationPeriodStart(), courseIteration.getDeveloperApplicationPeriodEnd())
+                .ifPresent(semesterName -> {
+                    throw new ResourceInvalidParametersException(
+                            String.format("Course iteration application period overlaps with existing course iteration with name %s",
+                                    semesterName));
+                });
+
+        Optional.ofNullable(courseIteration.getKickoffSubmissionPeriodStart())
+                .filter(start -> courseIteration.getKickoffSubmissionPeriodEnd() != null)
+                .flatMap(start -> courseIterationRepository.findSemesterNameByKickoffSubmissionPeriodOverlapping(
+                        start, courseIteration.getKickoffSubmissionPeriodEnd()))
+                .ifPresent(semesterName -> {
+                    throw new ResourceInvalidParametersException(
+                            String.format("Course iteration kickoff submission period overlaps with existing course iteration with name %s",
+                                    semesterName));
+                });
 
         courseIteration.setPhases(new HashSet<>());
         List<CoursePhase> coursePhases = coursePhaseRepository.findAll();
@@ -83,20 +95,28 @@ public class CourseIterationService {
             courseIteration.getPhases().add(courseIterationPhase);
         });
 
-        return courseIterationRepository.save(courseIteration);
+        final CourseIteration savedCourseIteration = courseIterationRepository.save(courseIteration);
+        applicationEventPublisher.publishEvent(new CourseIterationSavedEvent(savedCourseIteration));
+        return savedCourseIteration;
     }
 
-    public CourseIteration update(final UUID courseIterationId, JsonPatch patchCourseIteration)
+    @Transactional
+    public CourseIteration update(final UUID courseIterationId, JsonPatch patchCourseIteration, final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException{
         CourseIteration existingCourseIteration = findById(courseIterationId);
+        EntityTags.checkIfMatch(ifMatch, EntityTags.of(existingCourseIteration.getId(), existingCourseIteration.getVersion()));
 
-        CourseIteration patchedCourseIteration = applyPatchToCourseIteration(patchCourseIteration, existingCourseIteration);
-        return courseIterationRepository.save(patchedCourseIteration);
+        CourseIteration patchedCourseIteration = jsonPatchService.applyPatch(patchCourseIteration, existingCourseIteration, CourseIteration.class);
+        final CourseIteration savedCourseIteration = courseIterationRepository.save(patchedCourseIteration);
+        applicationEventPublisher.publishEvent(new CourseIterationSavedEvent(savedCourseIteration));
+        return savedCourseIteration;
     }
 
+    @Transactional
     public CourseIteration toggleCourseIterationPhaseCheckEntry(final UUID courseIterationId,
                                                                 final UUID courseIterationPhaseCheckEntryId) {
-        final CourseIteration courseIteration = findById(courseIterationId);
+        final CourseIteration courseIteration = courseIterationRepository.findWithPhasesById(courseIterationId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.", courseIterationId)));
         courseIteration.getPhases().forEach(phase -> {
             phase.getCheckEntries().forEach(courseIterationPhaseCheckEntry -> {
                 if (courseIterationPhaseCheckEntry.getId().equals(courseIterationPhaseCheckEntryId)) {
@@ -112,6 +132,7 @@ public class CourseIterationService {
         CourseIteration courseIteration = findById(courseIterationId);
 
         courseIterationRepository.deleteById(courseIterationId);
+        applicationEventPublisher.publishEvent(new CourseIterationDeletedEvent(courseIterationId));
         return courseIteration.getId();
     }
 
@@ -122,26 +143,30 @@ public class CourseIterationService {
     }
 
     public List<CourseIteration> findAll() {
-        return courseIterationRepository.findAll();
+        return courseIterationRepository.findAllWithPhases();
     }
 
     public CourseIteration findWithOpenKickOffPeriod() {
-        return courseIterationRepository.findWithKickoffSubmissionPeriodIncludes(new Date())
+        return courseIterationPeriodResolver.findOpen(Period.KICKOFF_SUBMISSION, new Date())
+                .flatMap(courseIterationRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Course iteration with open kick off period not found."));
     }
 
     public CourseIteration findWithOpenDeveloperApplicationPeriod() {
-        return courseIterationRepository.findWithApplicationPeriodIncludes(new Date())
+        return courseIterationPeriodResolver.findOpen(Period.DEVELOPER_APPLICATION, new Date())
+                .flatMap(courseIterationRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Course iteration with open developer application period not found."));
     }
 
     public CourseIteration findWithOpenCoachApplicationPeriod() {
-        return courseIterationRepository.findWithCoachApplicationPeriodIncludes(new Date())
+        return courseIterationPeriodResolver.findOpen(Period.COACH_APPLICATION, new Date())
+                .flatMap(courseIterationRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Course iteration with open coach application period not found."));
     }
 
     public CourseIteration findWithOpenTutorApplicationPeriod() {
-        return courseIterationRepository.findWithTutorApplicationPeriodIncludes(new Date())
+        return courseIterationPeriodResolver.findOpen(Period.TUTOR_APPLICATION, new Date())
+                .flatMap(courseIterationRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Course iteration with open tutor application period not found."));
     }
 
@@ -149,11 +174,4 @@ public class CourseIterationService {
         return courseIterationRepository.findById(courseIterationId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with id %s not found.", courseIterationId)));
     }
-
-    private CourseIteration applyPatchToCourseIteration(
-            JsonPatch patch, CourseIteration targetCourseIteration) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(targetCourseIteration, JsonNode.class));
-        return objectMapper.treeToValue(patched, CourseIteration.class);
-    }
 }
@@ -2,6 +2,7 @@ package prompt.ls1.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import prompt.ls1.exception.ResourceConflictException;
 import prompt.ls1.exception.ResourceNotFoundException;
 import prompt.ls1.model.CourseIteration;
@@ -54,6 +55,7 @@ public class CoursePhaseService {
         return coursePhaseRepository.save(coursePhase);
     }
 
+    @Transactional
     public CoursePhase createCoursePhaseCheck(final UUID coursePhaseId, final CoursePhaseCheck coursePhaseCheck) {
         final CoursePhase coursePhase = findById(coursePhaseId);
         final Optional<CoursePhaseCheck> conflictingCoursePhaseCheck = coursePhase.getChecks()
@@ -74,7 +76,7 @@ public class CoursePhaseService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Course phase check with title %s not found for course phase with id " +
                         "%s.", coursePhaseCheck.getTitle(), coursePhase.getId())));
 
-        final List<CourseIteration> courseIterations = courseIterationRepository.findAll();
+        final List<CourseIteration> courseIterations = courseIterationRepository.findAllWithPhases();
         courseIterations.forEach(courseIteration ->
                 courseIteration.getPhases().stream().filter(phase -> phase.getCoursePhase().getId().equals(coursePhase.getId()))
                 .findFirst().ifPresent(phase -> {
@@ -89,6 +91,7 @@ public class CoursePhaseService {
         return savedCoursePhase;
     }
 
+    @Transactional
     public CoursePhase deleteCoursePhaseCheck(final UUID coursePhaseId, final UUID coursePhaseCheckId) {
         final CoursePhase coursePhase = findById(coursePhaseId);
         final CoursePhaseCheck coursePhaseCheck = coursePhase.getChecks()
@@ -106,7 +109,7 @@ public class CoursePhaseService {
         });
         coursePhase.getChecks().remove(coursePhaseCheck);
 
-        final List<CourseIteration> courseIterations = courseIterationRepository.findAll();
+        final List<CourseIteration> courseIterations = courseIterationRepository.findAllWithPhases();
         courseIterations.forEach(courseIteration ->
                 courseIteration.getPhases().stream().filter(phase -> phase.getCoursePhase().getId().equals(coursePhase.getId()))
                 .findFirst().ifPresent(phase -> phase.getCheckEntries()
@@ -132,9 +135,10 @@ public class CoursePhaseService {
         return findById(coursePhaseId);
     }
 
+    @Transactional
     public UUID deleteById(final UUID coursePhaseId) {
         final CoursePhase coursePhase = findById(coursePhaseId);
-        final List<CourseIteration> courseIterations = courseIterationRepository.findAll();
+        final List<CourseIteration> courseIterations = courseIterationRepository.findAllWithPhases();
         courseIterations.forEach(courseIteration -> {
             final Optional<CourseIterationPhase> courseIterationPhase = courseIteration.getPhases()
                     .stream().filter(iterationPhase -> iterationPhase.getCoursePhase().getId().equals(coursePhaseId))
@@ -0,0 +1,75 @@
+package prompt.ls1.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import prompt.ls1.controller.payload.SyncDelta;
+import prompt.ls1.exception.ResourceInvalidParametersException;
+import prompt.ls1.model.Tombstone;
+import prompt.ls1.model.enums.TombstoneEntityType;
+import prompt.ls1.repository.TombstoneRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Serves the entities of a course iteration that changed since a client's last sync. Watermarks and modification
+ * timestamps both come from the database clock, which stamps a row with the start of its transaction. The returned
+ * watermark is taken before querying and the lookup reaches back by the configured overlap, which has to exceed the
+ * longest writing transaction, so rows of transactions that committed late are not missed; clients merge by id and
+ * tolerate seeing an entity twice. Deletions are served
+ * from tombstones, which are kept for the configured retention only, so older watermarks require a full reload.
+ */
+@Slf4j
+@Service
+public class DeltaSyncService {
+    private final TombstoneRepository tombstoneRepository;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    @Autowired
+    public DeltaSyncService(final TombstoneRepository tombstoneRepository,
+                            @Value("${prompt.delta-sync.overlap}") final Duration overlap,
+                            @Value("${prompt.delta-sync.tombstone-retention}") final Duration tombstoneRetention) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public <T> SyncDelta<T> findChanges(final UUID courseIterationId,
+                                        final TombstoneEntityType entityType,
+                                        final LocalDateTime modifiedSince,
+                                        final Function<LocalDateTime, List<T>> findModifiedSince) {
+        final LocalDateTime watermark = currentTimestamp();
+        if (modifiedSince.isBefore(watermark.minus(tombstoneRetention))) {
+            throw new ResourceInvalidParametersException(String.format("Changes since %s are no longer tracked. " +
+                    "Please reload the full list.", modifiedSince));
+        }
+
+        final LocalDateTime since = modifiedSince.minus(overlap);
+        return new SyncDelta<>(watermark,
+                findModifiedSince.apply(since),
+                tombstoneRepository.findEntityIdsDeletedSince(courseIterationId, entityType, since));
+    }
+
+    public void recordDeletion(final TombstoneEntityType entityType, final UUID entityId, final UUID courseIterationId) {
+        tombstoneRepository.save(new Tombstone(entityId, entityType, courseIterationId, currentTimestamp()));
+    }
+
+    public LocalDateTime currentTimestamp() {
+        return tombstoneRepository.findCurrentTimestamp();
+    }
+
+    @Scheduled(fixedDelayString = "${prompt.delta-sync.purge-interval}")
+    public void purgeExpiredTombstones() {
+        final int purged = tombstoneRepository.deleteAllDeletedBefore(currentTimestamp().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info(String.format("Purged %d expired tombstones.", purged));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package prompt.ls1.service;
+
+import prompt.ls1.exception.ResourcePreconditionFailedException;
+import prompt.ls1.model.Application;
+import prompt.ls1.model.CoachApplication;
+import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.ProjectTeam;
+import prompt.ls1.model.Student;
+import prompt.ls1.model.TutorApplication;
+import prompt.ls1.repository.ApplicationVersion;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Strong entity tags derived from JPA version columns. A tag changes whenever one of the versioned rows
+ * behind a representation changes, so it can be computed from a version lookup without loading the entity.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(final UUID id, final Long... versions) {
+        return String.format("\"%s-%s\"", id, Arrays.stream(versions)
+                .map(version -> Objects.toString(version, "0"))
+                .collect(Collectors.joining(".")));
+    }
+
+    /**
+     * Covers every versioned row that is serialized with the application, so that a change of the student or
+     * the project team changes the tag as well. Has to match {@link #of(ApplicationVersion)}.
+     */
+    public static String of(final Application application) {
+        final Student student = switch (application) {
+            case DeveloperApplication developerApplication -> developerApplication.getStudent();
+            case CoachApplication coachApplication -> coachApplication.getStudent();
+            case TutorApplication tutorApplication -> tutorApplication.getStudent();
+            default -> null;
+        };
+        final ProjectTeam projectTeam = switch (application) {
+            case DeveloperApplication developerApplication -> developerApplication.getProjectTeam();
+            case CoachApplication coachApplication -> coachApplication.getProjectTeam();
+            default -> null;
+        };
+
+        return of(application.getId(), application.getVersion(),
+                application.getAssessment() == null ? null : application.getAssessment().getVersion(),
+                student == null ? null : student.getVersion(),
+                student == null || student.getDevelopmentProfile() == null ? null : student.getDevelopmentProfile().getVersion(),
+                projectTeam == null ? null : projectTeam.getVersion(),
+                projectTeam == null || projectTeam.getCourseIteration() == null ? null : projectTeam.getCourseIteration().getVersion());
+    }
+
+    public static String of(final ApplicationVersion version) {
+        return of(version.id(), version.version(), version.assessmentVersion(), version.studentVersion(),
+                version.developmentProfileVersion(), version.projectTeamVersion(), version.projectTeamCourseIterationVersion());
+    }
+
+    public static void checkIfMatch(final Optional<String> ifMatch, final String currentTag) {
+        if (ifMatch.isEmpty()) {
+            return;
+        }
+
+        final boolean matches = Arrays.stream(ifMatch.get().split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(currentTag));
+        if (!matches) {
+            throw new ResourcePreconditionFailedException(String.format(
+                    "Resource was modified concurrently, the current entity tag is %s.", currentTag));
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -47,6 +48,14 @@ public class FileSystemStorageService {
         }
     }
 
+    public FileTime getLastModifiedTime(final Path rootLocation, final String filename) throws StorageException {
+        try {
+            return Files.getLastModifiedTime(rootLocation.resolve(filename));
+        } catch (IOException e) {
+            throw new StorageException("Failed to read the modification time of file.", e);
+        }
+    }
+
     public String store(final Path rootLocation, final MultipartFile file) {
         try {
 
@@ -1,15 +1,15 @@
 package prompt.ls1.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
-import jakarta.mail.MessagingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.MailCampaignStatus;
 import prompt.ls1.controller.payload.Seat;
 import prompt.ls1.controller.payload.SeatPlanAssignment;
+import prompt.ls1.controller.payload.SyncDelta;
 import prompt.ls1.exception.ResourceConflictException;
 import prompt.ls1.exception.ResourceInvalidParametersException;
 import prompt.ls1.exception.ResourceNotFoundException;
@@ -21,6 +21,8 @@ import prompt.ls1.model.Student;
 import prompt.ls1.model.TutorApplication;
 import prompt.ls1.model.enums.ApplicationStatus;
 import prompt.ls1.model.enums.Device;
+import prompt.ls1.model.enums.MailCampaignType;
+import prompt.ls1.model.enums.TombstoneEntityType;
 import prompt.ls1.repository.CourseIterationRepository;
 import prompt.ls1.repository.DeveloperApplicationRepository;
 import prompt.ls1.repository.IntroCourseAbsenceRepository;
@@ -28,11 +30,13 @@ import prompt.ls1.repository.IntroCourseParticipationRepository;
 import prompt.ls1.repository.StudentRepository;
 import prompt.ls1.repository.TutorApplicationRepository;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class IntroCourseService {
@@ -43,6 +47,10 @@ public class IntroCourseService {
     private final DeveloperApplicationRepository developerApplicationRepository;
     private final TutorApplicationRepository tutorApplicationRepository;
     private final MailingService mailingService;
+    private final JsonPatchService jsonPatchService;
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final CourseIterationChangePublisher courseIterationChangePublisher;
+    private final DeltaSyncService deltaSyncService;
 
     @Autowired
     public IntroCourseService(final IntroCourseParticipationRepository introCourseParticipationRepository,
@@ -51,7 +59,11 @@ public class IntroCourseService {
                               final StudentRepository studentRepository,
                               final DeveloperApplicationRepository developerApplicationRepository,
                               final TutorApplicationRepository tutorApplicationRepository,
-                              final MailingService mailingService) {
+                              final MailingService mailingService,
+                              final JsonPatchService jsonPatchService,
+                              final ApplicationStatisticsService applicationStatisticsService,
+                              final CourseIterationChangePublisher courseIterationChangePublisher,
+                              final DeltaSyncService deltaSyncService) {
         this.introCourseParticipationRepository = introCourseParticipationRepository;
         this.introCourseAbsenceRepository = introCourseAbsenceRepository;
         this.courseIterationRepository = courseIterationRepository;
@@ -59,10 +71,21 @@ public class IntroCourseService {
         this.developerApplicationRepository = developerApplicationRepository;
         this.tutorApplicationRepository = tutorApplicationRepository;
         this.mailingService = mailingService;
+        this.jsonPatchService = jsonPatchService;
+        this.applicationStatisticsService = applicationStatisticsService;
+        this.courseIterationChangePublisher = courseIterationChangePublisher;
+        this.deltaSyncService = deltaSyncService;
     }
 
-    public List<IntroCourseParticipation> findAllByCourseIterationId(final UUID courseIterationId) {
-        return introCourseParticipationRepository.findAllByCourseIterationId(courseIterationId);
+    public Stream<IntroCourseParticipation> streamAllByCourseIterationId(final UUID courseIterationId) {
+        return introCourseParticipationRepository.streamAllByCourseIterationId(courseIterationId);
+    }
+
+    @Transactional(readOnly = true)
+    public SyncDelta<IntroCourseParticipation> findChangesByCourseIterationId(final UUID courseIterationId,
+                                                                            final LocalDateTime modifiedSince) {
+        return deltaSyncService.findChanges(courseIterationId, TombstoneEntityType.INTRO_COURSE_PARTICIPATION, modifiedSince,
+                since -> introCourseParticipationRepository.findAllByCourseIterationIdModifiedSince(courseIterationId, since));
     }
 
     public List<Student> findAllIntroCourseTutors(final String courseIterationName) {
@@ -78,12 +101,17 @@ public class IntroCourseService {
                 .toList();
     }
 
-    public IntroCourseParticipation update(UUID introCourseParticipationId, JsonPatch introCourseParticipationPatch)
+    @Transactional
+    public IntroCourseParticipation update(UUID introCourseParticipationId,
+                                           JsonPatch introCourseParticipationPatch,
+                                           final Optional<String> ifMatch)
             throws JsonPatchException, JsonProcessingException {
         final IntroCourseParticipation existingIntroCourseParticipation = findById(introCourseParticipationId);
+        EntityTags.checkIfMatch(ifMatch, EntityTags.of(existingIntroCourseParticipation.getId(),
+                existingIntroCourseParticipation.getVersion()));
 
-        final IntroCourseParticipation patchedIntroCourseParticipation = applyPatch(introCourseParticipationPatch, existingIntroCourseParticipation);
-        return introCourseParticipationRepository.save(patchedIntroCourseParticipation);
+        final IntroCourseParticipation patchedIntroCourseParticipation = jsonPatchService.applyPatch(introCourseParticipationPatch, existingIntroCourseParticipation, IntroCourseParticipation.class);
+        return save(patchedIntroCourseParticipation);
     }
 
     public List<IntroCourseParticipation> createSeatPlanAssignments(final List<SeatPlanAssignment> seatPlanAssignments) {
@@ -103,7 +131,7 @@ public class IntroCourseService {
 
                     introCourseParticipation.setSeat(seatPlanAssignment.getSeat());
 
-                    return introCourseParticipationRepository.save(introCourseParticipation);
+                    return save(introCourseParticipation);
                 })
                 .toList();
     }
@@ -144,7 +172,7 @@ public class IntroCourseService {
 
                         seatPlan.remove(seatWithDevice);
 
-                        return introCourseParticipationRepository.save(introCourseParticipation);
+                        return save(introCourseParticipation);
                     }))
                 .ifPresent(values -> updatedIntroCourseParticipations.addAll(values.toList()));
 
@@ -173,13 +201,14 @@ public class IntroCourseService {
 
                             seatPlan.remove(seat);
 
-                            return introCourseParticipationRepository.save(introCourseParticipation);
+                            return save(introCourseParticipation);
                         }))
                 .ifPresent(values -> updatedIntroCourseParticipations.addAll(values.toList()));
 
         return updatedIntroCourseParticipations;
     }
 
+    @Transactional
     public IntroCourseParticipation deleteIntroCourseAbsence(final UUID introCourseParticipationId,
                                                              final UUID introCourseAbsenceId) {
         final IntroCourseParticipation introCourseParticipation = findById(introCourseParticipationId);
@@ -194,9 +223,10 @@ public class IntroCourseService {
                 });
         introCourseParticipation.getAbsences().remove(introCourseAbsence);
 
-        return introCourseParticipationRepository.save(introCourseParticipation);
+        return save(introCourseParticipation);
     }
 
+    @Transactional
     public IntroCourseParticipation createIntroCourseAbsence(final UUID introCourseParticipationId,
                                                              final IntroCourseAbsence introCourseAbsence) {
         final IntroCourseParticipation introCourseParticipation = findById(introCourseParticipationId);
@@ -218,15 +248,16 @@ public class IntroCourseService {
         introCourseAbsence.accept();
         introCourseParticipation.getAbsences().add(introCourseAbsence);
 
-        return introCourseParticipationRepository.save(introCourseParticipation);
+        return save(introCourseParticipation);
     }
 
+    @Transactional
     public IntroCourseAbsence updateIntroCourseAbsence(final UUID introCourseAbsenceId, final JsonPatch introCourseAbsencePatch)
             throws JsonPatchException, JsonProcessingException {
         final IntroCourseAbsence existingIntroCourseAbsence = introCourseAbsenceRepository.findById(introCourseAbsenceId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Intro course absence with id  %s not found.", introCourseAbsenceId)));
 
-        final IntroCourseAbsence patchedIntroCourseAbsence = applyIntroCourseAbsencePatch(introCourseAbsencePatch, existingIntroCourseAbsence);
+        final IntroCourseAbsence patchedIntroCourseAbsence = jsonPatchService.applyPatch(introCourseAbsencePatch, existingIntroCourseAbsence, IntroCourseAbsence.class);
         return introCourseAbsenceRepository.save(patchedIntroCourseAbsence);
     }
 
@@ -246,6 +277,7 @@ public class IntroCourseService {
         return introCourseAbsenceRepository.save(existingIntroCourseAbsence);
     }
 
+    @Transactional
     public IntroCourseParticipation createIntroCourseAbsenceReport(final String semesterName,
                                                              final String tumId,
                                                              final IntroCourseAbsence introCourseAbsence) {
@@ -272,9 +304,10 @@ public class IntroCourseService {
         introCourseAbsence.pend();
         introCourseParticipation.getAbsences().add(introCourseAbsence);
 
-        return introCourseParticipationRepository.save(introCourseParticipation);
+        return save(introCourseParticipation);
     }
 
+    @Transactional
     public IntroCourseParticipation markAsDroppedOut(final UUID introCourseParticipationId, final Boolean droppedOut) {
         final IntroCourseParticipation introCourseParticipation = findById(introCourseParticipationId);
         final DeveloperApplication developerApplication = developerApplicationRepository
@@ -282,26 +315,21 @@ public class IntroCourseService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Developer application for student with id %s not found.",
                         introCourseParticipation.getStudent().getId())));
 
+        final ApplicationStatus status;
         if (droppedOut) {
-            developerApplication.getAssessment().setStatus(ApplicationStatus.DROPPED_OUT);
-            introCourseParticipation.setDroppedOut(true);
+            status = ApplicationStatus.DROPPED_OUT;
+        } else if (introCourseParticipation.getPassed() != null) {
+            status = introCourseParticipation.getPassed() ? ApplicationStatus.INTRO_COURSE_PASSED : ApplicationStatus.INTRO_COURSE_NOT_PASSED;
         } else {
-            if (introCourseParticipation.getPassed() != null) {
-                if (introCourseParticipation.getPassed()) {
-                    developerApplication.getAssessment().setStatus(ApplicationStatus.INTRO_COURSE_PASSED);
-                } else {
-                    developerApplication.getAssessment().setStatus(ApplicationStatus.INTRO_COURSE_NOT_PASSED);
-                }
-            } else {
-                developerApplication.getAssessment().setStatus(ApplicationStatus.ENROLLED);
-            }
-            introCourseParticipation.setDroppedOut(false);
+            status = ApplicationStatus.ENROLLED;
         }
+        changeApplicationStatus(developerApplication, status);
+        introCourseParticipation.setDroppedOut(droppedOut);
 
-        developerApplicationRepository.save(developerApplication);
-        return introCourseParticipationRepository.save(introCourseParticipation);
+        return save(introCourseParticipation);
     }
 
+    @Transactional
     public IntroCourseParticipation markAsNotPassed(final UUID introCourseParticipationId) {
         final IntroCourseParticipation introCourseParticipation = findById(introCourseParticipationId);
         final DeveloperApplication developerApplication = developerApplicationRepository
@@ -309,14 +337,14 @@ public class IntroCourseService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Developer application for student with id %s not found.",
                         introCourseParticipation.getStudent().getId())));
 
-        developerApplication.getAssessment().setStatus(ApplicationStatus.INTRO_COURSE_NOT_PASSED);
-        developerApplicationRepository.save(developerApplication);
+        changeApplicationStatus(developerApplication, ApplicationStatus.INTRO_COURSE_NOT_PASSED);
 
         introCourseParticipation.setPassed(false);
 
-        return introCourseParticipationRepository.save(introCourseParticipation);
+        return save(introCourseParticipation);
     }
 
+    @Transactional
     public IntroCourseParticipation markAsPassed(final UUID introCourseParticipationId) {
         final IntroCourseParticipation introCourseParticipation = findById(introCourseParticipationId);
         final DeveloperApplication developerApplication = developerApplicationRepository
@@ -324,29 +352,25 @@ public class IntroCourseService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Developer application for student with id %s not found.",
                         introCourseParticipation.getStudent().getId())));
 
-        developerApplication.getAssessment().setStatus(ApplicationStatus.INTRO_COURSE_PASSED);
-        developerApplicationRepository.save(developerApplication);
+        changeApplicationStatus(developerApplication, ApplicationStatus.INTRO_COURSE_PASSED);
 
         introCourseParticipation.setPassed(true);
 
-        return introCourseParticipationRepository.save(introCourseParticipation);
+        return save(introCourseParticipation);
     }
 
-    public void sendInvitationsForStudentTechnicalDetailsSubmission(final UUID courseIterationId) {
+    public MailCampaignStatus sendInvitationsForStudentTechnicalDetailsSubmission(final UUID courseIterationId) {
         final CourseIteration courseIteration = courseIterationRepository.findById(courseIterationId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format("No course iteration with id %s found.", courseIterationId)));
 
-        final List<IntroCourseParticipation> introCourseParticipations = introCourseParticipationRepository
-                .findAllByCourseIterationId(courseIterationId);
+        final List<Student> students = introCourseParticipationRepository
+                .findAllByCourseIterationId(courseIterationId)
+                .stream()
+                .map(IntroCourseParticipation::getStudent)
+                .toList();
 
-        introCourseParticipations.forEach(introCourseParticipation -> {
-            try {
-                mailingService.sendTechnicalDetailsSubmissionInvitationEmail(introCourseParticipation.getStudent(), courseIteration);
-            } catch (MessagingException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        return mailingService.sendCampaign(MailCampaignType.TECHNICAL_DETAILS_SUBMISSION_INVITATION, courseIteration, students);
     }
 
     private IntroCourseParticipation findById(final UUID introCourseParticipationId) {
@@ -354,17 +378,17 @@ public class IntroCourseService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Intro course participation with id %s not found.", introCourseParticipationId)));
     }
 
-    private IntroCourseAbsence applyIntroCourseAbsencePatch(
-            JsonPatch patch, IntroCourseAbsence targetIntroCourseAbsence) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(targetIntroCourseAbsence, JsonNode.class));
-        return objectMapper.treeToValue(patched, IntroCourseAbsence.class);
+    private void changeApplicationStatus(final DeveloperApplication developerApplication, final ApplicationStatus status) {
+        applicationStatisticsService.apply(new ApplicationStatisticsDelta().changeStatus(developerApplication, status));
+        developerApplication.getAssessment().setStatus(status);
+        courseIterationChangePublisher.applicationChanged(developerApplicationRepository.save(developerApplication));
     }
 
-    private IntroCourseParticipation applyPatch(
-            JsonPatch patch, IntroCourseParticipation targetIntroCourseParticipation) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(targetIntroCourseParticipation, JsonNode.class));
-        return objectMapper.treeToValue(patched, IntroCourseParticipation.class);
+    private IntroCourseParticipation save(final IntroCourseParticipation introCourseParticipation) {
+        // Absence changes alone do not dirty the participation, touch it so delta syncs pick them up
+        introCourseParticipation.setUpdatedAt(LocalDateTime.now());
+        final IntroCourseParticipation savedIntroCourseParticipation = introCourseParticipationRepository.save(introCourseParticipation);
+        courseIterationChangePublisher.introCourseParticipationChanged(savedIntroCourseParticipation);
+        return savedIntroCourseParticipation;
     }
 }
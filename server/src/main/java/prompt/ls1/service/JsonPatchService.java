@@ -0,0 +1,219 @@
+package prompt.ls1.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import prompt.ls1.exception.ResourceInvalidParametersException;
+import prompt.ls1.exception.ResourceNotFoundException;
+import prompt.ls1.model.ApplicationAssessment;
+import prompt.ls1.model.CourseIteration;
+import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.IntroCourseAbsence;
+import prompt.ls1.model.IntroCourseParticipation;
+import prompt.ls1.model.ProjectTeam;
+import prompt.ls1.model.Student;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Applies JSON patches to managed entities with a shared mapper. Every entity type declares the properties
+ * that may be patched; only those named in the patch are written back into the target instance, so Hibernate
+ * updates just the touched columns. Associations are patched by reference: the patch names the id of the new
+ * associated entity, which is never modified itself. The patch is applied to a document of the patchable
+ * properties only, so lazy associations outside of them are never serialized or loaded.
+ */
+@Service
+public class JsonPatchService {
+    private static final Map<Class<?>, Set<String>> PATCHABLE_PROPERTIES = Map.of(
+            CourseIteration.class, Set.of("semesterName", "iosTag",
+                    "developerApplicationPeriodStart", "developerApplicationPeriodEnd",
+                    "coachApplicationPeriodStart", "coachApplicationPeriodEnd",
+                    "tutorApplicationPeriodStart", "tutorApplicationPeriodEnd",
+                    "coachInterviewDate", "tutorInterviewDate",
+                    "coachInterviewPlannerLink", "tutorInterviewPlannerLink",
+                    "coachInterviewLocation", "tutorInterviewLocation",
+                    "introCourseStart", "introCourseEnd",
+                    "kickoffSubmissionPeriodStart", "kickoffSubmissionPeriodEnd",
+                    "projectTeamPreferencesSubmissionOpen"),
+            ProjectTeam.class, Set.of("name", "customer", "projectLeadTumId", "coachTumId"),
+            DeveloperApplication.class, Set.of("studyDegree", "currentSemester", "studyProgram",
+                    "germanLanguageProficiency", "englishLanguageProficiency", "experience", "motivation", "projectTeam"),
+            ApplicationAssessment.class, Set.of("assessmentScore", "technicalChallengeProgrammingScore",
+                    "technicalChallengeQuizScore", "status"),
+            Student.class, Set.of("suggestedAsCoach", "suggestedAsTutor", "blockedByPm", "reasonForBlockedByPm"),
+            IntroCourseParticipation.class, Set.of("tutorId", "seat", "chairDevice", "supervisorAssessment", "tutorComments"),
+            IntroCourseAbsence.class, Set.of("date", "excuse"));
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, PatchSchema> schemas = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public JsonPatchService(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> T applyPatch(final JsonPatch patch, final T target, final Class<T> type)
+            throws JsonPatchException, JsonProcessingException {
+        final PatchSchema schema = schemas.computeIfAbsent(type, this::compileSchema);
+        final Set<String> touchedPaths = findTouchedPaths(patch);
+        final Set<String> touchedProperties = touchedPaths
+                .stream()
+                .map(this::rootProperty)
+                .collect(Collectors.toSet());
+
+        final Set<String> rejectedPaths = touchedPaths
+                .stream()
+                .filter(path -> !isPatchable(schema, path))
+                .collect(Collectors.toSet());
+        if (!rejectedPaths.isEmpty()) {
+            throw new ResourceInvalidParametersException(String.format("Paths %s of %s cannot be patched.",
+                    rejectedPaths, type.getSimpleName()));
+        }
+
+        final JsonNode patched = patch.apply(toPatchableDocument(schema, target));
+
+        final ObjectNode changes = objectMapper.createObjectNode();
+        for (final String property : touchedProperties) {
+            final JsonNode value = patched.has(property) ? patched.get(property) : objectMapper.nullNode();
+            if (schema.associations().containsKey(property)) {
+                schema.mutators().get(property).setValue(target, findReference(schema.associations().get(property), value));
+            } else {
+                changes.set(property, value);
+            }
+        }
+
+        final ObjectReader reader = objectMapper.readerForUpdating(target);
+        return reader.readValue(changes);
+    }
+
+    /**
+     * Serializes the patchable properties of the target, associations only by their id so that they stay unloaded.
+     */
+    private ObjectNode toPatchableDocument(final PatchSchema schema, final Object target) {
+        final ObjectNode document = objectMapper.createObjectNode();
+        schema.accessors().forEach((property, accessor) -> {
+            final Object value = accessor.getValue(target);
+            if (value == null) {
+                document.set(property, objectMapper.nullNode());
+            } else if (schema.associations().containsKey(property)) {
+                document.set(property, objectMapper.createObjectNode().put("id", entityManager.getEntityManagerFactory()
+                        .getPersistenceUnitUtil().getIdentifier(value).toString()));
+            } else {
+                document.set(property, objectMapper.valueToTree(value));
+            }
+        });
+        return document;
+    }
+
+    private boolean isPatchable(final PatchSchema schema, final String path) {
+        final String property = rootProperty(path);
+        if (!schema.mutators().containsKey(property)) {
+            return false;
+        }
+        // Associations can only be re-pointed as a whole or by their id, never edited through the patch
+        return !schema.associations().containsKey(property)
+                || path.equals("/" + property) || path.equals("/" + property + "/id");
+    }
+
+    private Object findReference(final Class<?> associationType, final JsonNode value) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+
+        final JsonNode id = value.isObject() ? value.path("id") : value;
+        final UUID associationId;
+        try {
+            associationId = UUID.fromString(id.asText());
+        } catch (IllegalArgumentException e) {
+            throw new ResourceInvalidParametersException(String.format("%s must be referenced by a valid id.",
+                    associationType.getSimpleName()));
+        }
+
+        final Object reference = entityManager.find(associationType, associationId);
+        if (reference == null) {
+            throw new ResourceNotFoundException(String.format("%s with id %s not found.",
+                    associationType.getSimpleName(), associationId));
+        }
+        return reference;
+    }
+
+    private Set<String> findTouchedPaths(final JsonPatch patch) {
+        final Set<String> touchedPaths = new HashSet<>();
+        objectMapper.valueToTree(patch).forEach(operation -> {
+            touchedPaths.add(operation.path("path").asText());
+            if (operation.has("from")) {
+                touchedPaths.add(operation.get("from").asText());
+            }
+        });
+        return touchedPaths;
+    }
+
+    private String rootProperty(final String pointer) {
+        final String withoutLeadingSlash = pointer.startsWith("/") ? pointer.substring(1) : pointer;
+        final int end = withoutLeadingSlash.indexOf('/');
+        final String segment = end < 0 ? withoutLeadingSlash : withoutLeadingSlash.substring(0, end);
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    private PatchSchema compileSchema(final Class<?> type) {
+        final Set<String> patchableProperties = PATCHABLE_PROPERTIES.get(type);
+        if (patchableProperties == null) {
+            throw new IllegalArgumentException(String.format("No patchable properties are declared for %s.", type.getSimpleName()));
+        }
+
+        final BeanDescription description = objectMapper.getDeserializationConfig()
+                .introspect(objectMapper.constructType(type));
+        final Map<String, AnnotatedMember> mutators = description.findProperties()
+                .stream()
+                .filter(property -> patchableProperties.contains(property.getName()) && property.hasSetter())
+                .collect(Collectors.toUnmodifiableMap(BeanPropertyDefinition::getName, BeanPropertyDefinition::getSetter));
+        if (!mutators.keySet().equals(patchableProperties)) {
+            throw new IllegalStateException(String.format("Patchable properties %s of %s have no setter.",
+                    patchableProperties.stream().filter(name -> !mutators.containsKey(name)).toList(), type.getSimpleName()));
+        }
+
+        final Map<String, AnnotatedMember> accessors = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties()
+                .stream()
+                .filter(property -> patchableProperties.contains(property.getName()) && property.getAccessor() != null)
+                .collect(Collectors.toUnmodifiableMap(BeanPropertyDefinition::getName, BeanPropertyDefinition::getAccessor));
+
+        final Map<String, Class<?>> associations = new HashMap<>();
+        final ManagedType<?> managedType = entityManager.getMetamodel().managedType(type);
+        managedType.getAttributes()
+                .stream()
+                .filter(attribute -> patchableProperties.contains(attribute.getName()))
+                .filter(Attribute::isAssociation)
+                .forEach(attribute -> associations.put(attribute.getName(), attribute.getJavaType()));
+
+        return new PatchSchema(mutators, accessors, Map.copyOf(associations));
+    }
+
+    private record PatchSchema(Map<String, AnnotatedMember> mutators,
+                               Map<String, AnnotatedMember> accessors,
+                               Map<String, Class<?>> associations) {
+    }
+}
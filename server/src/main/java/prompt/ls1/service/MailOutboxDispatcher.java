@@ -0,0 +1,151 @@
+package prompt.ls1.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import prompt.ls1.model.MailOutboxEntry;
+import prompt.ls1.model.enums.MailOutboxStatus;
+import prompt.ls1.repository.MailOutboxEntryRepository;
+import prompt.ls1.repository.RateLimitBucketRepository;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+/**
+ * Drains the mail outbox. Due entries are claimed with a lease so that concurrent dispatchers skip them,
+ * split into one chunk per worker, sent over one SMTP connection per chunk and either marked as sent or
+ * rescheduled with exponential backoff. Claims are shaped by a send rate that is shared by all server instances,
+ * so that bulk campaigns do not exceed the quota of the mail relay.
+ */
+@Slf4j
+@Service
+public class MailOutboxDispatcher {
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final String SEND_RATE_BUCKET = "mail-outbox";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailOutboxEntryRepository mailOutboxEntryRepository;
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final MailingService mailingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workerPool;
+    private final int workerThreads;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final int sendRateCapacity;
+    private final Duration sendRateRefillPeriod;
+
+    @Autowired
+    public MailOutboxDispatcher(final MailOutboxEntryRepository mailOutboxEntryRepository,
+                                final RateLimitBucketRepository rateLimitBucketRepository,
+                                final MailingService mailingService,
+                                final TransactionTemplate transactionTemplate,
+                                @Value("${prompt.mail.outbox.worker-threads}") final int workerThreads,
+                                @Value("${prompt.mail.outbox.batch-size}") final int batchSize,
+                                @Value("${prompt.mail.outbox.max-attempts}") final int maxAttempts,
+                                @Value("${prompt.mail.outbox.initial-backoff}") final Duration initialBackoff,
+                                @Value("${prompt.mail.outbox.send-rate.capacity}") final int sendRateCapacity,
+                                @Value("${prompt.mail.outbox.send-rate.refill-period}") final Duration sendRateRefillPeriod) {
+        this.mailOutboxEntryRepository = mailOutboxEntryRepository;
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.mailingService = mailingService;
+        this.transactionTemplate = transactionTemplate;
+        this.workerPool = Executors.newFixedThreadPool(workerThreads);
+        this.workerThreads = workerThreads;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.sendRateCapacity = sendRateCapacity;
+        this.sendRateRefillPeriod = sendRateRefillPeriod;
+    }
+
+    @Scheduled(fixedDelayString = "${prompt.mail.outbox.poll-interval}")
+    public void dispatch() {
+        final List<MailOutboxEntry> claimedEntries = transactionTemplate.execute(status -> claimDueEntries());
+        if (claimedEntries == null || claimedEntries.isEmpty()) {
+            return;
+        }
+
+        final int chunkSize = (claimedEntries.size() + workerThreads - 1) / workerThreads;
+        final CompletableFuture<Void> delivery = CompletableFuture.allOf(IntStream.range(0, (claimedEntries.size() + chunkSize - 1) / chunkSize)
+                .mapToObj(chunk -> claimedEntries.subList(chunk * chunkSize, Math.min(claimedEntries.size(), (chunk + 1) * chunkSize)))
+                .map(entries -> CompletableFuture.runAsync(() -> deliver(entries), workerPool))
+                .toArray(CompletableFuture[]::new));
+
+        // Entries still being delivered once their lease ends may be claimed again, waiting longer gains nothing
+        try {
+            delivery.get(CLAIM_LEASE.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn(String.format("Delivering %d mails did not finish within the claim lease of %d s.",
+                    claimedEntries.size(), CLAIM_LEASE.toSeconds()));
+        } catch (ExecutionException e) {
+            log.error(String.format("Delivering mails failed. Error message: %s", e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    private List<MailOutboxEntry> claimDueEntries() {
+        final List<MailOutboxEntry> lockedEntries = mailOutboxEntryRepository.findDueForUpdate(batchSize);
+        if (lockedEntries.isEmpty()) {
+            return lockedEntries;
+        }
+
+        // Only entries covered by a send permit are leased, the rest stay due and are picked up by a later poll
+        final int permits = rateLimitBucketRepository.tryConsumeUpTo(SEND_RATE_BUCKET, lockedEntries.size(),
+                sendRateCapacity, sendRateRefillPeriod);
+        final List<MailOutboxEntry> dueEntries = lockedEntries.subList(0, permits);
+        final Date leaseEnd = new Date(System.currentTimeMillis() + CLAIM_LEASE.toMillis());
+        dueEntries.forEach(entry -> entry.setNextAttemptAt(leaseEnd));
+        return mailOutboxEntryRepository.saveAll(dueEntries);
+    }
+
+    private void deliver(final List<MailOutboxEntry> entries) {
+        final Map<UUID, Exception> failures = mailingService.deliver(entries);
+        for (final MailOutboxEntry entry : entries) {
+            final Exception failure = failures.get(entry.getId());
+            if (failure == null) {
+                entry.setStatus(MailOutboxStatus.SENT);
+                entry.setSentAt(new Date());
+            } else {
+                reschedule(entry, failure);
+            }
+        }
+
+        mailOutboxEntryRepository.saveAll(entries);
+    }
+
+    private void reschedule(final MailOutboxEntry entry, final Exception e) {
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setLastError(e.getMessage() == null ? null :
+                e.getMessage().substring(0, Math.min(e.getMessage().length(), MAX_ERROR_LENGTH)));
+        if (entry.getAttempts() >= maxAttempts) {
+            entry.setStatus(MailOutboxStatus.FAILED);
+            log.error(String.format("Giving up on mail %s to %s after %d attempts. Error message: %s",
+                    entry.getId(), entry.getRecipients(), entry.getAttempts(), e.getMessage()));
+        } else {
+            final long backoff = initialBackoff.toMillis() * (1L << (entry.getAttempts() - 1));
+            entry.setNextAttemptAt(new Date(System.currentTimeMillis() + backoff));
+        }
+    }
+}
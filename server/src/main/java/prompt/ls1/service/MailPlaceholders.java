@@ -0,0 +1,175 @@
+package prompt.ls1.service;
+
+import prompt.ls1.model.Application;
+import prompt.ls1.model.CoachApplication;
+import prompt.ls1.model.CourseIteration;
+import prompt.ls1.model.Student;
+import prompt.ls1.model.ThesisAdvisor;
+import prompt.ls1.model.ThesisApplication;
+import prompt.ls1.model.TutorApplication;
+import prompt.ls1.model.enums.FocusTopic;
+import prompt.ls1.model.enums.Gender;
+import prompt.ls1.model.enums.LanguageProficiency;
+import prompt.ls1.model.enums.ResearchArea;
+import prompt.ls1.model.enums.StudyDegree;
+import prompt.ls1.model.enums.StudyProgram;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The values available to a {@link MailTemplate}. Every placeholder is computed only if the template contains it,
+ * and a missing value renders as an empty string.
+ */
+public class MailPlaceholders {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd. MMM yyyy")
+            .withZone(ZoneId.systemDefault());
+
+    private static final Map<String, Function<CourseIteration, String>> COURSE_ITERATION = Map.ofEntries(
+            Map.entry("course.semesterName", CourseIteration::getSemesterName),
+            Map.entry("course.id", courseIteration -> Objects.toString(courseIteration.getId(), null)),
+            Map.entry("course.iosTag", CourseIteration::getIosTag),
+            Map.entry("course.developerApplicationPeriodStart", date(CourseIteration::getDeveloperApplicationPeriodStart)),
+            Map.entry("course.developerApplicationPeriodEnd", date(CourseIteration::getDeveloperApplicationPeriodEnd)),
+            Map.entry("course.coachApplicationPeriodStart", date(CourseIteration::getCoachApplicationPeriodStart)),
+            Map.entry("course.coachApplicationPeriodEnd", date(CourseIteration::getCoachApplicationPeriodEnd)),
+            Map.entry("course.tutorApplicationPeriodStart", date(CourseIteration::getTutorApplicationPeriodStart)),
+            Map.entry("course.tutorApplicationPeriodEnd", date(CourseIteration::getTutorApplicationPeriodEnd)),
+            Map.entry("course.coachInterviewDate", date(CourseIteration::getCoachInterviewDate)),
+            Map.entry("course.tutorInterviewDate", date(CourseIteration::getTutorInterviewDate)),
+            Map.entry("course.coachInterviewPlannerLink", CourseIteration::getCoachInterviewPlannerLink),
+            Map.entry("course.tutorInterviewPlannerLink", CourseIteration::getTutorInterviewPlannerLink),
+            Map.entry("course.coachInterviewLocation", CourseIteration::getCoachInterviewLocation),
+            Map.entry("course.tutorInterviewLocation", CourseIteration::getTutorInterviewLocation),
+            Map.entry("course.introCourseStart", date(CourseIteration::getIntroCourseStart)),
+            Map.entry("course.introCourseEnd", date(CourseIteration::getIntroCourseEnd)),
+            Map.entry("course.kickoffSubmissionPeriodStart", date(CourseIteration::getKickoffSubmissionPeriodStart)));
+
+    private static final Map<String, Function<Student, String>> STUDENT = Map.of(
+            "student.firstName", Student::getFirstName,
+            "student.lastName", Student::getLastName,
+            "student.email", Student::getEmail,
+            "student.tumId", Student::getTumId,
+            "student.matriculationNumber", Student::getMatriculationNumber,
+            "student.gender", value(Student::getGender, Gender::getValue),
+            "student.nationality", Student::getNationality,
+            "student.isExchangeStudent", value(Student::getIsExchangeStudent, Object::toString));
+
+    private static final Map<String, Function<Application, String>> APPLICATION = Map.of(
+            "application.studyDegree", value(Application::getStudyDegree, StudyDegree::getValue),
+            "application.studyProgram", value(Application::getStudyProgram, StudyProgram::getValue),
+            "application.currentSemester", value(Application::getCurrentSemester, Object::toString),
+            "application.devices", value(Application::getDevices, MailPlaceholders::join),
+            "application.coursesTaken", value(Application::getCoursesTaken, MailPlaceholders::join),
+            "application.germanLanguageProficiency", value(Application::getGermanLanguageProficiency, LanguageProficiency::getValue),
+            "application.englishLanguageProficiency", value(Application::getEnglishLanguageProficiency, LanguageProficiency::getValue),
+            "application.motivation", Application::getMotivation,
+            "application.experience", Application::getExperience);
+
+    private static final Map<String, Function<CoachApplication, String>> COACH_APPLICATION = Map.of(
+            "application.solvedProblem", CoachApplication::getSolvedProblem);
+
+    private static final Map<String, Function<TutorApplication, String>> TUTOR_APPLICATION = Map.of(
+            "application.reasonGoodTutor", TutorApplication::getReasonGoodTutor);
+
+    private static final Map<String, Function<ThesisApplication, String>> THESIS_APPLICATION = Map.ofEntries(
+            Map.entry("application.studyProgram", value(ThesisApplication::getStudyProgram, StudyProgram::getValue)),
+            Map.entry("application.studyDegree", value(ThesisApplication::getStudyDegree, StudyDegree::getValue)),
+            Map.entry("application.currentSemester", value(ThesisApplication::getCurrentSemester, Object::toString)),
+            Map.entry("application.desiredThesisStart", date(ThesisApplication::getDesiredThesisStart)),
+            Map.entry("application.specialSkills", ThesisApplication::getSpecialSkills),
+            Map.entry("application.motivation", ThesisApplication::getMotivation),
+            Map.entry("application.interests", ThesisApplication::getInterests),
+            Map.entry("application.projects", ThesisApplication::getProjects),
+            Map.entry("application.thesisTitle", ThesisApplication::getThesisTitle),
+            Map.entry("application.researchAreas", value(ThesisApplication::getResearchAreas,
+                    researchAreas -> researchAreas.stream().map(ResearchArea::getValue).collect(Collectors.joining(", ")))),
+            Map.entry("application.focusTopics", value(ThesisApplication::getFocusTopics,
+                    focusTopics -> focusTopics.stream().map(FocusTopic::getValue).collect(Collectors.joining(", ")))));
+
+    private static final Map<String, Function<ThesisAdvisor, String>> THESIS_ADVISOR = Map.of(
+            "advisor.firstName", ThesisAdvisor::getFirstName,
+            "advisor.lastName", ThesisAdvisor::getLastName,
+            "advisor.email", ThesisAdvisor::getEmail,
+            "advisor.tumId", ThesisAdvisor::getTumId);
+
+    private final List<Binding<?>> bindings = new ArrayList<>(4);
+
+    public MailPlaceholders courseIteration(final CourseIteration courseIteration) {
+        return bind(COURSE_ITERATION, courseIteration);
+    }
+
+    public MailPlaceholders student(final Student student) {
+        return bind(STUDENT, student);
+    }
+
+    public MailPlaceholders application(final Application application) {
+        bind(APPLICATION, application);
+        if (application instanceof CoachApplication coachApplication) {
+            bind(COACH_APPLICATION, coachApplication);
+        } else if (application instanceof TutorApplication tutorApplication) {
+            bind(TUTOR_APPLICATION, tutorApplication);
+        }
+        return this;
+    }
+
+    public MailPlaceholders thesisApplication(final ThesisApplication thesisApplication) {
+        return bind(THESIS_APPLICATION, thesisApplication);
+    }
+
+    public MailPlaceholders thesisAdvisor(final ThesisAdvisor thesisAdvisor) {
+        return bind(THESIS_ADVISOR, thesisAdvisor);
+    }
+
+    /**
+     * Returns the value of the given placeholder, or null if none of the bound objects provides it.
+     */
+    String resolve(final String placeholder) {
+        for (final Binding<?> binding : bindings) {
+            final String value = binding.resolve(placeholder);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private <T> MailPlaceholders bind(final Map<String, Function<T, String>> placeholders, final T source) {
+        bindings.add(new Binding<>(placeholders, source));
+        return this;
+    }
+
+    private static <T, V> Function<T, String> value(final Function<T, V> getter, final Function<V, String> formatter) {
+        return source -> {
+            final V value = getter.apply(source);
+            return value == null ? null : formatter.apply(value);
+        };
+    }
+
+    private static <T> Function<T, String> date(final Function<T, Date> getter) {
+        return value(getter, date -> DATE_FORMATTER.format(Instant.ofEpochMilli(date.getTime())));
+    }
+
+    private static String join(final Collection<? extends Enum<?>> values) {
+        return values.stream().map(Enum::toString).collect(Collectors.joining(", "));
+    }
+
+    private record Binding<T>(Map<String, Function<T, String>> placeholders, T source) {
+        String resolve(final String placeholder) {
+            final Function<T, String> value = placeholders.get(placeholder);
+            if (value == null) {
+                return null;
+            }
+            return Objects.requireNonNullElse(value.apply(source), "");
+        }
+    }
+}
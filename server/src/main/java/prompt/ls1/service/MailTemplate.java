@@ -0,0 +1,87 @@
+package prompt.ls1.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A mail template parsed once into the literal text around its {{placeholders}}. Rendering appends literals and
+ * placeholder values to a pre-sized builder in a single pass. Placeholders the given values do not know are kept
+ * as they are, so {@link #fill(MailPlaceholders)} can bind the values shared by a batch of mails up front.
+ */
+public final class MailTemplate {
+    private static final String OPENING = "{{";
+    private static final String CLOSING = "}}";
+    private static final int EXPECTED_VALUE_LENGTH = 32;
+
+    // There is always one literal more than placeholders, literal i precedes placeholder i
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private MailTemplate(final List<String> literals, final List<String> placeholders) {
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static MailTemplate compile(final String source) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int opening = source.indexOf(OPENING);
+        while (opening >= 0) {
+            final int closing = source.indexOf(CLOSING, opening + OPENING.length());
+            if (closing < 0) {
+                break;
+            }
+            literals.add(source.substring(literalStart, opening));
+            placeholders.add(source.substring(opening + OPENING.length(), closing));
+            literalStart = closing + CLOSING.length();
+            opening = source.indexOf(OPENING, literalStart);
+        }
+        literals.add(source.substring(literalStart));
+
+        return new MailTemplate(literals, placeholders);
+    }
+
+    public String render(final MailPlaceholders values) {
+        final StringBuilder builder = new StringBuilder(literalLength + placeholders.length * EXPECTED_VALUE_LENGTH);
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+            appendPlaceholder(builder, placeholders[i], values);
+        }
+        return builder.append(literals[placeholders.length]).toString();
+    }
+
+    /**
+     * Returns a template in which the placeholders known to the given values are replaced and all others remain.
+     */
+    public MailTemplate fill(final MailPlaceholders values) {
+        final List<String> filledLiterals = new ArrayList<>();
+        final List<String> remainingPlaceholders = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            final String value = values.resolve(placeholders[i]);
+            if (value == null) {
+                filledLiterals.add(literal.toString());
+                remainingPlaceholders.add(placeholders[i]);
+                literal.setLength(0);
+            } else {
+                literal.append(value);
+            }
+            literal.append(literals[i + 1]);
+        }
+        filledLiterals.add(literal.toString());
+
+        return new MailTemplate(filledLiterals, remainingPlaceholders);
+    }
+
+    private static void appendPlaceholder(final StringBuilder builder, final String placeholder, final MailPlaceholders values) {
+        final String value = values.resolve(placeholder);
+        if (value == null) {
+            builder.append(OPENING).append(placeholder).append(CLOSING);
+        } else {
+            builder.append(value);
+        }
+    }
+}
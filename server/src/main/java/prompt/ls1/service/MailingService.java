@@ -6,47 +6,71 @@ import jakarta.mail.Multipart;
 import jakarta.mail.internet.MimeBodyPart;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeMultipart;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import prompt.ls1.controller.payload.MailCampaignStatus;
+import prompt.ls1.exception.ResourceNotFoundException;
 import prompt.ls1.model.CoachApplication;
 import prompt.ls1.model.CourseIteration;
 import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.MailOutboxEntry;
 import prompt.ls1.model.Student;
 import prompt.ls1.model.ThesisAdvisor;
 import prompt.ls1.model.ThesisApplication;
 import prompt.ls1.model.TutorApplication;
-import prompt.ls1.model.enums.FocusTopic;
-import prompt.ls1.model.enums.ResearchArea;
+import prompt.ls1.model.enums.MailCampaignType;
+import prompt.ls1.model.enums.MailOutboxStatus;
+import prompt.ls1.repository.MailCampaignRepository;
+import prompt.ls1.repository.MailOutboxEntryRepository;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
-import java.util.TimeZone;
-
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
 @Service
 public class MailingService {
 
     private final JavaMailSender javaMailSender;
     private final FileSystemStorageService storageService;
+    private final MailOutboxEntryRepository mailOutboxEntryRepository;
+    private final MailCampaignRepository mailCampaignRepository;
     private final String environment;
     private final String sender;
     private final String chairMemberRecipientsList;
     private final Path rootLocation;
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, Object> templateLocks = new ConcurrentHashMap<>();
 
     @Autowired
     public MailingService(final JavaMailSender javaMailSender,
                           final FileSystemStorageService storageService,
+                          final MailOutboxEntryRepository mailOutboxEntryRepository,
+                          final MailCampaignRepository mailCampaignRepository,
                           @Value("${prompt.environment}") String environment,
                           @Value("${prompt.mail.sender}") String sender,
                           @Value("${prompt.mail.chair-member-recipients}") String chairMemberRecipientsList,
                           @Value("${prompt.storage.mailing-templates-location}") String mailingTemplatesLocation) {
         this.javaMailSender = javaMailSender;
         this.storageService = storageService;
+        this.mailOutboxEntryRepository = mailOutboxEntryRepository;
+        this.mailCampaignRepository = mailCampaignRepository;
         this.environment = environment;
         this.sender = sender;
         this.chairMemberRecipientsList = chairMemberRecipientsList;
@@ -58,7 +82,11 @@ public class MailingService {
     }
 
     public void updateMailTemplate(final String filename, final String htmlContents) {
-        storageService.writeToFile(rootLocation, filename + ".html", htmlContents);
+        // Writing under the template's lock keeps a concurrent compilation from caching the previous version
+        synchronized (templateLock(filename)) {
+            storageService.writeToFile(rootLocation, filename + ".html", htmlContents);
+            templates.remove(filename);
+        }
     }
 
     public void thesisApplicationCreatedEmail(final Student student,
@@ -76,9 +104,9 @@ public class MailingService {
 
         message.setSubject("PROMPT | New Thesis Application");
 
-        String template = storageService.readFromFile(rootLocation, "thesis-application-created.html");
-        template = fillStudentPlaceholders(template, student);
-        template = fillThesisApplicationPlaceholders(template, thesisApplication);
+        final String template = template("thesis-application-created").render(new MailPlaceholders()
+                .student(student)
+                .thesisApplication(thesisApplication));
 
         Multipart multipart = new MimeMultipart();
 
@@ -114,9 +142,9 @@ public class MailingService {
 
         message.setSubject("PROMPT | Thesis Application Confirmation");
 
-        String template = storageService.readFromFile(rootLocation, "thesis-application-confirmation.html");
-        template = fillStudentPlaceholders(template, student);
-        template = fillThesisApplicationPlaceholders(template, thesisApplication);
+        final String template = template("thesis-application-confirmation").render(new MailPlaceholders()
+                .student(student)
+                .thesisApplication(thesisApplication));
 
         Multipart multipart = new MimeMultipart();
 
@@ -145,211 +173,120 @@ public class MailingService {
 
     public void sendDeveloperApplicationConfirmationEmail(final Student student,
                                                           final DeveloperApplication developerApplication,
-                                                          final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("iPraktikum %s Application Confirmation", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "developer-application-confirmation.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-        template = fillDeveloperApplicationPlaceholders(template, developerApplication);
+                                                          final CourseIteration courseIteration) {
+        final String subject = String.format("iPraktikum %s Application Confirmation", courseIteration.getSemesterName());
 
-        message.setContent(template, "text/html; charset=utf-8");
+        final String template = template("developer-application-confirmation").render(new MailPlaceholders()
+                .courseIteration(courseIteration)
+                .student(student)
+                .application(developerApplication));
 
-        javaMailSender.send(message);
+        enqueue(student, subject, template);
     }
 
     public void sendCoachApplicationConfirmationEmail(final Student student,
                                                           final CoachApplication coachApplication,
-                                                          final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Agile Project Management %s Application Confirmation", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "coach-application-confirmation.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-        template = fillCoachApplicationPlaceholders(template, coachApplication);
+                                                          final CourseIteration courseIteration) {
+        final String subject = String.format("Agile Project Management %s Application Confirmation", courseIteration.getSemesterName());
 
-        message.setContent(template, "text/html; charset=utf-8");
+        final String template = template("coach-application-confirmation").render(new MailPlaceholders()
+                .courseIteration(courseIteration)
+                .student(student)
+                .application(coachApplication));
 
-        javaMailSender.send(message);
+        enqueue(student, subject, template);
     }
 
     public void sendTutorApplicationConfirmationEmail(final Student student,
                                                       final TutorApplication tutorApplication,
-                                                      final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Teaching iOS %s Application Confirmation", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "tutor-application-confirmation.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-        template = fillTutorApplicationPlaceholders(template, tutorApplication);
+                                                      final CourseIteration courseIteration) {
+        final String subject = String.format("Teaching iOS %s Application Confirmation", courseIteration.getSemesterName());
 
-        message.setContent(template, "text/html; charset=utf-8");
+        final String template = template("tutor-application-confirmation").render(new MailPlaceholders()
+                .courseIteration(courseIteration)
+                .student(student)
+                .application(tutorApplication));
 
-        javaMailSender.send(message);
+        enqueue(student, subject, template);
     }
 
     public void sendCoachInterviewInvitationEmail(final Student student,
-                                                  final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Agile Project Management %s Interview Invitation", courseIteration.getSemesterName()));
-
-        TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
-        SimpleDateFormat dateFormat = new SimpleDateFormat("EEEE, dd.MM.yyyy 'starting at' HH.mm");
-        dateFormat.setTimeZone(timeZone);
-        String dayOfWeek = dateFormat.format(courseIteration.getCoachInterviewDate());
-
-        String template = storageService.readFromFile(rootLocation, "coach-interview-invitation.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-
-        message.setContent(template, "text/html; charset=utf-8");
-
-        javaMailSender.send(message);
+                                                  final CourseIteration courseIteration) {
+        sendApplicationStatusEmails(ApplicationStatusMail.COACH_INTERVIEW_INVITATION, courseIteration, List.of(student));
     }
 
     public void sendTutorInterviewInvitationEmail(final Student student,
-                                                  final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Teaching iOS %s Interview Invitation", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "tutor-interview-invitation.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-
-        message.setContent(template, "text/html; charset=utf-8");
-
-        javaMailSender.send(message);
+                                                  final CourseIteration courseIteration) {
+        sendApplicationStatusEmails(ApplicationStatusMail.TUTOR_INTERVIEW_INVITATION, courseIteration, List.of(student));
     }
 
     public void sendCoachApplicationRejectionEmail(final Student student,
-                                                  final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Agile Project Management %s Application Rejection", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "coach-application-rejection.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-
-        message.setContent(template, "text/html; charset=utf-8");
-
-        javaMailSender.send(message);
+                                                  final CourseIteration courseIteration) {
+        sendApplicationStatusEmails(ApplicationStatusMail.COACH_APPLICATION_REJECTION, courseIteration, List.of(student));
     }
 
     public void sendTutorApplicationRejectionEmail(final Student student,
-                                                  final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Teaching iOS %s Application Rejection", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "tutor-application-rejection.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-
-        message.setContent(template, "text/html; charset=utf-8");
-
-        javaMailSender.send(message);
+                                                  final CourseIteration courseIteration) {
+        sendApplicationStatusEmails(ApplicationStatusMail.TUTOR_APPLICATION_REJECTION, courseIteration, List.of(student));
     }
 
     public void sendCoachApplicationAcceptanceEmail(final Student student,
-                                                   final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Agile Project Management %s Application Acceptance", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "coach-application-acceptance.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-
-        message.setContent(template, "text/html; charset=utf-8");
-
-        javaMailSender.send(message);
+                                                   final CourseIteration courseIteration) {
+        sendApplicationStatusEmails(ApplicationStatusMail.COACH_APPLICATION_ACCEPTANCE, courseIteration, List.of(student));
     }
 
     public void sendTutorApplicationAcceptanceEmail(final Student student,
-                                                   final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("Teaching iOS %s Application Acceptance", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "tutor-application-acceptance.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-
-        message.setContent(template, "text/html; charset=utf-8");
-
-        javaMailSender.send(message);
+                                                   final CourseIteration courseIteration) {
+        sendApplicationStatusEmails(ApplicationStatusMail.TUTOR_APPLICATION_ACCEPTANCE, courseIteration, List.of(student));
     }
 
-    public void sendKickoffSubmissionLinkEmail(final Student student,
-                                               final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
+    public void sendApplicationStatusEmails(final ApplicationStatusMail mail,
+                                            final CourseIteration courseIteration,
+                                            final List<Student> students) {
+        final String subject = String.format(mail.getSubject(), courseIteration.getSemesterName());
 
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("iPraktikum %s Kick-off Project Preferences", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "kick-off-submission-invitation.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
-
-        message.setContent(template, "text/html; charset=utf-8");
+        // The template is filled with the course iteration once, only the student placeholders differ per mail
+        final MailTemplate template = template(mail.getTemplate()).fill(new MailPlaceholders().courseIteration(courseIteration));
 
-        javaMailSender.send(message);
+        mailOutboxEntryRepository.saveAll(students
+                .stream()
+                .map(student -> outboxEntry(student, subject, template.render(new MailPlaceholders().student(student))))
+                .toList());
     }
 
-    public void sendTechnicalDetailsSubmissionInvitationEmail(final Student student,
-                                                          final CourseIteration courseIteration) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.setFrom(sender);
-        message.setRecipients(MimeMessage.RecipientType.TO, student.getEmail());
-        message.addRecipients(MimeMessage.RecipientType.TO, sender);
-        message.setSubject(String.format("iPraktikum %s Technical Details Submission", courseIteration.getSemesterName()));
-
-        String template = storageService.readFromFile(rootLocation, "technical-details-submission-invitation.html");
-        template = fillCourseIterationPlaceholders(template, courseIteration);
-        template = fillStudentPlaceholders(template, student);
+    /**
+     * Enqueues the campaign mails of all given students at once. The outbox dispatcher sends them over pooled
+     * SMTP connections at the configured send rate, so the request returns before a single mail is sent.
+     */
+    @Transactional
+    public MailCampaignStatus sendCampaign(final MailCampaignType type,
+                                           final CourseIteration courseIteration,
+                                           final List<Student> students) {
+        final UUID campaignId = mailCampaignRepository.findOrCreate(type, courseIteration.getId());
+        final String subject = String.format(type.getSubject(), courseIteration.getSemesterName());
+        final MailTemplate template = template(type.getTemplate()).fill(new MailPlaceholders().courseIteration(courseIteration));
+
+        final int enqueued = mailCampaignRepository.enqueue(campaignId, students
+                .stream()
+                .map(student -> {
+                    final MailOutboxEntry entry = outboxEntry(student, subject, template.render(new MailPlaceholders().student(student)));
+                    entry.setCampaignRecipientId(student.getId());
+                    return entry;
+                })
+                .toList());
+        log.info(String.format("Enqueued %d of %d mails of campaign %s for course iteration %s.",
+                enqueued, students.size(), type, courseIteration.getSemesterName()));
+
+        return findCampaignStatus(campaignId);
+    }
 
-        message.setContent(template, "text/html; charset=utf-8");
+    public MailCampaignStatus findCampaignStatus(final UUID campaignId) {
+        return mailCampaignRepository.findStatus(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Mail campaign with id %s not found.", campaignId)));
+    }
 
-        javaMailSender.send(message);
+    public List<MailCampaignStatus> findCampaignStatusesByCourseIteration(final CourseIteration courseIteration) {
+        return mailCampaignRepository.findStatusesByCourseIterationId(courseIteration.getId());
     }
 
     public void sendThesisAcceptanceEmail(final Student student,
@@ -365,17 +302,17 @@ public class MailingService {
         message.addRecipients(MimeMessage.RecipientType.BCC, "valeryia.andraichuk@tum.de");
         message.setSubject("Thesis Application Acceptance");
 
-        String template;
+        final MailPlaceholders placeholders = new MailPlaceholders()
+                .student(student)
+                .thesisApplication(thesisApplication);
+        final String template;
         if (!thesisAdvisor.getEmail().equals("krusche@tum.de")) {
             message.addRecipients(MimeMessage.RecipientType.CC, thesisAdvisor.getEmail());
 
-            template = storageService.readFromFile(rootLocation, "thesis-application-acceptance.html");
-            template = fillThesisAdvisorPlaceholders(template, thesisAdvisor);
+            template = template("thesis-application-acceptance").render(placeholders.thesisAdvisor(thesisAdvisor));
         } else {
-            template = storageService.readFromFile(rootLocation, "thesis-application-acceptance-no-advisor.html");
+            template = template("thesis-application-acceptance-no-advisor").render(placeholders);
         }
-        template = fillStudentPlaceholders(template, student);
-        template = fillThesisApplicationPlaceholders(template, thesisApplication);
         message.setContent(template, "text/html; charset=utf-8");
 
         javaMailSender.send(message);
@@ -392,111 +329,102 @@ public class MailingService {
         message.addRecipients(MimeMessage.RecipientType.BCC, "valeryia.andraichuk@tum.de");
         message.setSubject("Thesis Application Rejection");
 
-        String template = storageService.readFromFile(rootLocation, "thesis-application-rejection.html");
-        template = fillStudentPlaceholders(template, student);
-        template = fillThesisApplicationPlaceholders(template, thesisApplication);
+        final String template = template("thesis-application-rejection").render(new MailPlaceholders()
+                .student(student)
+                .thesisApplication(thesisApplication));
 
         message.setContent(template, "text/html; charset=utf-8");
 
         javaMailSender.send(message);
     }
 
-    public String fillCourseIterationPlaceholders(final String template, final CourseIteration courseIteration) {
-        String pattern = "dd. MMM yyyy";
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
-
-        return template.replace("{{course.semesterName}}", courseIteration.getSemesterName())
-                .replace("{{course.id}}", courseIteration.getId().toString())
-                .replace("{{course.iosTag}}", courseIteration.getIosTag())
-                .replace("{{course.developerApplicationPeriodStart}}", simpleDateFormat.format(courseIteration.getDeveloperApplicationPeriodStart()))
-                .replace("{{course.developerApplicationPeriodEnd}}", simpleDateFormat.format(courseIteration.getDeveloperApplicationPeriodEnd()))
-                .replace("{{course.coachApplicationPeriodStart}}", simpleDateFormat.format(courseIteration.getCoachApplicationPeriodStart()))
-                .replace("{{course.coachApplicationPeriodEnd}}", simpleDateFormat.format(courseIteration.getCoachApplicationPeriodEnd()))
-                .replace("{{course.tutorApplicationPeriodStart}}", simpleDateFormat.format(courseIteration.getTutorApplicationPeriodStart()))
-                .replace("{{course.tutorApplicationPeriodEnd}}", simpleDateFormat.format(courseIteration.getTutorApplicationPeriodEnd()))
-                .replace("{{course.coachInterviewDate}}", simpleDateFormat.format(courseIteration.getCoachInterviewDate()))
-                .replace("{{course.tutorInterviewDate}}", simpleDateFormat.format(courseIteration.getTutorInterviewDate()))
-                .replace("{{course.coachInterviewPlannerLink}}", courseIteration.getCoachInterviewPlannerLink())
-                .replace("{{course.tutorInterviewPlannerLink}}", courseIteration.getTutorInterviewPlannerLink())
-                .replace("{{course.coachInterviewLocation}}", courseIteration.getCoachInterviewLocation())
-                .replace("{{course.tutorInterviewLocation}}", courseIteration.getTutorInterviewLocation())
-                .replace("{{course.introCourseStart}}", simpleDateFormat.format(courseIteration.getIntroCourseStart()))
-                .replace("{{course.introCourseEnd}}", simpleDateFormat.format(courseIteration.getIntroCourseEnd()))
-                .replace("{{course.kickoffSubmissionPeriodStart}}", simpleDateFormat.format(courseIteration.getKickoffSubmissionPeriodStart()));
+    /**
+     * Sends the given outbox entries over a single SMTP connection and returns the ids of the entries that could
+     * not be delivered together with the cause.
+     */
+    public Map<UUID, Exception> deliver(final List<MailOutboxEntry> mailOutboxEntries) {
+        final Map<UUID, Exception> failures = new HashMap<>();
+        final Map<MimeMessage, MailOutboxEntry> messages = new IdentityHashMap<>();
+        for (final MailOutboxEntry mailOutboxEntry : mailOutboxEntries) {
+            try {
+                messages.put(createMessage(mailOutboxEntry), mailOutboxEntry);
+            } catch (MessagingException e) {
+                failures.put(mailOutboxEntry.getId(), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(mailOutboxEntry -> failures.put(mailOutboxEntry.getId(), e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> failures.put(messages.get(message).getId(), cause));
+            }
+        } catch (MailException e) {
+            messages.values().forEach(mailOutboxEntry -> failures.put(mailOutboxEntry.getId(), e));
+        }
+
+        return failures;
     }
 
-    private String fillDeveloperApplicationPlaceholders(final String template, final DeveloperApplication developerApplication) {
-        return template.replace("{{application.studyDegree}}", developerApplication.getStudyDegree().getValue())
-                .replace("{{application.studyProgram}}", developerApplication.getStudyProgram().getValue())
-                .replace("{{application.currentSemester}}", developerApplication.getCurrentSemester().toString())
-                .replace("{{application.devices}}", String.join(", ", developerApplication.getDevices().stream().map(Enum::toString).toList()))
-                .replace("{{application.coursesTaken}}", String.join(", ", developerApplication.getCoursesTaken().stream().map(Enum::toString).toList()))
-                .replace("{{application.germanLanguageProficiency}}", developerApplication.getGermanLanguageProficiency().getValue())
-                .replace("{{application.englishLanguageProficiency}}", developerApplication.getEnglishLanguageProficiency().getValue())
-                .replace("{{application.motivation}}", developerApplication.getMotivation())
-                .replace("{{application.experience}}", developerApplication.getExperience());
+    private MimeMessage createMessage(final MailOutboxEntry mailOutboxEntry) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+
+        message.setFrom(sender);
+        for (final String recipient : mailOutboxEntry.getRecipients().split(";")) {
+            message.addRecipients(MimeMessage.RecipientType.TO, recipient);
+        }
+        message.setSubject(mailOutboxEntry.getSubject());
+        message.setContent(mailOutboxEntry.getContent(), "text/html; charset=utf-8");
+
+        return message;
     }
 
-    private String fillCoachApplicationPlaceholders(final String template, final CoachApplication coachApplication) {
-        return template.replace("{{application.studyDegree}}", coachApplication.getStudyDegree().getValue())
-                .replace("{{application.studyProgram}}", coachApplication.getStudyProgram().getValue())
-                .replace("{{application.currentSemester}}", coachApplication.getCurrentSemester().toString())
-                .replace("{{application.devices}}", String.join(", ", coachApplication.getDevices().stream().map(Enum::toString).toList()))
-                .replace("{{application.coursesTaken}}", String.join(", ", coachApplication.getCoursesTaken().stream().map(Enum::toString).toList()))
-                .replace("{{application.germanLanguageProficiency}}", coachApplication.getGermanLanguageProficiency().getValue())
-                .replace("{{application.englishLanguageProficiency}}", coachApplication.getEnglishLanguageProficiency().getValue())
-                .replace("{{application.motivation}}", coachApplication.getMotivation())
-                .replace("{{application.experience}}", coachApplication.getExperience())
-                .replace("{{application.solvedProblem}}", coachApplication.getSolvedProblem());
+    /**
+     * Returns the compiled template, recompiling it whenever the file was modified since, e.g. by another instance
+     * sharing the templates location.
+     */
+    private MailTemplate template(final String filename) {
+        final CompiledTemplate compiled = templates.get(filename);
+        if (compiled != null && compiled.lastModified().equals(storageService.getLastModifiedTime(rootLocation, filename + ".html"))) {
+            return compiled.template();
+        }
+
+        synchronized (templateLock(filename)) {
+            // The modification time is taken before reading, so a write racing the read triggers another compilation
+            final FileTime lastModified = storageService.getLastModifiedTime(rootLocation, filename + ".html");
+            final CompiledTemplate current = templates.get(filename);
+            if (current != null && current.lastModified().equals(lastModified)) {
+                return current.template();
+            }
+            final MailTemplate template = MailTemplate.compile(storageService.readFromFile(rootLocation, filename + ".html"));
+            templates.put(filename, new CompiledTemplate(template, lastModified));
+            return template;
+        }
     }
 
-    private String fillTutorApplicationPlaceholders(final String template, final TutorApplication tutorApplication) {
-        return template.replace("{{application.studyDegree}}", tutorApplication.getStudyDegree().getValue())
-                .replace("{{application.studyProgram}}", tutorApplication.getStudyProgram().getValue())
-                .replace("{{application.currentSemester}}", tutorApplication.getCurrentSemester().toString())
-                .replace("{{application.devices}}", String.join(", ", tutorApplication.getDevices().stream().map(Enum::toString).toList()))
-                .replace("{{application.coursesTaken}}", String.join(", ", tutorApplication.getCoursesTaken().stream().map(Enum::toString).toList()))
-                .replace("{{application.germanLanguageProficiency}}", tutorApplication.getGermanLanguageProficiency().getValue())
-                .replace("{{application.englishLanguageProficiency}}", tutorApplication.getEnglishLanguageProficiency().getValue())
-                .replace("{{application.motivation}}", tutorApplication.getMotivation())
-                .replace("{{application.experience}}", tutorApplication.getExperience())
-                .replace("{{application.reasonGoodTutor}}", tutorApplication.getReasonGoodTutor());
+    private Object templateLock(final String filename) {
+        return templateLocks.computeIfAbsent(filename, name -> new Object());
     }
 
-    private String fillStudentPlaceholders(final String template, final Student student) {
-        return template
-                .replace("{{student.firstName}}", student.getFirstName())
-                .replace("{{student.lastName}}", student.getLastName())
-                .replace("{{student.email}}", student.getEmail())
-                .replace("{{student.tumId}}", student.getTumId())
-                .replace("{{student.matriculationNumber}}", student.getMatriculationNumber())
-                .replace("{{student.gender}}", student.getGender().getValue())
-                .replace("{{student.nationality}}", student.getNationality())
-                .replace("{{student.isExchangeStudent}}", student.getIsExchangeStudent().toString());
+    private void enqueue(final Student student, final String subject, final String content) {
+        mailOutboxEntryRepository.save(outboxEntry(student, subject, content));
     }
 
-    private String fillThesisApplicationPlaceholders(final String template, final ThesisApplication thesisApplication) {
-        String pattern = "dd. MMM yyyy";
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
-
-        return template.replace("{{application.studyProgram}}", thesisApplication.getStudyProgram().getValue())
-                .replace("{{application.studyDegree}}", thesisApplication.getStudyDegree().getValue())
-                .replace("{{application.currentSemester}}", thesisApplication.getCurrentSemester().toString())
-                .replace("{{application.desiredThesisStart}}", simpleDateFormat.format(thesisApplication.getDesiredThesisStart()))
-                .replace("{{application.specialSkills}}", thesisApplication.getSpecialSkills())
-                .replace("{{application.motivation}}", thesisApplication.getMotivation())
-                .replace("{{application.interests}}", thesisApplication.getInterests())
-                .replace("{{application.projects}}", thesisApplication.getProjects())
-                .replace("{{application.specialSkills}}", thesisApplication.getSpecialSkills())
-                .replace("{{application.thesisTitle}}", thesisApplication.getThesisTitle())
-                .replace("{{application.researchAreas}}", String.join(", ", thesisApplication.getResearchAreas().stream().map(ResearchArea::getValue).toList()))
-                .replace("{{application.focusTopics}}", String.join(", ", thesisApplication.getFocusTopics().stream().map(FocusTopic::getValue).toList()));
+    private MailOutboxEntry outboxEntry(final Student student, final String subject, final String content) {
+        return MailOutboxEntry.builder()
+                .recipients(student.getEmail() + ";" + sender)
+                .subject(subject)
+                .content(content)
+                .status(MailOutboxStatus.PENDING)
+                .nextAttemptAt(new Date())
+                .build();
     }
 
-    private String fillThesisAdvisorPlaceholders(final String template, final ThesisAdvisor thesisAdvisor) {
-        return template.replace("{{advisor.firstName}}", thesisAdvisor.getFirstName())
-                .replace("{{advisor.lastName}}", thesisAdvisor.getLastName())
-                .replace("{{advisor.email}}", thesisAdvisor.getEmail())
-                .replace("{{advisor.tumId}}", thesisAdvisor.getTumId());
+    private record CompiledTemplate(MailTemplate template, FileTime lastModified) {
     }
 }
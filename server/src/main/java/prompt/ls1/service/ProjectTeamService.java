@@ -1,12 +1,11 @@
 package prompt.ls1.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import prompt.ls1.exception.ResourceConflictException;
 import prompt.ls1.exception.ResourceNotFoundException;
 import prompt.ls1.model.ProjectTeam;
@@ -19,10 +18,13 @@ import java.util.UUID;
 @Service
 public class ProjectTeamService {
     private final ProjectTeamRepository projectTeamRepository;
+    private final JsonPatchService jsonPatchService;
 
     @Autowired
-    public ProjectTeamService(ProjectTeamRepository projectTeamRepository) {
+    public ProjectTeamService(ProjectTeamRepository projectTeamRepository,
+                              final JsonPatchService jsonPatchService) {
         this.projectTeamRepository = projectTeamRepository;
+        this.jsonPatchService = jsonPatchService;
     }
 
     public ProjectTeam create(final ProjectTeam projectTeam) {
@@ -34,10 +36,13 @@ public class ProjectTeamService {
         return projectTeamRepository.save(projectTeam);
     }
 
-    public ProjectTeam update(UUID projectTeamId, JsonPatch patchProjectTeam) throws JsonPatchException, JsonProcessingException {
+    @Transactional
+    public ProjectTeam update(UUID projectTeamId, JsonPatch patchProjectTeam, final Optional<String> ifMatch)
+            throws JsonPatchException, JsonProcessingException {
         ProjectTeam existingProjectTeam = findById(projectTeamId);
+        EntityTags.checkIfMatch(ifMatch, EntityTags.of(existingProjectTeam.getId(), existingProjectTeam.getVersion()));
 
-        ProjectTeam patchedProjectTeam = applyPatchToProjectTeam(patchProjectTeam, existingProjectTeam);
+        ProjectTeam patchedProjectTeam = jsonPatchService.applyPatch(patchProjectTeam, existingProjectTeam, ProjectTeam.class);
         return projectTeamRepository.save(patchedProjectTeam);
     }
 
@@ -61,11 +66,4 @@ public class ProjectTeamService {
         return projectTeamRepository.findByName(projectTeamName)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Project team with name %s not found.", projectTeamName)));
     }
-
-    private ProjectTeam applyPatchToProjectTeam(
-            JsonPatch patch, ProjectTeam targetProjectTeam) throws JsonPatchException, JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode patched = patch.apply(objectMapper.convertValue(targetProjectTeam, JsonNode.class));
-        return objectMapper.treeToValue(patched, ProjectTeam.class);
-    }
 }
@@ -1,9 +1,8 @@
 package prompt.ls1.service;
 
-import jakarta.mail.MessagingException;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import prompt.ls1.controller.payload.MailCampaignStatus;
 import prompt.ls1.exception.ResourceConflictException;
 import prompt.ls1.exception.ResourceInvalidParametersException;
 import prompt.ls1.exception.ResourceNotFoundException;
@@ -13,6 +12,7 @@ import prompt.ls1.model.ProjectTeam;
 import prompt.ls1.model.Student;
 import prompt.ls1.model.StudentPostKickoffSubmission;
 import prompt.ls1.model.enums.ApplicationStatus;
+import prompt.ls1.model.enums.MailCampaignType;
 import prompt.ls1.repository.CourseIterationRepository;
 import prompt.ls1.repository.DeveloperApplicationRepository;
 import prompt.ls1.repository.IntroCourseParticipationRepository;
@@ -21,8 +21,8 @@ import prompt.ls1.repository.StudentRepository;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
-@Slf4j
 @Service
 public class StudentPostKickoffSubmissionService {
     private final StudentRepository studentRepository;
@@ -31,6 +31,8 @@ public class StudentPostKickoffSubmissionService {
     private final CourseIterationRepository courseIterationRepository;
     private final IntroCourseParticipationRepository introCourseParticipationRepository;
     private final MailingService mailingService;
+    private final CourseIterationChangePublisher courseIterationChangePublisher;
+    private final CourseIterationPeriodResolver courseIterationPeriodResolver;
 
     @Autowired
     public StudentPostKickoffSubmissionService(
@@ -39,43 +41,43 @@ public class StudentPostKickoffSubmissionService {
             final DeveloperApplicationRepository developerApplicationRepository,
             final CourseIterationRepository courseIterationRepository,
             final IntroCourseParticipationRepository introCourseParticipationRepository,
-            final MailingService mailingService) {
+            final MailingService mailingService,
+            final CourseIterationChangePublisher courseIterationChangePublisher,
+            final CourseIterationPeriodResolver courseIterationPeriodResolver) {
         this.studentRepository = studentRepository;
         this.projectTeamRepository = projectTeamRepository;
         this.developerApplicationRepository = developerApplicationRepository;
         this.courseIterationRepository = courseIterationRepository;
         this.introCourseParticipationRepository = introCourseParticipationRepository;
         this.mailingService = mailingService;
+        this.courseIterationChangePublisher = courseIterationChangePublisher;
+        this.courseIterationPeriodResolver = courseIterationPeriodResolver;
     }
 
-    public void inviteStudentsToKickoffSubmission(final String courseIterationName) {
+    public MailCampaignStatus inviteStudentsToKickoffSubmission(final String courseIterationName) {
         final CourseIteration courseIteration = courseIterationRepository.findBySemesterName(courseIterationName)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with name %s not found.", courseIterationName)));
 
-        developerApplicationRepository
+        final List<Student> students = developerApplicationRepository
                 .findAllByCourseIterationId(courseIteration.getId())
                 .stream()
                 .filter(da -> da.getAssessment() != null && da.getAssessment().getStatus() == ApplicationStatus.INTRO_COURSE_PASSED)
-                .forEach(developerApplication -> {
-                    try {
-                        mailingService.sendKickoffSubmissionLinkEmail(developerApplication.getStudent(), courseIteration);
-                        log.info(String.format("Kickoff submission invitation email sent to student with id %s.", developerApplication.getStudent().getId()));
-                    } catch (MessagingException e) {
-                        log.error(String.format("An error occurred while sending the kickoff submission invitation email to student with id %s.",
-                                developerApplication.getStudent().getId()), e);
-                    }
-                });
+                .map(DeveloperApplication::getStudent)
+                .toList();
+
+        return mailingService.sendCampaign(MailCampaignType.KICKOFF_SUBMISSION_INVITATION, courseIteration, students);
     }
 
     public List<StudentPostKickoffSubmission> getByCourseIteration(final String courseIterationName) {
         final CourseIteration courseIteration = courseIterationRepository.findBySemesterName(courseIterationName)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Course iteration with name %s not found.", courseIterationName)));
 
-        final List<DeveloperApplication> applications = developerApplicationRepository.findIntroCoursePassedApplicationsByCourseIterationId(courseIteration.getId());
+        final List<DeveloperApplication> applications = developerApplicationRepository
+                .findAllWithPostKickoffSubmissionByCourseIterationIdAndStatusIn(courseIteration.getId(),
+                        Set.of(ApplicationStatus.INTRO_COURSE_PASSED));
 
         return applications
                 .stream()
-                .filter(sa -> sa.getStudentPostKickOffSubmission() != null)
                 .map(sa -> {
                     sa.getStudentPostKickOffSubmission().setStudent(sa.getStudent());
                     return sa.getStudentPostKickOffSubmission();
@@ -84,7 +86,9 @@ public class StudentPostKickoffSubmissionService {
 
     public StudentPostKickoffSubmission create(final String tumId,
                                                StudentPostKickoffSubmission studentPostKickOffSubmission) {
-        final CourseIteration courseIteration = courseIterationRepository.findWithKickoffSubmissionPeriodIncludes(new Date())
+        final CourseIteration courseIteration = courseIterationPeriodResolver
+                .findOpen(CourseIterationPeriodResolver.Period.KICKOFF_SUBMISSION, new Date())
+                .flatMap(courseIterationRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("No course iteration with open preferences submission period found."));
 
         final Student student = studentRepository.findByTumId(tumId)
@@ -113,8 +117,10 @@ public class StudentPostKickoffSubmissionService {
         });
 
         application.setStudentPostKickOffSubmission(studentPostKickOffSubmission);
+        final DeveloperApplication savedApplication = developerApplicationRepository.save(application);
+        courseIterationChangePublisher.kickoffSubmissionChanged(savedApplication);
 
-        return developerApplicationRepository.save(application).getStudentPostKickOffSubmission();
+        return savedApplication.getStudentPostKickOffSubmission();
     }
 
     public List<StudentPostKickoffSubmission> deleteByCourseIteration(final String courseIterationName) {
@@ -124,7 +130,9 @@ public class StudentPostKickoffSubmissionService {
         final List<DeveloperApplication> applications = developerApplicationRepository.findAllByCourseIterationId(courseIteration.getId());
         return applications.stream().map(sa -> {
             sa.getStudentPostKickOffSubmission().setStudentProjectTeamPreferences(null);
-            return developerApplicationRepository.save(sa).getStudentPostKickOffSubmission();
+            final DeveloperApplication savedApplication = developerApplicationRepository.save(sa);
+            courseIterationChangePublisher.kickoffSubmissionChanged(savedApplication);
+            return savedApplication.getStudentPostKickOffSubmission();
         }).toList();
     }
 }
@@ -0,0 +1,43 @@
+package prompt.ls1.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import prompt.ls1.exception.ResourceConflictException;
+import prompt.ls1.exception.ResourceInvalidParametersException;
+import prompt.ls1.model.Student;
+import prompt.ls1.repository.StudentResolutionRepository;
+
+import java.util.Locale;
+
+@Service
+public class StudentResolutionService {
+    private final StudentResolutionRepository studentResolutionRepository;
+
+    @Autowired
+    public StudentResolutionService(final StudentResolutionRepository studentResolutionRepository) {
+        this.studentResolutionRepository = studentResolutionRepository;
+    }
+
+    public Student resolve(final Student student) {
+        student.setTumId(normalize(student.getTumId(), true));
+        student.setMatriculationNumber(normalize(student.getMatriculationNumber(), false));
+        student.setEmail(normalize(student.getEmail(), true));
+
+        try {
+            return studentResolutionRepository.upsert(student)
+                    .orElseThrow(() -> new ResourceInvalidParametersException("Provided TUM ID does not match with the matriculation number you submitted. " +
+                            "If You are sure the data is entered correct, please contact the Program Management."));
+        } catch (DuplicateKeyException e) {
+            throw new ResourceConflictException(String.format("Student data of %s conflicts with another student. " +
+                    "Please check the submitted TUM ID, matriculation number and email address.", student.getEmail()));
+        }
+    }
+
+    private String normalize(final String value, final boolean caseInsensitive) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return caseInsensitive ? value.trim().toLowerCase(Locale.ROOT) : value.trim();
+    }
+}
@@ -32,6 +32,10 @@ public class StudentService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Student with id %s not found.",
                         studentId)));
 
+        // The submitted profile replaces the stored one in place, so it takes over its identity and version
+        final DevelopmentProfile existingDevelopmentProfile = student.getDevelopmentProfile();
+        developmentProfile.setId(existingDevelopmentProfile == null ? null : existingDevelopmentProfile.getId());
+        developmentProfile.setVersion(existingDevelopmentProfile == null ? null : existingDevelopmentProfile.getVersion());
         student.setDevelopmentProfile(developmentProfile);
 
         return studentRepository.save(student).getDevelopmentProfile();
@@ -0,0 +1,220 @@
+package prompt.ls1.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import prompt.ls1.controller.payload.TechnicalChallengeScore;
+import prompt.ls1.controller.payload.TechnicalChallengeScoreImportOutcome;
+import prompt.ls1.controller.payload.TechnicalChallengeScoreImportRow;
+import prompt.ls1.exception.ResourceInvalidParametersException;
+import prompt.ls1.exception.StorageException;
+import prompt.ls1.model.ApplicationAssessment;
+import prompt.ls1.model.DeveloperApplication;
+import prompt.ls1.model.enums.ApplicationStatus;
+import prompt.ls1.repository.DeveloperApplicationRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports technical challenge scores from CSV or NDJSON exports. The upload is read line by line and
+ * applied in fixed-size batches, each in its own transaction, so memory use is bounded by the batch size.
+ * Every committed batch announces one change per affected course iteration.
+ */
+@Service
+public class TechnicalChallengeScoreImportService {
+    private static final int BATCH_SIZE = 100;
+    private static final String[] CSV_COLUMNS = {"developerApplicationId", "programmingScore", "quizScore"};
+
+    private final DeveloperApplicationRepository developerApplicationRepository;
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final CourseIterationChangePublisher courseIterationChangePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public TechnicalChallengeScoreImportService(final DeveloperApplicationRepository developerApplicationRepository,
+                                                final ApplicationStatisticsService applicationStatisticsService,
+                                                final CourseIterationChangePublisher courseIterationChangePublisher,
+                                                final TransactionTemplate transactionTemplate,
+                                                final ObjectMapper objectMapper) {
+        this.developerApplicationRepository = developerApplicationRepository;
+        this.applicationStatisticsService = applicationStatisticsService;
+        this.courseIterationChangePublisher = courseIterationChangePublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<TechnicalChallengeScoreImportRow> importScores(final MultipartFile file,
+                                                               final Double programmingScoreThreshold,
+                                                               final Double quizScoreThreshold) {
+        final boolean csv = isCsv(file);
+        final List<TechnicalChallengeScoreImportRow> report = new ArrayList<>();
+        final List<ParsedScore> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            int[] columnIndices = null;
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && columnIndices == null) {
+                    columnIndices = parseCsvHeader(line);
+                    continue;
+                }
+
+                try {
+                    batch.add(new ParsedScore(rowNumber, csv ? parseCsvRow(line, columnIndices) : parseJsonRow(line)));
+                } catch (IllegalArgumentException | JsonProcessingException e) {
+                    report.add(new TechnicalChallengeScoreImportRow(rowNumber, null,
+                            TechnicalChallengeScoreImportOutcome.INVALID, e.getMessage()));
+                }
+
+                if (batch.size() == BATCH_SIZE) {
+                    report.addAll(applyBatch(batch, programmingScoreThreshold, quizScoreThreshold));
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to read technical challenge scores.", e);
+        }
+
+        if (!batch.isEmpty()) {
+            report.addAll(applyBatch(batch, programmingScoreThreshold, quizScoreThreshold));
+        }
+
+        return report;
+    }
+
+    private List<TechnicalChallengeScoreImportRow> applyBatch(final List<ParsedScore> batch,
+                                                              final Double programmingScoreThreshold,
+                                                              final Double quizScoreThreshold) {
+        return transactionTemplate.execute(status -> {
+            final Map<UUID, DeveloperApplication> developerApplications = developerApplicationRepository
+                    .findAllById(batch.stream().map(parsedScore -> parsedScore.score().getDeveloperApplicationId()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(DeveloperApplication::getId, Function.identity()));
+
+            final List<TechnicalChallengeScoreImportRow> rows = new ArrayList<>();
+            final ApplicationStatisticsDelta statisticsDelta = new ApplicationStatisticsDelta();
+            batch.forEach(parsedScore -> {
+                final TechnicalChallengeScore score = parsedScore.score();
+                final DeveloperApplication developerApplication = developerApplications.get(score.getDeveloperApplicationId());
+                if (developerApplication == null) {
+                    rows.add(new TechnicalChallengeScoreImportRow(parsedScore.rowNumber(), score.getDeveloperApplicationId(),
+                            TechnicalChallengeScoreImportOutcome.NOT_FOUND,
+                            String.format("Developer application with id %s not found.", score.getDeveloperApplicationId())));
+                    return;
+                }
+
+                if (developerApplication.getAssessment() == null) {
+                    developerApplication.setAssessment(new ApplicationAssessment());
+                }
+                developerApplication.getAssessment().setTechnicalChallengeProgrammingScore(score.getProgrammingScore());
+                developerApplication.getAssessment().setTechnicalChallengeQuizScore(score.getQuizScore());
+                if (score.getProgrammingScore() < programmingScoreThreshold || score.getQuizScore() < quizScoreThreshold) {
+                    statisticsDelta.changeStatus(developerApplication, ApplicationStatus.REJECTED);
+                    developerApplication.getAssessment().setStatus(ApplicationStatus.REJECTED);
+                    rows.add(new TechnicalChallengeScoreImportRow(parsedScore.rowNumber(), score.getDeveloperApplicationId(),
+                            TechnicalChallengeScoreImportOutcome.REJECTED, "Score below threshold."));
+                } else {
+                    rows.add(new TechnicalChallengeScoreImportRow(parsedScore.rowNumber(), score.getDeveloperApplicationId(),
+                            TechnicalChallengeScoreImportOutcome.UPDATED, null));
+                }
+            });
+
+            developerApplicationRepository.saveAll(developerApplications.values());
+            applicationStatisticsService.apply(statisticsDelta);
+            // Delivered once the batch committed
+            developerApplications.values()
+                    .stream()
+                    .map(DeveloperApplication::getCourseIterationId)
+                    .distinct()
+                    .forEach(courseIterationChangePublisher::developerApplicationsChanged);
+
+            // The request wide persistence context outlives the batch, detach its entities to keep memory bounded
+            entityManager.flush();
+            entityManager.clear();
+            return rows;
+        });
+    }
+
+    private boolean isCsv(final MultipartFile file) {
+        final String filename = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase();
+        final String contentType = file.getContentType() == null ? "" : file.getContentType();
+        if (filename.endsWith(".csv") || contentType.startsWith("text/csv")) {
+            return true;
+        }
+        if (filename.endsWith(".ndjson") || filename.endsWith(".jsonl") || contentType.startsWith("application/x-ndjson")) {
+            return false;
+        }
+        throw new ResourceInvalidParametersException("Technical challenge scores must be uploaded as CSV or NDJSON.");
+    }
+
+    private int[] parseCsvHeader(final String header) {
+        final List<String> columns = Arrays.stream(header.split(",")).map(this::unquote).toList();
+        final int[] columnIndices = new int[CSV_COLUMNS.length];
+        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+            columnIndices[i] = columns.indexOf(CSV_COLUMNS[i]);
+            if (columnIndices[i] < 0) {
+                throw new ResourceInvalidParametersException(String.format("CSV header is missing column %s.", CSV_COLUMNS[i]));
+            }
+        }
+        return columnIndices;
+    }
+
+    private TechnicalChallengeScore parseCsvRow(final String line, final int[] columnIndices) {
+        final String[] values = line.split(",", -1);
+        final TechnicalChallengeScore score = new TechnicalChallengeScore();
+        score.setDeveloperApplicationId(UUID.fromString(unquote(csvValue(values, columnIndices[0]))));
+        score.setProgrammingScore(Double.parseDouble(unquote(csvValue(values, columnIndices[1]))));
+        score.setQuizScore(Double.parseDouble(unquote(csvValue(values, columnIndices[2]))));
+        return score;
+    }
+
+    private TechnicalChallengeScore parseJsonRow(final String line) throws JsonProcessingException {
+        final TechnicalChallengeScore score = objectMapper.readValue(line, TechnicalChallengeScore.class);
+        if (score.getDeveloperApplicationId() == null || score.getProgrammingScore() == null || score.getQuizScore() == null) {
+            throw new IllegalArgumentException("Row must contain developerApplicationId, programmingScore and quizScore.");
+        }
+        return score;
+    }
+
+    private String csvValue(final String[] values, final int index) {
+        if (index >= values.length) {
+            throw new IllegalArgumentException(String.format("Row has %d columns, expected at least %d.", values.length, index + 1));
+        }
+        return values[index];
+    }
+
+    private String unquote(final String value) {
+        final String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private record ParsedScore(long rowNumber, TechnicalChallengeScore score) {
+    }
+}
@@ -12,20 +12,19 @@ import prompt.ls1.model.Student;
 import prompt.ls1.model.ThesisAdvisor;
 import prompt.ls1.model.ThesisApplication;
 import prompt.ls1.model.enums.ApplicationStatus;
-import prompt.ls1.repository.StudentRepository;
 import prompt.ls1.repository.ThesisAdvisorRepository;
 import prompt.ls1.repository.ThesisApplicationRepository;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class ThesisApplicationService {
     private final ThesisApplicationRepository thesisApplicationRepository;
-    private final StudentRepository studentRepository;
+    private final StudentResolutionService studentResolutionService;
     private final ThesisAdvisorRepository thesisAdvisorRepository;
     private final FileSystemStorageService storageService;
     private final MailingService mailingService;
@@ -33,21 +32,21 @@ public class ThesisApplicationService {
 
     @Autowired
     public ThesisApplicationService(final ThesisApplicationRepository thesisApplicationRepository,
-                                    final StudentRepository studentRepository,
+                                    final StudentResolutionService studentResolutionService,
                                     final ThesisAdvisorRepository thesisAdvisorRepository,
                                     final FileSystemStorageService storageService,
                                     final MailingService mailingService,
                                     @Value("${prompt.storage.theses-application-uploads-location}") String thesesApplicationsUploadsLocation) {
         this.thesisApplicationRepository = thesisApplicationRepository;
-        this.studentRepository = studentRepository;
+        this.studentResolutionService = studentResolutionService;
         this.thesisAdvisorRepository = thesisAdvisorRepository;
         this.storageService = storageService;
         this.mailingService = mailingService;
         this.rootLocation = Paths.get(thesesApplicationsUploadsLocation);
     }
 
-    public List<ThesisApplication> getAll() {
-        return thesisApplicationRepository.findAll();
+    public Stream<ThesisApplication> streamAll() {
+        return thesisApplicationRepository.streamAll();
     }
 
     public List<ThesisApplication> getAllNotAssessed() {
@@ -79,13 +78,7 @@ public class ThesisApplicationService {
             throw new IllegalArgumentException(
                     "Student identification information must be provided: tum ID, matriculation number or email address.");
         }
-        Optional<Student> existingStudent = findStudent(student.getTumId(), student.getMatriculationNumber(), student.getEmail());
-
-        if (existingStudent.isEmpty()) {
-            studentRepository.save(student);
-        } else {
-            thesisApplication.setStudent(checkAndUpdateStudent(existingStudent.get(), thesisApplication.getStudent()));
-        }
+        thesisApplication.setStudent(studentResolutionService.resolve(student));
 
         final String examinationReportFilename = storageService.store(rootLocation, transcriptOfRecords);
         thesisApplication.setExaminationReportFilename(examinationReportFilename);
@@ -172,25 +165,4 @@ public class ThesisApplicationService {
                 .orElseThrow(() -> new ResourceInvalidParametersException(
                         String.format("Thesis application with id %s not found.", thesisApplicationId)));
     }
-
-    private Optional<Student> findStudent(final String tumId, final String matriculationNumber, final String email) {
-        if ((tumId != null && !tumId.isBlank()) || (matriculationNumber != null && !matriculationNumber.isBlank())) {
-            return studentRepository.findByTumIdOrMatriculationNumber(tumId, matriculationNumber);
-        }
-        return studentRepository.findByEmail(email);
-    }
-
-    private Student checkAndUpdateStudent(final Student existingStudent, final Student updatedStudent) {
-        if (((existingStudent.getTumId() != null && !existingStudent.getTumId().isBlank()) && !existingStudent.getTumId().equals(updatedStudent.getTumId())) ||
-                (existingStudent.getMatriculationNumber() != null && !existingStudent.getMatriculationNumber().isBlank()) && !existingStudent.getMatriculationNumber().equals(updatedStudent.getMatriculationNumber())) {
-            throw new ResourceInvalidParametersException("Provided TUM ID does not match with the matriculation number you submitted. " +
-                    "If You are sure the data is entered correct, please contact the Program Management.");
-        }
-        existingStudent.setGender(updatedStudent.getGender());
-        existingStudent.setFirstName(updatedStudent.getFirstName());
-        existingStudent.setLastName(updatedStudent.getLastName());
-        existingStudent.setEmail(updatedStudent.getEmail());
-
-        return studentRepository.save(existingStudent);
-    }
 }
@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+CREATE INDEX idx_developer_application_course_iteration_assessment
+    ON developer_application (course_iteration_id, application_assessment_id);
+CREATE INDEX idx_developer_application_student ON developer_application (student_id);
+CREATE INDEX idx_developer_application_project_team ON developer_application (project_team_id);
+
+CREATE INDEX idx_coach_application_course_iteration_assessment
+    ON coach_application (course_iteration_id, application_assessment_id);
+CREATE INDEX idx_coach_application_student ON coach_application (student_id);
+CREATE INDEX idx_coach_application_project_team ON coach_application (project_team_id);
+
+CREATE INDEX idx_tutor_application_course_iteration_assessment
+    ON tutor_application (course_iteration_id, application_assessment_id);
+CREATE INDEX idx_tutor_application_student ON tutor_application (student_id);
+
+CREATE INDEX idx_application_assessment_status ON application_assessment (status, id);
@@ -0,0 +1,22 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+CREATE TEMPORARY TABLE duplicate_intro_course_participation AS
+SELECT id
+FROM (SELECT id,
+             row_number() OVER (PARTITION BY course_iteration_id, student_id
+                                ORDER BY (passed IS NOT NULL) DESC, (seat IS NOT NULL) DESC, id) AS rank
+      FROM intro_course_participation) ranked
+WHERE ranked.rank > 1;
+
+DELETE FROM intro_course_participation_absence
+    WHERE intro_course_participation_id IN (SELECT id FROM duplicate_intro_course_participation);
+
+DELETE FROM intro_course_participation
+    WHERE id IN (SELECT id FROM duplicate_intro_course_participation);
+
+DROP TABLE duplicate_intro_course_participation;
+
+ALTER TABLE intro_course_participation
+    ADD CONSTRAINT uq_intro_course_participation_course_iteration_student UNIQUE (course_iteration_id, student_id);
@@ -0,0 +1,21 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+CREATE TYPE mail_outbox_status AS ENUM ('PENDING', 'SENT', 'FAILED');
+CREATE CAST (varchar AS mail_outbox_status) WITH INOUT AS IMPLICIT;
+
+CREATE TABLE mail_outbox_entry (
+    id uuid NOT NULL PRIMARY KEY,
+    recipients varchar(1000) NOT NULL,
+    subject varchar(255) NOT NULL,
+    content text NOT NULL,
+    status mail_outbox_status NOT NULL DEFAULT 'PENDING',
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP,
+    sent_at TIMESTAMP,
+    last_error varchar(1000)
+);
+
+CREATE INDEX idx_mail_outbox_entry_status_next_attempt ON mail_outbox_entry (status, next_attempt_at);
@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+CREATE TABLE rate_limit_bucket (
+    bucket_key varchar(255) NOT NULL PRIMARY KEY,
+    tokens double precision NOT NULL,
+    refilled_at TIMESTAMP NOT NULL,
+    allowed boolean NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_bucket_refilled_at ON rate_limit_bucket (refilled_at);
@@ -0,0 +1,21 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+ALTER TABLE developer_application
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        to_tsvector('english', coalesce(experience, '') || ' ' || coalesce(motivation, ''))
+    ) STORED;
+CREATE INDEX idx_developer_application_search_vector ON developer_application USING GIN (search_vector);
+
+ALTER TABLE coach_application
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        to_tsvector('english', coalesce(experience, '') || ' ' || coalesce(motivation, '') || ' ' || coalesce(solved_problem, ''))
+    ) STORED;
+CREATE INDEX idx_coach_application_search_vector ON coach_application USING GIN (search_vector);
+
+ALTER TABLE tutor_application
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        to_tsvector('english', coalesce(experience, '') || ' ' || coalesce(motivation, '') || ' ' || coalesce(reason_good_tutor, ''))
+    ) STORED;
+CREATE INDEX idx_tutor_application_search_vector ON tutor_application USING GIN (search_vector);
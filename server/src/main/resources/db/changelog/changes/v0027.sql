@@ -0,0 +1,14 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+CREATE TABLE application_statistics_counter
+(
+    course_iteration_id UUID        NOT NULL,
+    application_type    VARCHAR(16) NOT NULL,
+    dimension           VARCHAR(32) NOT NULL,
+    dimension_value     VARCHAR(64) NOT NULL,
+    count               BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_application_statistics_counter
+        PRIMARY KEY (course_iteration_id, application_type, dimension, dimension_value)
+);
@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+ALTER TABLE application_assessment ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE developer_application ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE coach_application ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tutor_application ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE course_iteration ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE intro_course_participation ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE project_team ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
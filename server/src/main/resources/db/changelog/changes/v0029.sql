@@ -0,0 +1,129 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria splitStatements:false
+
+ALTER TABLE student DROP CONSTRAINT IF EXISTS uk_fe0i52si7ybu0wjedj6motiim;
+ALTER TABLE student DROP CONSTRAINT IF EXISTS ukfe0i52si7ybu0wjedj6motiim;
+
+UPDATE student SET tum_id = NULLIF(trim(tum_id), ''), matriculation_number = NULLIF(trim(matriculation_number), ''), email = NULLIF(trim(email), '');
+
+-- Students that share a TUM ID, matriculation number or email address (ignoring case) are the same person
+CREATE TEMPORARY TABLE student_duplicate_edge AS
+SELECT a.id AS student_id, b.id AS duplicate_id
+FROM student a JOIN student b ON lower(a.tum_id) = lower(b.tum_id) AND a.id <> b.id
+UNION
+SELECT a.id, b.id
+FROM student a JOIN student b ON a.matriculation_number = b.matriculation_number AND a.id <> b.id
+UNION
+SELECT a.id, b.id
+FROM student a JOIN student b ON lower(a.email) = lower(b.email) AND a.id <> b.id;
+
+-- Every student of a group of duplicates is merged into the same surviving student
+CREATE TEMPORARY TABLE student_merge AS
+WITH RECURSIVE student_group (student_id, member_id) AS (
+    SELECT student_id, student_id FROM student_duplicate_edge
+    UNION
+    SELECT g.student_id, e.duplicate_id
+    FROM student_group g JOIN student_duplicate_edge e ON e.student_id = g.member_id
+), ranked AS (
+    SELECT g.student_id AS duplicate_id,
+           first_value(s.id) OVER (PARTITION BY g.student_id
+                                   ORDER BY (s.tum_id IS NOT NULL) DESC, (s.matriculation_number IS NOT NULL) DESC,
+                                            (s.development_profile_id IS NOT NULL) DESC, s.id) AS survivor_id
+    FROM student_group g JOIN student s ON s.id = g.member_id
+)
+SELECT DISTINCT duplicate_id, survivor_id FROM ranked WHERE duplicate_id <> survivor_id;
+
+CREATE TEMPORARY TABLE student_group_member AS
+SELECT survivor_id, duplicate_id AS member_id FROM student_merge
+UNION
+SELECT survivor_id, survivor_id FROM student_merge;
+
+-- Merging is only safe if the group agrees on its identifiers and applied at most once per course iteration,
+-- everything else has to be resolved by hand before migrating
+DO $$
+DECLARE
+    contradicting text;
+    duplicate_applications text;
+BEGIN
+    SELECT string_agg(survivor_id::text, ', ') INTO contradicting
+    FROM (SELECT g.survivor_id
+          FROM student_group_member g JOIN student s ON s.id = g.member_id
+          GROUP BY g.survivor_id
+          HAVING count(DISTINCT lower(s.tum_id)) > 1 OR count(DISTINCT s.matriculation_number) > 1) conflicts;
+    IF contradicting IS NOT NULL THEN
+        RAISE EXCEPTION 'Duplicates of students % carry contradicting TUM IDs or matriculation numbers', contradicting;
+    END IF;
+
+    SELECT string_agg(DISTINCT survivor_id::text, ', ') INTO duplicate_applications
+    FROM (SELECT g.survivor_id FROM student_group_member g JOIN developer_application a ON a.student_id = g.member_id
+          GROUP BY g.survivor_id, a.course_iteration_id HAVING count(*) > 1
+          UNION ALL
+          SELECT g.survivor_id FROM student_group_member g JOIN coach_application a ON a.student_id = g.member_id
+          GROUP BY g.survivor_id, a.course_iteration_id HAVING count(*) > 1
+          UNION ALL
+          SELECT g.survivor_id FROM student_group_member g JOIN tutor_application a ON a.student_id = g.member_id
+          GROUP BY g.survivor_id, a.course_iteration_id HAVING count(*) > 1) conflicts;
+    IF duplicate_applications IS NOT NULL THEN
+        RAISE EXCEPTION 'Duplicates of students % applied more than once to the same course iteration', duplicate_applications;
+    END IF;
+END;
+$$;
+
+-- Only one development profile per group is kept, the others are deleted together with the duplicates
+CREATE TEMPORARY TABLE merged_development_profile AS
+SELECT s.development_profile_id AS id
+FROM student_group_member g JOIN student s ON s.id = g.member_id
+WHERE s.development_profile_id IS NOT NULL;
+
+UPDATE student s
+SET tum_id = coalesce(s.tum_id, d.tum_id),
+    matriculation_number = coalesce(s.matriculation_number, d.matriculation_number),
+    development_profile_id = coalesce(s.development_profile_id, d.development_profile_id)
+FROM (SELECT m.survivor_id,
+             (array_agg(d.tum_id) FILTER (WHERE d.tum_id IS NOT NULL))[1] AS tum_id,
+             (array_agg(d.matriculation_number) FILTER (WHERE d.matriculation_number IS NOT NULL))[1] AS matriculation_number,
+             (array_agg(d.development_profile_id) FILTER (WHERE d.development_profile_id IS NOT NULL))[1] AS development_profile_id
+      FROM student_merge m JOIN student d ON d.id = m.duplicate_id
+      GROUP BY m.survivor_id) d
+WHERE s.id = d.survivor_id;
+
+UPDATE developer_application a SET student_id = m.survivor_id FROM student_merge m WHERE a.student_id = m.duplicate_id;
+UPDATE coach_application a SET student_id = m.survivor_id FROM student_merge m WHERE a.student_id = m.duplicate_id;
+UPDATE tutor_application a SET student_id = m.survivor_id FROM student_merge m WHERE a.student_id = m.duplicate_id;
+UPDATE thesis_application a SET student_id = m.survivor_id FROM student_merge m WHERE a.student_id = m.duplicate_id;
+
+-- A student takes part in the intro course of an iteration only once, keep the participation of the survivor
+CREATE TEMPORARY TABLE duplicate_intro_course_participation AS
+SELECT id
+FROM (SELECT p.id,
+             row_number() OVER (PARTITION BY p.course_iteration_id, coalesce(m.survivor_id, p.student_id)
+                                ORDER BY (m.duplicate_id IS NULL) DESC, (p.passed IS NOT NULL) DESC, (p.seat IS NOT NULL) DESC, p.id) AS rank
+      FROM intro_course_participation p LEFT JOIN student_merge m ON m.duplicate_id = p.student_id) ranked
+WHERE ranked.rank > 1;
+
+DELETE FROM intro_course_participation_absence
+    WHERE intro_course_participation_id IN (SELECT id FROM duplicate_intro_course_participation);
+
+DELETE FROM intro_course_participation
+    WHERE id IN (SELECT id FROM duplicate_intro_course_participation);
+
+UPDATE intro_course_participation p SET student_id = m.survivor_id FROM student_merge m WHERE p.student_id = m.duplicate_id;
+
+DELETE FROM student WHERE id IN (SELECT duplicate_id FROM student_merge);
+
+DELETE FROM development_profile
+    WHERE id IN (SELECT id FROM merged_development_profile)
+      AND id NOT IN (SELECT development_profile_id FROM student WHERE development_profile_id IS NOT NULL);
+
+DROP TABLE merged_development_profile;
+DROP TABLE duplicate_intro_course_participation;
+DROP TABLE student_group_member;
+DROP TABLE student_merge;
+DROP TABLE student_duplicate_edge;
+
+UPDATE student SET tum_id = lower(tum_id), email = lower(email);
+
+CREATE UNIQUE INDEX student_email_key ON student (lower(email));
+CREATE UNIQUE INDEX student_tum_id_key ON student (lower(tum_id));
+CREATE UNIQUE INDEX student_matriculation_number_key ON student (matriculation_number);
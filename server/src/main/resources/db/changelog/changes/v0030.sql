@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+ALTER TABLE instructor_comment ADD COLUMN assessment_id UUID;
+
+UPDATE instructor_comment c
+SET assessment_id = aic.application_assessment_id
+FROM application_assessment_instructor_comments aic
+WHERE aic.instructor_comments_id = c.id;
+
+ALTER TABLE instructor_comment
+    ADD CONSTRAINT fk_instructor_comment_assessment FOREIGN KEY (assessment_id) REFERENCES application_assessment (id) ON DELETE CASCADE;
+
+DROP TABLE application_assessment_instructor_comments;
+
+CREATE INDEX idx_instructor_comment_assessment_timestamp ON instructor_comment (assessment_id, timestamp);
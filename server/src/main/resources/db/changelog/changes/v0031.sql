@@ -0,0 +1,34 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+ALTER TABLE developer_application
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT now(),
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE coach_application
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT now(),
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE tutor_application
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT now(),
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE application_assessment
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT now(),
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE intro_course_participation
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT now(),
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+
+CREATE INDEX idx_developer_application_course_iteration_updated_at ON developer_application (course_iteration_id, updated_at);
+CREATE INDEX idx_coach_application_course_iteration_updated_at ON coach_application (course_iteration_id, updated_at);
+CREATE INDEX idx_tutor_application_course_iteration_updated_at ON tutor_application (course_iteration_id, updated_at);
+CREATE INDEX idx_application_assessment_updated_at ON application_assessment (updated_at);
+CREATE INDEX idx_intro_course_participation_course_iteration_updated_at ON intro_course_participation (course_iteration_id, updated_at);
+
+CREATE TABLE tombstone (
+    entity_id UUID PRIMARY KEY,
+    entity_type VARCHAR(50) NOT NULL,
+    course_iteration_id UUID NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_tombstone_course_iteration_entity_type_deleted_at ON tombstone (course_iteration_id, entity_type, deleted_at);
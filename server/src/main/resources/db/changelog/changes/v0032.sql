@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+CREATE TYPE mail_campaign_type AS ENUM ('KICKOFF_SUBMISSION_INVITATION', 'TECHNICAL_DETAILS_SUBMISSION_INVITATION');
+CREATE CAST (varchar AS mail_campaign_type) WITH INOUT AS IMPLICIT;
+
+CREATE TABLE mail_campaign (
+    id uuid NOT NULL PRIMARY KEY,
+    type mail_campaign_type NOT NULL,
+    course_iteration_id uuid NOT NULL REFERENCES course_iteration (id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    CONSTRAINT uq_mail_campaign_type_course_iteration UNIQUE (type, course_iteration_id)
+);
+
+ALTER TABLE mail_outbox_entry ADD COLUMN campaign_id uuid REFERENCES mail_campaign (id) ON DELETE CASCADE;
+ALTER TABLE mail_outbox_entry ADD COLUMN campaign_recipient_id uuid;
+
+CREATE UNIQUE INDEX idx_mail_outbox_entry_campaign_recipient ON mail_outbox_entry (campaign_id, campaign_recipient_id);
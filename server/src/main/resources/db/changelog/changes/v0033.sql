@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+ALTER TABLE student ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE development_profile ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
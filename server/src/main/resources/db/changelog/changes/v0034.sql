@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria splitStatements:false
+
+-- Listings are synced by the updated_at of the application, so changing an assessment has to touch its application
+CREATE FUNCTION touch_application_of_assessment() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE developer_application SET updated_at = localtimestamp WHERE application_assessment_id = NEW.id;
+    UPDATE coach_application SET updated_at = localtimestamp WHERE application_assessment_id = NEW.id;
+    UPDATE tutor_application SET updated_at = localtimestamp WHERE application_assessment_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER application_assessment_touch_application
+    AFTER UPDATE ON application_assessment
+    FOR EACH ROW EXECUTE FUNCTION touch_application_of_assessment();
+
+DROP INDEX idx_application_assessment_updated_at;
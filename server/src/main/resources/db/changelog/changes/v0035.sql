@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria
+
+CREATE TABLE idempotency_key (
+    idempotency_key varchar(512) NOT NULL PRIMARY KEY,
+    request_hash varchar(64) NOT NULL,
+    status integer,
+    content_type varchar(255),
+    location varchar(2048),
+    etag varchar(255),
+    body bytea,
+    claimed_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset author:airelawaleria splitStatements:false
+
+-- Listings embed the student of an application, so changing a student has to touch its applications
+CREATE FUNCTION touch_application_of_student() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE developer_application SET updated_at = localtimestamp WHERE student_id = NEW.id;
+    UPDATE coach_application SET updated_at = localtimestamp WHERE student_id = NEW.id;
+    UPDATE tutor_application SET updated_at = localtimestamp WHERE student_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER student_touch_application
+    AFTER UPDATE ON student
+    FOR EACH ROW EXECUTE FUNCTION touch_application_of_student();